@@ -0,0 +1,20 @@
+#!/bin/sh
+# Starts the service from the fast-startup build (mvn -Pfast-startup package): the extracted
+# jar, its AOT-generated context and the class-data-sharing archive recorded for it.
+# Arguments are passed on to the application, JAVA_OPTS to the JVM.
+#
+# The AOT context fixes the bean set for the profiles and properties it was built with
+# (aot.profiles, the production profile unless overridden, and a JWK set URI decoder), so
+# spring.security.oauth2.resourceserver.jwt.jwk-set-uri must be set here. Set PSA_AOT=false
+# to keep the archive but evaluate the context at startup, for example to switch a backend
+# or add a replica without rebuilding.
+set -eu
+
+dir="${PSA_FAST_STARTUP_DIR:-$(dirname "$0")/../target/fast-startup}"
+cd "$dir"
+jar=$(ls psa_api-*.jar | head -n 1)
+
+# -Xshare:auto falls back to a normal start if the archive does not match this JVM or jar
+exec java -XX:SharedArchiveFile=psa_api.jsa -Xshare:auto \
+    -Dspring.aot.enabled="${PSA_AOT:-true}" \
+    ${JAVA_OPTS:-} -jar "$jar" "$@"
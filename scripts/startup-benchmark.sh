@@ -0,0 +1,65 @@
+#!/bin/sh
+# Measures time to first response: from launching the JVM until GET /actuator/health answers.
+# Each mode is started RUNS times (default 5) and the median and worst times are printed.
+#
+#   jar       the executable jar as built by mvn package
+#   extracted the jar extracted into target/fast-startup
+#   cds       extracted, with the class-data-sharing archive
+#   cds-aot   extracted, with the archive and the AOT-generated context
+#
+# Build with mvn -Pfast-startup package first. The service needs its usual environment
+# (database, profile); arguments after the run count are passed to every start.
+#
+#   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/psa scripts/startup-benchmark.sh 10
+set -eu
+
+runs="${1:-5}"
+[ $# -gt 0 ] && shift
+root="$(cd "$(dirname "$0")/.." && pwd)"
+port="${PSA_BENCHMARK_PORT:-18080}"
+modes="${PSA_BENCHMARK_MODES:-jar extracted cds cds-aot}"
+fat_jar=$(ls "$root"/target/psa_api-*.jar | grep -v '\.original$' | head -n 1)
+dir="$root/target/fast-startup"
+thin_jar="$dir/$(basename "$fat_jar")"
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    mode="$1"
+    shift
+    began=$(now_ms)
+    case "$mode" in
+        jar) java -jar "$fat_jar" --server.port="$port" "$@" ;;
+        extracted) java -jar "$thin_jar" --server.port="$port" "$@" ;;
+        cds) java -XX:SharedArchiveFile="$dir/psa_api.jsa" -jar "$thin_jar" --server.port="$port" "$@" ;;
+        cds-aot) java -XX:SharedArchiveFile="$dir/psa_api.jsa" -Dspring.aot.enabled=true \
+            -jar "$thin_jar" --server.port="$port" "$@" ;;
+    esac >/dev/null 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$port/actuator/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$mode: the service exited before answering" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - began ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed"
+}
+
+for mode in $modes; do
+    times=""
+    i=0
+    while [ "$i" -lt "$runs" ]; do
+        times="$times $(cd "$dir" && measure "$mode" "$@")"
+        i=$((i + 1))
+    done
+    sorted=$(echo "$times" | tr ' ' '\n' | grep -v '^$' | sort -n)
+    median=$(echo "$sorted" | sed -n "$(( (runs + 1) / 2 ))p")
+    worst=$(echo "$sorted" | tail -n 1)
+    printf '%-10s median %6d ms   worst %6d ms   (%s runs)\n' "$mode" "$median" "$worst" "$runs"
+done
@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.AddressEntity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -35,5 +36,15 @@ public final class AddressApplicationDTO {
             String complement,
             String neighborhood,
             int cityId
-    ) {}
+    ) {
+        public static Response from(AddressEntity address) {
+            return new Response(
+                    address.getId(),
+                    address.getStreet(),
+                    address.getNumber(),
+                    address.getComplement(),
+                    address.getNeighborhood(),
+                    address.getCity().getId());
+        }
+    }
 }
\ No newline at end of file
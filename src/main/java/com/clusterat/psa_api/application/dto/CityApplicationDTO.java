@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.CityEntity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -30,5 +31,14 @@ public final class CityApplicationDTO {
             String shortName,
             String ibgeCode,
             int stateId
-    ) {}
+    ) {
+        public static Response from(CityEntity city) {
+            return new Response(
+                    city.getId(),
+                    city.getName(),
+                    city.getShortName(),
+                    city.getIbgeCode(),
+                    city.getState().getId());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.CountryEntity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -26,5 +27,13 @@ public final class CountryApplicationDTO {
             String name,
             String shortName,
             String isoCode
-    ) {}
+    ) {
+        public static Response from(CountryEntity country) {
+            return new Response(
+                    country.getId(),
+                    country.getName(),
+                    country.getShortName(),
+                    country.getIsoCode());
+        }
+    }
 }
\ No newline at end of file
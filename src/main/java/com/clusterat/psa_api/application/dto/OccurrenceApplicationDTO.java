@@ -1,6 +1,8 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
 import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -108,6 +110,34 @@ public final class OccurrenceApplicationDTO {
                 description = "ID of the user who created/reported the occurrence",
                 example = "123"
             )
-            int userId
-    ) {}
+            int userId,
+
+            @Schema(
+                description = "ID of a recent occurrence this one was reported as a likely duplicate of",
+                example = "42",
+                nullable = true
+            )
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            Integer duplicateOf
+    ) {
+        public Response(int id, String name, String description, Date dateStart, Date dateEnd, Date dateUpdate,
+                        boolean active, Intensity intensity, int addressId, int userId) {
+            this(id, name, description, dateStart, dateEnd, dateUpdate, active, intensity, addressId, userId, null);
+        }
+
+        public static Response from(OccurrenceEntity occurrence) {
+            return new Response(
+                    occurrence.getId(),
+                    occurrence.getName(),
+                    occurrence.getDescription(),
+                    occurrence.getDateStart(),
+                    occurrence.getDateEnd(),
+                    occurrence.getDateUpdate(),
+                    occurrence.isActive(),
+                    occurrence.getIntensity(),
+                    occurrence.getAddress().getId(),
+                    occurrence.getUser().getId(),
+                    occurrence.getDuplicateOfId());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.PoliceDepartmentEntity;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -60,5 +61,20 @@ public final class PoliceDepartmentApplicationDTO {
             String latitude,
             String longitude,
             int addressId
-    ) {}
+    ) {
+        public static Response from(PoliceDepartmentEntity policeDepartment) {
+            return new Response(
+                    policeDepartment.getId(),
+                    policeDepartment.getOverpassId(),
+                    policeDepartment.getName(),
+                    policeDepartment.getShortName(),
+                    policeDepartment.getOperator(),
+                    policeDepartment.getOwnership(),
+                    policeDepartment.getPhone(),
+                    policeDepartment.getEmail(),
+                    policeDepartment.getLatitude(),
+                    policeDepartment.getLongitude(),
+                    policeDepartment.getAddress().getId());
+        }
+    }
 }
\ No newline at end of file
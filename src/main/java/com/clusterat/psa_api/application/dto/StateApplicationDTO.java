@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.StateEntity;
 import com.clusterat.psa_api.domain.value_objects.Region;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -35,5 +36,15 @@ public final class StateApplicationDTO {
             Region region,
             String ibgeCode,
             int countryId
-    ) {}
+    ) {
+        public static Response from(StateEntity state) {
+            return new Response(
+                    state.getId(),
+                    state.getName(),
+                    state.getShortName(),
+                    state.getRegion(),
+                    state.getIbgeCode(),
+                    state.getCountry().getId());
+        }
+    }
 }
\ No newline at end of file
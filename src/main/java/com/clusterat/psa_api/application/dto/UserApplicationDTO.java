@@ -1,5 +1,6 @@
 package com.clusterat.psa_api.application.dto;
 
+import com.clusterat.psa_api.domain.entities.UserEntity;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -28,5 +29,11 @@ public final class UserApplicationDTO {
                 example = "12345"
             )
             int cognitoId
-    ) {}
+    ) {
+        public static Response from(UserEntity user) {
+            return new Response(
+                    user.getId(),
+                    user.getCognitoId());
+        }
+    }
 }
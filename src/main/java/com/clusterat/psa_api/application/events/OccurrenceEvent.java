@@ -0,0 +1,44 @@
+package com.clusterat.psa_api.application.events;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Change to an occurrence, pushed to live subscribers")
+public record OccurrenceEvent(
+        @Schema(description = "Kind of change", example = "CREATED")
+        Type type,
+
+        @Schema(description = "ID of the changed occurrence", example = "1")
+        int occurrenceId,
+
+        @Schema(description = "Occurrence as it was after the change, or as it was when deleted")
+        OccurrenceApplicationDTO.Response occurrence
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        DELETED
+    }
+
+    public static OccurrenceEvent created(OccurrenceEntity occurrence) {
+        return of(Type.CREATED, occurrence);
+    }
+
+    /**
+     * An update that switches an active occurrence off is reported as {@link Type#DEACTIVATED}
+     * so dashboards can drop it without comparing states.
+     */
+    public static OccurrenceEvent updated(OccurrenceEntity occurrence, boolean wasActive) {
+        return of(wasActive && !occurrence.isActive() ? Type.DEACTIVATED : Type.UPDATED, occurrence);
+    }
+
+    public static OccurrenceEvent deleted(OccurrenceEntity occurrence) {
+        return of(Type.DELETED, occurrence);
+    }
+
+    private static OccurrenceEvent of(Type type, OccurrenceEntity occurrence) {
+        return new OccurrenceEvent(type, occurrence.getId(), OccurrenceApplicationDTO.Response.from(occurrence));
+    }
+}
@@ -2,6 +2,7 @@ package com.clusterat.psa_api.application.handlers;
 
 import com.clusterat.psa_api.application.commands.CreateOccurrenceCommand;
 import com.clusterat.psa_api.application.interfaces.IAddressRepository;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceDuplicateDetector;
 import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
 import com.clusterat.psa_api.application.interfaces.IUserRepository;
 import com.clusterat.psa_api.domain.entities.AddressEntity;
@@ -10,23 +11,76 @@ import com.clusterat.psa_api.domain.entities.UserEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 public class CreateOccurrenceCommandHandler {
     private final IOccurrenceRepository occurrenceRepository;
     private final IAddressRepository addressRepository;
     private final IUserRepository userRepository;
+    private final IOccurrenceDuplicateDetector duplicateDetector;
 
     @Autowired
-    public CreateOccurrenceCommandHandler(IOccurrenceRepository occurrenceRepository, IAddressRepository addressRepository, IUserRepository userRepository) {
+    public CreateOccurrenceCommandHandler(IOccurrenceRepository occurrenceRepository, IAddressRepository addressRepository, IUserRepository userRepository, IOccurrenceDuplicateDetector duplicateDetector) {
         this.occurrenceRepository = occurrenceRepository;
         this.addressRepository = addressRepository;
         this.userRepository = userRepository;
+        this.duplicateDetector = duplicateDetector;
     }
 
     public CompletableFuture<OccurrenceEntity> handle(CreateOccurrenceCommand command) {
-        CompletableFuture<AddressEntity> addressFuture = addressRepository.GetByIdAsync(command.addressId())
+        return build(command, addressRepository::GetByIdAsync, userRepository::GetByIdAsync)
+                .thenCompose(occurrenceRepository::AddAsync)
+                .thenApply(this::remember);
+    }
+
+    /**
+     * Creates the occurrences of all valid commands in one transaction. The returned futures
+     * follow the order of {@code commands}; an invalid command fails only its own future,
+     * while a failed commit fails every future of the batch.
+     */
+    public List<CompletableFuture<OccurrenceEntity>> handleAll(List<CreateOccurrenceCommand> commands) {
+        // Commands of one batch usually share a handful of addresses and users; load each once
+        Map<Integer, CompletableFuture<Optional<AddressEntity>>> addresses = new HashMap<>();
+        Map<Integer, CompletableFuture<Optional<UserEntity>>> users = new HashMap<>();
+        List<CompletableFuture<OccurrenceEntity>> built = commands.stream()
+                .map(command -> build(command,
+                        id -> addresses.computeIfAbsent(id, addressRepository::GetByIdAsync),
+                        id -> users.computeIfAbsent(id, userRepository::GetByIdAsync)))
+                .toList();
+
+        CompletableFuture<Map<OccurrenceEntity, OccurrenceEntity>> committed = CompletableFuture
+                .allOf(built.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> built.stream()
+                        .filter(occurrence -> !occurrence.isCompletedExceptionally())
+                        .map(CompletableFuture::join)
+                        .toList())
+                .thenCompose(valid -> (valid.isEmpty()
+                        ? CompletableFuture.completedFuture(List.<OccurrenceEntity>of())
+                        : occurrenceRepository.AddAllAsync(flagRepeatsWithinBatch(valid)))
+                        .thenApply(saved -> {
+                            Map<OccurrenceEntity, OccurrenceEntity> savedByBuilt = new IdentityHashMap<>();
+                            for (int i = 0; i < saved.size(); i++) {
+                                savedByBuilt.put(valid.get(i), remember(saved.get(i)));
+                            }
+                            return savedByBuilt;
+                        }));
+
+        return built.stream()
+                .map(occurrence -> occurrence.thenCombine(committed, (unsaved, savedByBuilt) -> savedByBuilt.get(unsaved)))
+                .toList();
+    }
+
+    private CompletableFuture<OccurrenceEntity> build(CreateOccurrenceCommand command,
+                                                      Function<Integer, CompletableFuture<Optional<AddressEntity>>> addresses,
+                                                      Function<Integer, CompletableFuture<Optional<UserEntity>>> users) {
+        CompletableFuture<AddressEntity> addressFuture = addresses.apply(command.addressId())
                 .thenApply(addressOpt -> {
                     if (addressOpt.isEmpty()) {
                         throw new IllegalArgumentException("Address with ID " + command.addressId() + " not found");
@@ -34,7 +88,7 @@ public class CreateOccurrenceCommandHandler {
                     return addressOpt.get();
                 });
 
-        CompletableFuture<UserEntity> userFuture = userRepository.GetByIdAsync(command.userId())
+        CompletableFuture<UserEntity> userFuture = users.apply(command.userId())
                 .thenApply(userOpt -> {
                     if (userOpt.isEmpty()) {
                         throw new IllegalArgumentException("User with ID " + command.userId() + " not found");
@@ -43,11 +97,11 @@ public class CreateOccurrenceCommandHandler {
                 });
 
         return CompletableFuture.allOf(addressFuture, userFuture)
-                .thenCompose(v -> {
+                .thenApply(v -> {
                     AddressEntity address = addressFuture.join();
                     UserEntity user = userFuture.join();
                     
-                    OccurrenceEntity newOccurrence = OccurrenceEntity.create(
+                    OccurrenceEntity occurrence = OccurrenceEntity.create(
                             command.name(),
                             command.description(),
                             command.dateStart(),
@@ -58,7 +112,25 @@ public class CreateOccurrenceCommandHandler {
                             address,
                             user
                     );
-                    return occurrenceRepository.AddAsync(newOccurrence);
+                    // Repeated reports are still created, flagged so they can be collapsed
+                    duplicateDetector.FindDuplicate(occurrence).ifPresent(occurrence::setDuplicateOfId);
+                    return occurrence;
                 });
     }
+
+    // The window only holds committed occurrences, so reports of one batch are checked against each other too
+    private List<OccurrenceEntity> flagRepeatsWithinBatch(List<OccurrenceEntity> occurrences) {
+        for (int i = 1; i < occurrences.size(); i++) {
+            OccurrenceEntity occurrence = occurrences.get(i);
+            if (occurrence.getDuplicateOfId() == null) {
+                duplicateDetector.FindDuplicateAmong(occurrence, occurrences.subList(0, i)).ifPresent(occurrence::setDuplicateOf);
+            }
+        }
+        return occurrences;
+    }
+
+    private OccurrenceEntity remember(OccurrenceEntity saved) {
+        duplicateDetector.Remember(saved);
+        return saved;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.clusterat.psa_api.application.handlers;
+
+import com.clusterat.psa_api.application.commands.UpdateOccurrenceCommand;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class UpdateOccurrenceCommandHandler {
+    private final IOccurrenceRepository occurrenceRepository;
+
+    @Autowired
+    public UpdateOccurrenceCommandHandler(IOccurrenceRepository occurrenceRepository) {
+        this.occurrenceRepository = occurrenceRepository;
+    }
+
+    public CompletableFuture<OccurrenceEntity> handle(UpdateOccurrenceCommand command) {
+        return handleAll(List.of(command)).get(0);
+    }
+
+    /**
+     * Applies all commands whose occurrence exists and saves them in one transaction. The
+     * returned futures follow the order of {@code commands}; an unknown occurrence fails only
+     * its own future, while a failed commit fails every future of the batch. Commands for the
+     * same occurrence are applied in order, so the last one wins.
+     */
+    public List<CompletableFuture<OccurrenceEntity>> handleAll(List<UpdateOccurrenceCommand> commands) {
+        List<CompletableFuture<OccurrenceEntity>> loaded = commands.stream()
+                .map(command -> occurrenceRepository.GetByIdAsync(command.id())
+                        .thenApply(occurrenceOpt -> occurrenceOpt.orElseThrow(() ->
+                                new IllegalArgumentException("Occurrence with ID " + command.id() + " not found"))))
+                .toList();
+
+        CompletableFuture<Map<OccurrenceEntity, OccurrenceEntity>> committed = CompletableFuture
+                .allOf(loaded.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    List<OccurrenceEntity> changed = new ArrayList<>();
+                    for (int i = 0; i < commands.size(); i++) {
+                        if (!loaded.get(i).isCompletedExceptionally()) {
+                            OccurrenceEntity occurrence = loaded.get(i).join();
+                            apply(commands.get(i), occurrence);
+                            changed.add(occurrence);
+                        }
+                    }
+                    return changed;
+                })
+                .thenCompose(changed -> (changed.isEmpty()
+                        ? CompletableFuture.completedFuture(List.<OccurrenceEntity>of())
+                        : occurrenceRepository.UpdateAllAsync(changed))
+                        .thenApply(saved -> {
+                            Map<OccurrenceEntity, OccurrenceEntity> savedByLoaded = new IdentityHashMap<>();
+                            for (int i = 0; i < saved.size(); i++) {
+                                savedByLoaded.put(changed.get(i), saved.get(i));
+                            }
+                            return savedByLoaded;
+                        }));
+
+        return loaded.stream()
+                .map(occurrence -> occurrence.thenCombine(committed, (unsaved, savedByLoaded) -> savedByLoaded.get(unsaved)))
+                .toList();
+    }
+
+    private static void apply(UpdateOccurrenceCommand command, OccurrenceEntity occurrence) {
+        occurrence.setName(command.name());
+        occurrence.setDescription(command.description());
+        occurrence.setDateStart(command.dateStart());
+        occurrence.setDateEnd(command.dateEnd());
+        occurrence.setDateUpdate(command.dateUpdate());
+        occurrence.setActive(command.active());
+        occurrence.setIntensity(command.intensity());
+    }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface IAddressRepository {
     CompletableFuture<Optional<AddressEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<AddressEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<List<Optional<AddressEntity>>> GetAllAsync();
     CompletableFuture<AddressEntity> AddAsync(AddressEntity address);
     CompletableFuture<AddressEntity> UpdateAsync(AddressEntity address);
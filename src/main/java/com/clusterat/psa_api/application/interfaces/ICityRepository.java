@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface ICityRepository {
     CompletableFuture<Optional<CityEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<CityEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<Optional<CityEntity>> GetByIbgeCodeAsync(String ibgeCode);
     CompletableFuture<List<Optional<CityEntity>>> GetAllAsync();
     CompletableFuture<CityEntity> AddAsync(CityEntity city);
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface ICountryRepository {
     CompletableFuture<Optional<CountryEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<CountryEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<Optional<CountryEntity>> GetByIsoCodeAsync(String isoCode);
     CompletableFuture<List<Optional<CountryEntity>>> GetAllAsync();
     CompletableFuture<CountryEntity> AddAsync(CountryEntity country);
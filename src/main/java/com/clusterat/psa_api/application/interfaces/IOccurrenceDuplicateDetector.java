@@ -0,0 +1,15 @@
+package com.clusterat.psa_api.application.interfaces;
+
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IOccurrenceDuplicateDetector {
+    // Id of a recently created occurrence the given one likely repeats
+    Optional<Integer> FindDuplicate(OccurrenceEntity occurrence);
+    // Which of the occurrences created together with the given one, before it, it likely repeats
+    Optional<OccurrenceEntity> FindDuplicateAmong(OccurrenceEntity occurrence, List<OccurrenceEntity> earlier);
+    // Makes a created occurrence a candidate for later FindDuplicate calls
+    void Remember(OccurrenceEntity occurrence);
+}
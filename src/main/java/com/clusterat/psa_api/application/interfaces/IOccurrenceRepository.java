@@ -2,16 +2,26 @@ package com.clusterat.psa_api.application.interfaces;
 
 import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public interface IOccurrenceRepository {
     CompletableFuture<Optional<OccurrenceEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<OccurrenceEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<List<Optional<OccurrenceEntity>>> GetAllAsync();
     CompletableFuture<List<Optional<OccurrenceEntity>>> GetByActiveAsync(boolean active);
     CompletableFuture<List<Optional<OccurrenceEntity>>> GetByUserIdAsync(int userId);
+    CompletableFuture<List<Optional<OccurrenceEntity>>> GetAllAsync(Set<String> fields);
+    CompletableFuture<List<Optional<OccurrenceEntity>>> GetByActiveAsync(boolean active, Set<String> fields);
+    CompletableFuture<List<Optional<OccurrenceEntity>>> GetByUserIdAsync(int userId, Set<String> fields);
     CompletableFuture<OccurrenceEntity> AddAsync(OccurrenceEntity occurrence);
     CompletableFuture<OccurrenceEntity> UpdateAsync(OccurrenceEntity occurrence);
+    CompletableFuture<List<OccurrenceEntity>> AddAllAsync(List<OccurrenceEntity> occurrences);
+    CompletableFuture<List<OccurrenceEntity>> UpdateAllAsync(List<OccurrenceEntity> occurrences);
     CompletableFuture<OccurrenceEntity> DeleteAsync(int id);
+    CompletableFuture<List<OccurrenceEntity>> GetActiveEndingByAsync(Date until, int limit);
+    CompletableFuture<List<OccurrenceEntity>> ExpireAsync(List<Integer> ids, Date now);
 }
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface IPoliceDepartmentRepository {
     CompletableFuture<Optional<PoliceDepartmentEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<PoliceDepartmentEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<Optional<PoliceDepartmentEntity>> GetByOverpassIdAsync(String overpassId);
     CompletableFuture<List<Optional<PoliceDepartmentEntity>>> GetAllAsync();
     CompletableFuture<PoliceDepartmentEntity> AddAsync(PoliceDepartmentEntity policeDepartment);
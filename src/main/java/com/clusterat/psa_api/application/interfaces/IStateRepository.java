@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface IStateRepository {
     CompletableFuture<Optional<StateEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<StateEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<Optional<StateEntity>> GetByIbgeCodeAsync(String ibgeCode);
     CompletableFuture<List<Optional<StateEntity>>> GetAllAsync();
     CompletableFuture<StateEntity> AddAsync(StateEntity state);
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 
 public interface IUserRepository {
     CompletableFuture<Optional<UserEntity>> GetByIdAsync(int id);
+    CompletableFuture<List<Optional<UserEntity>>> GetByIdsAsync(List<Integer> ids);
     CompletableFuture<Optional<UserEntity>> GetByCognitoIdAsync(int cognitoId);
     CompletableFuture<List<Optional<UserEntity>>> GetAllAsync();
     CompletableFuture<UserEntity> AddAsync(UserEntity user);
@@ -3,7 +3,9 @@ package com.clusterat.psa_api.domain.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 
 @Entity
@@ -31,7 +33,9 @@ public class AddressEntity {
     @Column(nullable = false)
     private String neighborhood;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "city_id", nullable = false)
     private CityEntity city;
 
@@ -3,7 +3,9 @@ package com.clusterat.psa_api.domain.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 
 @Entity
@@ -27,7 +29,9 @@ public class CityEntity {
     @Column(nullable = false)
     private String ibgeCode;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "state_id", nullable = false)
     private StateEntity state;
 
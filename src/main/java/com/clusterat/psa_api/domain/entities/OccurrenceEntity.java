@@ -4,13 +4,18 @@ import com.clusterat.psa_api.domain.value_objects.Intensity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 
 import java.util.Date;
 
 @Entity
-@Table(name = "occurrences")
+@Table(name = "occurrences", indexes = {
+        @Index(name = "idx_occurrences_active_date_end", columnList = "active, date_end"),
+        @Index(name = "idx_occurrences_duplicate_of_id", columnList = "duplicate_of_id")
+})
 @Data
 @NoArgsConstructor
 public class OccurrenceEntity {
@@ -30,6 +35,7 @@ public class OccurrenceEntity {
     @Column(nullable = false)
     private Date dateStart;
 
+    @Column(name = "date_end")
     private Date dateEnd;
     private Date dateUpdate;
 
@@ -41,14 +47,28 @@ public class OccurrenceEntity {
     @Column(nullable = false)
     private Intensity intensity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "address_id", nullable = false)
     private AddressEntity address;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
+    // Recent occurrence this one was reported as a likely duplicate of, if any
+    @Column(name = "duplicate_of_id")
+    private Integer duplicateOfId;
+
+    // Earlier occurrence of the same batch this one repeats; it has no id until it is inserted
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private OccurrenceEntity duplicateOf;
+
     @Contract(pure = true)
     private OccurrenceEntity(String name, String description, Date dateStart, Date dateEnd, Date dateUpdate, boolean active, Intensity intensity, AddressEntity address, UserEntity user) {
         this.name = name;
@@ -62,6 +82,14 @@ public class OccurrenceEntity {
         this.user = user;
     }
 
+    // Ids are generated on insert and a batch is inserted in order, so the earlier one has its id by now
+    @PrePersist
+    void resolveDuplicateOf() {
+        if (duplicateOfId == null && duplicateOf != null && duplicateOf.getId() != 0) {
+            duplicateOfId = duplicateOf.getId();
+        }
+    }
+
     public static @org.jetbrains.annotations.NotNull OccurrenceEntity create(String name, String description, Date dateStart, Date dateEnd, Date dateUpdate, boolean active, Intensity intensity, AddressEntity address, UserEntity user) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Name cannot be null or empty");
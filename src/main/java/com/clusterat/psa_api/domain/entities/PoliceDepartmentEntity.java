@@ -3,7 +3,9 @@ package com.clusterat.psa_api.domain.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 
 @Entity
@@ -51,7 +53,9 @@ public class PoliceDepartmentEntity {
     @Column(nullable = false)
     private String longitude;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "address_id", nullable = false)
     private AddressEntity address;
 
@@ -4,7 +4,9 @@ import com.clusterat.psa_api.domain.value_objects.Region;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 
 @Entity
@@ -32,7 +34,9 @@ public class StateEntity {
     @Column(nullable = false)
     private String ibgeCode;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "country_id", nullable = false)
     private CountryEntity country;
 
@@ -0,0 +1,28 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Versions held by this process only, with an epoch that changes on every start. Suits a
+ * single replica; with more, writes on one are never seen by the others.
+ */
+public class LocalTableVersionStore implements TableVersionStore {
+
+    private final String epoch = TableVersions.newEpoch();
+    private final Map<String, Long> versions = new HashMap<>();
+
+    @Override
+    public synchronized State read() {
+        return new State(epoch, Map.copyOf(versions));
+    }
+
+    @Override
+    public synchronized State bump(Collection<String> tables) {
+        for (String table : tables) {
+            versions.merge(table, 1L, Long::sum);
+        }
+        return read();
+    }
+}
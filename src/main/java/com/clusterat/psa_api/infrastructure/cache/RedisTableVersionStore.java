@@ -0,0 +1,85 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versions shared by all replicas: one Redis counter per table next to an epoch key. The epoch
+ * is created by whichever replica first finds it missing, so counters lost with Redis data
+ * restart under a new epoch and never reproduce an old validator. Every bump is published on
+ * {@link #channel()} in the same script that increments it.
+ */
+public class RedisTableVersionStore implements TableVersionStore {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            return redis.call('MGET', unpack(KEYS))
+            """, List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BUMP = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            for i = 3, #ARGV do
+                redis.call('INCR', ARGV[i])
+            end
+            redis.call('PUBLISH', ARGV[2], ARGV[1])
+            return redis.call('MGET', unpack(KEYS))
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final List<String> keys = new ArrayList<>();
+
+    public RedisTableVersionStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        keys.add(keyPrefix + "epoch");
+        TableVersions.TABLES.forEach(table -> keys.add(versionKey(table)));
+    }
+
+    /**
+     * The channel every bump is announced on.
+     */
+    public String channel() {
+        return keyPrefix + "changes";
+    }
+
+    @Override
+    public State read() {
+        return toState(redisTemplate.execute(READ, keys, TableVersions.newEpoch()));
+    }
+
+    @Override
+    public State bump(Collection<String> tables) {
+        List<String> args = new ArrayList<>();
+        args.add(TableVersions.newEpoch());
+        args.add(channel());
+        tables.forEach(table -> args.add(versionKey(table)));
+        return toState(redisTemplate.execute(BUMP, keys, args.toArray()));
+    }
+
+    private String versionKey(String table) {
+        return keyPrefix + "version:" + table;
+    }
+
+    private static State toState(List<?> values) {
+        if (values == null || values.isEmpty() || values.get(0) == null) {
+            throw new IllegalStateException("Redis returned no table versions");
+        }
+        Map<String, Long> versions = new HashMap<>();
+        for (int i = 0; i < TableVersions.TABLES.size(); i++) {
+            Object value = values.get(i + 1);
+            if (value != null) {
+                versions.put(TableVersions.TABLES.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return new State(values.get(0).toString(), versions);
+    }
+}
@@ -0,0 +1,95 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collapses concurrent loads of the same key into one. A caller arriving while a load for its
+ * key is in flight gets that load's result instead of starting another query. The key is
+ * released as soon as the load completes, so nothing outlives a single round trip and no
+ * invalidation is needed.
+ *
+ * Loaded entities are mutable and some callers modify them before saving, so callers that
+ * joined an existing load receive the result through {@code forWaiter} (a copy) and never
+ * share an instance with anyone else.
+ *
+ * Exposes {@code psa.single_flight.loads} and {@code psa.single_flight.shared} per name, plus
+ * {@code psa.single_flight.collapse_ratio}, the fraction of calls that did not hit the database.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> forWaiter;
+    private final Counter loads;
+    private final Counter shared;
+
+    public SingleFlight(String name, UnaryOperator<V> forWaiter, MeterRegistry meterRegistry) {
+        this.forWaiter = forWaiter;
+        this.loads = Counter.builder("psa.single_flight.loads")
+                .description("Loads that went to the database")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.shared = Counter.builder("psa.single_flight.shared")
+                .description("Calls served by joining a load already in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("psa.single_flight.collapse_ratio", this, SingleFlight::collapseRatio)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            shared.increment();
+            return existing.thenApply(forWaiter);
+        }
+
+        loads.increment();
+        CompletableFuture<V> source;
+        try {
+            source = loader.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((value, error) -> {
+            // Release the key first so that callers arriving from here on start a fresh read
+            inFlight.remove(key, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+            } else {
+                load.complete(value);
+            }
+        });
+        return load.copy();
+    }
+
+    /**
+     * Detaches the load in flight for {@code key}, if any, so that callers arriving after a
+     * write do not join a read that started before it.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private double collapseRatio() {
+        double total = loads.count() + shared.count();
+        return total == 0 ? 0 : shared.count() / total;
+    }
+}
@@ -0,0 +1,28 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Storage for the table versions that {@link TableVersions} mirrors. Calls may block, so they
+ * are made from write completions and refreshes, never from request filters.
+ */
+public interface TableVersionStore {
+
+    /**
+     * Returns the current epoch and versions of every table.
+     */
+    State read();
+
+    /**
+     * Increments the versions of {@code tables}, tells the other replicas, and returns the
+     * state after the increment.
+     */
+    State bump(Collection<String> tables);
+
+    /**
+     * An epoch with the versions it numbers; tables never bumped in it are absent.
+     */
+    record State(String epoch, Map<String, Long> versions) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Version counters per table, bumped by the repository adapters on every write.
+ *
+ * The versions live in a {@link TableVersionStore}; this class keeps a mirror of them so
+ * request filters read them without blocking. A bump updates the mirror at once, and a shared
+ * store tells the other replicas, which {@link #refresh()} theirs; a refresh also runs every
+ * {@code refresh-interval} in case a notification was missed.
+ *
+ * A version is only meaningful together with {@link #epoch()}. When a bump cannot be
+ * published, this replica switches to an epoch of its own until the next successful refresh,
+ * so it never hands out a validator the other replicas could match against different data.
+ */
+public class TableVersions implements SmartLifecycle {
+    public static final String COUNTRIES = "countries";
+    public static final String STATES = "states";
+    public static final String CITIES = "cities";
+    public static final String POLICE_DEPARTMENTS = "police_departments";
+    public static final List<String> TABLES = List.of(COUNTRIES, STATES, CITIES, POLICE_DEPARTMENTS);
+
+    private static final Logger log = LoggerFactory.getLogger(TableVersions.class);
+
+    private final TableVersionStore store;
+    private final Duration refreshInterval;
+    private volatile TableVersionStore.State state = new TableVersionStore.State(newEpoch(), Map.of());
+    private volatile Thread refresher;
+
+    public TableVersions() {
+        this(new LocalTableVersionStore(), null);
+    }
+
+    /**
+     * @param refreshInterval how often to re-read a shared store, or {@code null} when the
+     *                        store is local to this process
+     */
+    public TableVersions(TableVersionStore store, Duration refreshInterval) {
+        this.store = store;
+        this.refreshInterval = refreshInterval;
+        refresh();
+    }
+
+    static String newEpoch() {
+        return Long.toString(System.currentTimeMillis(), 36) + Long.toString(ThreadLocalRandom.current().nextLong(1L << 40), 36);
+    }
+
+    public String epoch() {
+        return state.epoch();
+    }
+
+    public long current(String table) {
+        return state.versions().getOrDefault(table, 0L);
+    }
+
+    public void bump(String table) {
+        bump(List.of(table));
+    }
+
+    public void bumpAll() {
+        bump(TABLES);
+    }
+
+    /**
+     * Bumps {@code table} once {@code write} has finished, whatever its outcome. Bumping on
+     * failure only costs clients a re-download, while a missed bump would serve stale data.
+     */
+    public <T> CompletableFuture<T> bumpAfter(String table, CompletableFuture<T> write) {
+        return write.whenComplete((result, throwable) -> bump(table));
+    }
+
+    /**
+     * Re-reads the store, keeping the mirror as it is when the store cannot be reached.
+     */
+    public void refresh() {
+        try {
+            merge(store.read());
+        } catch (RuntimeException e) {
+            log.warn("Reading table versions failed, keeping epoch {}: {}", state.epoch(), e.getMessage());
+        }
+    }
+
+    private void bump(Collection<String> tables) {
+        try {
+            merge(store.bump(tables));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                state = new TableVersionStore.State(newEpoch(), state.versions());
+            }
+            log.error("Publishing a new version of {} failed, this replica uses epoch {} until the store is back", tables, state.epoch(), e);
+        }
+    }
+
+    /**
+     * Replaces the mirror with {@code next}, except that versions of the same epoch only ever
+     * grow, since replies to concurrent bumps and refreshes can arrive out of order.
+     */
+    private synchronized void merge(TableVersionStore.State next) {
+        if (!next.epoch().equals(state.epoch())) {
+            state = next;
+            return;
+        }
+        Map<String, Long> versions = new HashMap<>(state.versions());
+        next.versions().forEach((table, version) -> versions.merge(table, version, Math::max));
+        state = new TableVersionStore.State(next.epoch(), Map.copyOf(versions));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (refreshInterval == null) {
+            return;
+        }
+        refresher = new Thread(this::run, "table-versions-refresh");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = refresher;
+        refresher = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return refresher != null;
+    }
+
+    private void run() {
+        while (refresher == Thread.currentThread()) {
+            try {
+                Thread.sleep(refreshInterval.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(TableVersionsProperties.class)
+public class TableVersionsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.table-versions.backend", havingValue = "local", matchIfMissing = true)
+    public TableVersions localTableVersions() {
+        return new TableVersions();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.table-versions.backend", havingValue = "redis")
+    public RedisTableVersionStore redisTableVersionStore(StringRedisTemplate redisTemplate, TableVersionsProperties properties) {
+        return new RedisTableVersionStore(redisTemplate, properties.getRedisKeyPrefix());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.table-versions.backend", havingValue = "redis")
+    public TableVersions redisTableVersions(RedisTableVersionStore store, TableVersionsProperties properties) {
+        return new TableVersions(store, properties.getRefreshInterval());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.table-versions.backend", havingValue = "redis")
+    public RedisMessageListenerContainer tableVersionsListener(RedisConnectionFactory connectionFactory,
+                                                               RedisTableVersionStore store,
+                                                               TableVersions tableVersions) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> tableVersions.refresh(), new ChannelTopic(store.channel()));
+        return container;
+    }
+}
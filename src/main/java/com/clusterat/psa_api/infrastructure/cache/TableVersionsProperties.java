@@ -0,0 +1,22 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Where table versions live under {@code psa.table-versions}. With {@code backend=redis}
+ * every replica mirrors the shared versions, refreshed on each published bump and at least
+ * every {@code refresh-interval} in case a notification is missed.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.table-versions")
+public class TableVersionsProperties {
+
+    public enum Backend { LOCAL, REDIS }
+
+    private Backend backend = Backend.LOCAL;
+    private String redisKeyPrefix = "psa:table-versions:";
+    private Duration refreshInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,42 @@
+package com.clusterat.psa_api.infrastructure.config;
+
+import com.clusterat.psa_api.infrastructure.web.CborEncoder;
+import com.clusterat.psa_api.infrastructure.web.Representation;
+import com.clusterat.psa_api.infrastructure.web.RepresentationMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registers CBOR and Smile next to JSON so clients can ask for a binary body with
+ * {@code Accept: application/cbor} or {@code application/x-jackson-smile}. JSON keeps
+ * priority for wildcard and missing {@code Accept} headers.
+ */
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+
+    private final RepresentationMappers representationMappers;
+
+    public CodecConfig(RepresentationMappers representationMappers) {
+        this.representationMappers = representationMappers;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // The mapper-only constructors are varargs and fall back to the JSON media types when none are given
+        ObjectMapper smile = representationMappers.get(Representation.SMILE);
+        ObjectMapper cbor = representationMappers.get(Representation.CBOR);
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile, Representation.SMILE.mediaType()));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, Representation.SMILE.mediaType()));
+        // Custom writers are consulted before the default JSON one, and the first producible type wins for
+        // wildcard Accept headers, so JSON is registered again ahead of CBOR to stay the default
+        configurer.customCodecs().register(new Jackson2JsonEncoder(representationMappers.get(Representation.JSON)));
+        configurer.customCodecs().register(new CborEncoder(cbor));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cbor, Representation.CBOR.mediaType()));
+    }
+}
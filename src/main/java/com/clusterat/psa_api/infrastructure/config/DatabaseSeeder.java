@@ -3,6 +3,7 @@ package com.clusterat.psa_api.infrastructure.config;
 import com.clusterat.psa_api.domain.entities.*;
 import com.clusterat.psa_api.domain.value_objects.Intensity;
 import com.clusterat.psa_api.domain.value_objects.Region;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
 import com.clusterat.psa_api.infrastructure.persistence.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,7 @@ public class DatabaseSeeder {
     private final SpringDataJpaUserRepository userRepository;
     private final SpringDataJpaPoliceDepartmentRepository policeDepartmentRepository;
     private final SpringDataJpaOccurrenceRepository occurrenceRepository;
+    private final TableVersions tableVersions;
 
     public DatabaseSeeder(
             SpringDataJpaCountryRepository countryRepository,
@@ -33,7 +35,8 @@ public class DatabaseSeeder {
             SpringDataJpaAddressRepository addressRepository,
             SpringDataJpaUserRepository userRepository,
             SpringDataJpaPoliceDepartmentRepository policeDepartmentRepository,
-            SpringDataJpaOccurrenceRepository occurrenceRepository) {
+            SpringDataJpaOccurrenceRepository occurrenceRepository,
+            TableVersions tableVersions) {
         this.countryRepository = countryRepository;
         this.stateRepository = stateRepository;
         this.cityRepository = cityRepository;
@@ -41,6 +44,7 @@ public class DatabaseSeeder {
         this.userRepository = userRepository;
         this.policeDepartmentRepository = policeDepartmentRepository;
         this.occurrenceRepository = occurrenceRepository;
+        this.tableVersions = tableVersions;
     }
 
     public void seedData() {
@@ -62,6 +66,9 @@ public class DatabaseSeeder {
             seedPoliceDepartments();
             seedOccurrences();
 
+            // Seeding bypasses the repository adapters, so invalidate validators handed out meanwhile
+            tableVersions.bumpAll();
+
             log.info("Database seeding completed successfully!");
 
         } catch (Exception e) {
@@ -0,0 +1,57 @@
+package com.clusterat.psa_api.infrastructure.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * Verifies bearer tokens against a key set read once from {@code psa.security.jwt.jwks-location}
+ * (for example an exported Cognito user pool JWKS). When the property is absent, Spring Boot's
+ * {@code spring.security.oauth2.resourceserver.jwt.jwk-set-uri} decoder is used instead, which
+ * fetches and caches the remote key set.
+ */
+@Configuration
+@Profile("!dev")
+public class JwtDecoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtDecoderConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.security.jwt.jwks-location")
+    public ReactiveJwtDecoder localJwksJwtDecoder(@Value("${psa.security.jwt.jwks-location}") Resource jwksLocation,
+                                                  @Value("${psa.security.jwt.issuer:}") String issuer) throws IOException, ParseException {
+        JWKSet jwkSet;
+        try (InputStream in = jwksLocation.getInputStream()) {
+            jwkSet = JWKSet.load(in);
+        }
+        List<JWK> keys = jwkSet.getKeys();
+        log.info("Loaded {} JWT verification keys from {}", keys.size(), jwksLocation);
+
+        NimbusReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder
+                .withJwkSource(signedJwt -> Flux.fromIterable(keys))
+                .build();
+        OAuth2TokenValidator<Jwt> validator = issuer.isBlank()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithIssuer(issuer);
+        decoder.setJwtValidator(validator);
+        return decoder;
+    }
+}
@@ -1,13 +1,17 @@
 package com.clusterat.psa_api.infrastructure.config;
 
+import com.clusterat.psa_api.infrastructure.idempotency.IdempotencyFilter;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -32,11 +36,29 @@ public class OpenApiConfig {
                 .servers(List.of(
                         new Server().url("http://localhost:23023").description("Development server")
                 ))
-                .addSecurityItem(new SecurityRequirement().addList("basicAuth"))
+                .addSecurityItem(new SecurityRequirement().addList("bearerAuth"))
                 .components(new Components()
-                        .addSecuritySchemes("basicAuth", new SecurityScheme()
+                        .addSecuritySchemes("bearerAuth", new SecurityScheme()
                                 .type(SecurityScheme.Type.HTTP)
-                                .scheme("basic")
-                                .description("Basic Authentication")));
+                                .scheme("bearer")
+                                .bearerFormat("JWT")
+                                .description("JWT bearer token (Cognito access token, or POST /api/v1/auth/token in dev)")));
     }
-}
\ No newline at end of file
+
+    // IdempotencyFilter handles the header for every POST, outside any endpoint signature
+    @Bean
+    public OpenApiCustomizer idempotencyKeyHeader() {
+        return openApi -> {
+            if (openApi.getPaths() == null) {
+                return;
+            }
+            openApi.getPaths().values().stream()
+                    .filter(path -> path.getPost() != null)
+                    .forEach(path -> path.getPost().addParametersItem(new HeaderParameter()
+                            .name(IdempotencyFilter.HEADER)
+                            .required(false)
+                            .schema(new StringSchema().maxLength(255))
+                            .description("Client-chosen key making the request safe to retry; a repeat with the same key and body replays the first successful response")));
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.clusterat.psa_api.infrastructure.config;
+
+import com.clusterat.psa_api.presentation.OccurrenceIngestSocket;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
+
+@Configuration
+public class WebSocketConfig {
+
+    // Ahead of the annotated controllers, whose /api/v1/occurrences/{id} would claim the path
+    @Bean
+    public HandlerMapping webSocketHandlerMapping(OccurrenceIngestSocket occurrenceIngestSocket) {
+        return new SimpleUrlHandlerMapping(Map.of(OccurrenceIngestSocket.PATH, occurrenceIngestSocket), Ordered.HIGHEST_PRECEDENCE);
+    }
+}
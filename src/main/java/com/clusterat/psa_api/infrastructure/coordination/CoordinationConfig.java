@@ -0,0 +1,24 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(CoordinationProperties.class)
+public class CoordinationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.coordination.backend", havingValue = "local", matchIfMissing = true)
+    public LeaseStore localLeaseStore() {
+        return new LocalLeaseStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.coordination.backend", havingValue = "redis")
+    public LeaseStore redisLeaseStore(StringRedisTemplate redisTemplate, CoordinationProperties properties) {
+        return new RedisLeaseStore(redisTemplate, properties.getRedisKeyPrefix());
+    }
+}
@@ -0,0 +1,25 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Leases and node membership for background jobs under {@code psa.coordination}. A lease or
+ * membership is held for {@code ttl} and renewed every {@code renew-interval}, so a node that
+ * stops renewing is replaced within about a {@code ttl}. {@code node-id} names this replica
+ * and defaults to the host name plus a random suffix.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.coordination")
+public class CoordinationProperties {
+
+    public enum Backend { LOCAL, REDIS }
+
+    private Backend backend = Backend.LOCAL;
+    private String redisKeyPrefix = "psa:coordination:";
+    private String nodeId;
+    private Duration ttl = Duration.ofSeconds(15);
+    private Duration renewInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,187 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which replica runs each background job. A job declares how it runs when it is
+ * created: {@link #leaderOnly} for work one replica should do at a time, or
+ * {@link #partitioned} for work split across every live replica. A single thread renews this
+ * node's leases and group memberships every {@code psa.coordination.renew-interval} and
+ * updates the returned handles, which the jobs check before each round of work.
+ *
+ * A lease or membership that cannot be renewed is given up on this node straight away, so
+ * when the store is unreachable jobs pause rather than run everywhere. The coordinator
+ * starts before and stops after the jobs using it, releasing what it holds on shutdown so
+ * another node takes over without waiting for the ttl.
+ */
+@Component
+public class JobCoordinator implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCoordinator.class);
+
+    private final LeaseStore store;
+    private final CoordinationProperties properties;
+    private final String nodeId;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LeaderLease> leases = new ConcurrentHashMap<>();
+    private final Map<String, WorkPartition> partitions = new ConcurrentHashMap<>();
+    private final Counter failures;
+    private final Counter leadershipChanges;
+    private volatile Thread worker;
+
+    @Autowired
+    public JobCoordinator(LeaseStore store, CoordinationProperties properties, MeterRegistry meterRegistry) {
+        this(store, properties, System::nanoTime, meterRegistry);
+    }
+
+    JobCoordinator(LeaseStore store, CoordinationProperties properties, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? System.getenv().getOrDefault("HOSTNAME", "node") + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : properties.getNodeId();
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        this.failures = meterRegistry.counter("psa.coordination.failures");
+        this.leadershipChanges = meterRegistry.counter("psa.coordination.leadership_changes");
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Returns the lease that lets a job run on one replica at a time, registering it on first use.
+     */
+    public LeaderLease leaderOnly(String job) {
+        return leases.computeIfAbsent(job, name -> {
+            LeaderLease lease = new LeaderLease(name, nanoClock);
+            Gauge.builder("psa.coordination.leader", lease, held -> held.isHeld() ? 1 : 0)
+                    .description("Whether this node holds the lease")
+                    .tag("lease", name)
+                    .register(meterRegistry);
+            return lease;
+        });
+    }
+
+    /**
+     * Returns this node's share of a job split across the live members of {@code group},
+     * joining the group on first use.
+     */
+    public WorkPartition partitioned(String group) {
+        return partitions.computeIfAbsent(group, name -> {
+            WorkPartition partition = new WorkPartition(name, nanoClock);
+            Gauge.builder("psa.coordination.members", partition, WorkPartition::count)
+                    .description("Live members of the group as last seen by this node")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            return partition;
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        worker = new Thread(this::run, "job-coordinator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = worker;
+        worker = null;
+        if (running == null) {
+            return;
+        }
+        running.interrupt();
+        try {
+            running.join(properties.getRenewInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            for (LeaderLease lease : leases.values()) {
+                lease.update(0, nanoClock.getAsLong());
+                store.release(lease.name(), nodeId);
+            }
+            for (WorkPartition partition : partitions.values()) {
+                partition.update(-1, 0, nanoClock.getAsLong());
+                store.leave(partition.group(), nodeId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Releasing leases of node {} failed, they expire after {}: {}", nodeId, properties.getTtl(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    /**
+     * Renews every registered lease and group membership once.
+     */
+    void renew() {
+        long ttlNanos = properties.getTtl().toNanos();
+        for (LeaderLease lease : leases.values()) {
+            long sent = nanoClock.getAsLong();
+            boolean held = lease.isHeld();
+            try {
+                long token = store.acquire(lease.name(), nodeId, properties.getTtl());
+                lease.update(token, sent + ttlNanos);
+                if (token != 0 && !held) {
+                    leadershipChanges.increment();
+                    log.info("Node {} took lease {} with fencing token {}", nodeId, lease.name(), token);
+                } else if (token == 0 && held) {
+                    leadershipChanges.increment();
+                    log.warn("Node {} lost lease {} to another node", nodeId, lease.name());
+                }
+            } catch (RuntimeException e) {
+                lease.update(0, sent);
+                failures.increment();
+                log.warn("Renewing lease {} failed, node {} steps down: {}", lease.name(), nodeId, e.getMessage());
+            }
+        }
+        for (WorkPartition partition : partitions.values()) {
+            long sent = nanoClock.getAsLong();
+            try {
+                List<String> members = store.join(partition.group(), nodeId, properties.getTtl());
+                partition.update(members.indexOf(nodeId), members.size(), sent + ttlNanos);
+            } catch (RuntimeException e) {
+                partition.update(-1, 0, sent);
+                failures.increment();
+                log.warn("Renewing membership of {} failed, node {} owns no work: {}", partition.group(), nodeId, e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            renew();
+            try {
+                Thread.sleep(properties.getRenewInterval().toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
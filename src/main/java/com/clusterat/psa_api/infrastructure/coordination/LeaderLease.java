@@ -0,0 +1,48 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A job's claim to run on one replica only, kept up to date by the {@link JobCoordinator}.
+ *
+ * The lease counts as held until its ttl runs out from when it was last renewed, measured on
+ * this node's clock from before the renewal was sent. A node whose renewals stall therefore
+ * stops leading before the store lets another node take over. Work whose effects outlive that
+ * check, such as writes to another system, should carry {@link #token()} so the receiving
+ * side can refuse a token older than one it has already seen.
+ */
+public final class LeaderLease {
+
+    private record State(long token, long validUntil) {
+    }
+
+    private final String name;
+    private final LongSupplier nanoClock;
+    private volatile State state = new State(0, 0);
+
+    LeaderLease(String name, LongSupplier nanoClock) {
+        this.name = name;
+        this.nanoClock = nanoClock;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isHeld() {
+        State current = state;
+        return current.token() != 0 && nanoClock.getAsLong() - current.validUntil() < 0;
+    }
+
+    /**
+     * The fencing token of the lease, or 0 when this node does not hold it.
+     */
+    public long token() {
+        State current = state;
+        return current.token() != 0 && nanoClock.getAsLong() - current.validUntil() < 0 ? current.token() : 0;
+    }
+
+    void update(long token, long validUntil) {
+        state = new State(token, validUntil);
+    }
+}
@@ -0,0 +1,34 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Storage for named leases and node groups shared by the replicas running background jobs.
+ * Calls block, since they are only made from the {@link JobCoordinator} thread.
+ */
+public interface LeaseStore {
+
+    /**
+     * Takes the lease {@code name} for {@code owner} if it is free, or extends it if
+     * {@code owner} already holds it, for {@code ttl}. Returns the lease's fencing token, which
+     * grows every time the lease changes hands, or 0 when another owner holds it.
+     */
+    long acquire(String name, String owner, Duration ttl);
+
+    /**
+     * Gives the lease up if {@code owner} still holds it.
+     */
+    void release(String name, String owner);
+
+    /**
+     * Records {@code node} as alive in {@code group} for {@code ttl} and returns the live
+     * members of the group, sorted.
+     */
+    List<String> join(String group, String node, Duration ttl);
+
+    /**
+     * Removes {@code node} from {@code group}.
+     */
+    void leave(String group, String node);
+}
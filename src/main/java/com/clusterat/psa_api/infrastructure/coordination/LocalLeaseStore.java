@@ -0,0 +1,72 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory leases and groups for a single replica, where this node always leads and owns
+ * every partition. Expired leases and members are dropped when next looked at.
+ */
+public class LocalLeaseStore implements LeaseStore {
+
+    private record Lease(String owner, long token, long expiresAt) {
+    }
+
+    private final LongSupplier clock;
+    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Long> tokens = new HashMap<>();
+    private final Map<String, Map<String, Long>> groups = new HashMap<>();
+
+    public LocalLeaseStore() {
+        this(System::currentTimeMillis);
+    }
+
+    LocalLeaseStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long acquire(String name, String owner, Duration ttl) {
+        long now = clock.getAsLong();
+        Lease lease = leases.get(name);
+        if (lease != null && lease.expiresAt() > now && !lease.owner().equals(owner)) {
+            return 0;
+        }
+        long token = lease != null && lease.expiresAt() > now
+                ? lease.token()
+                : tokens.merge(name, 1L, Long::sum);
+        leases.put(name, new Lease(owner, token, now + ttl.toMillis()));
+        return token;
+    }
+
+    @Override
+    public synchronized void release(String name, String owner) {
+        Lease lease = leases.get(name);
+        if (lease != null && lease.owner().equals(owner)) {
+            leases.remove(name);
+        }
+    }
+
+    @Override
+    public synchronized List<String> join(String group, String node, Duration ttl) {
+        long now = clock.getAsLong();
+        Map<String, Long> members = groups.computeIfAbsent(group, g -> new HashMap<>());
+        members.put(node, now + ttl.toMillis());
+        members.values().removeIf(expiresAt -> expiresAt <= now);
+        List<String> live = new ArrayList<>(members.keySet());
+        live.sort(null);
+        return live;
+    }
+
+    @Override
+    public synchronized void leave(String group, String node) {
+        Map<String, Long> members = groups.get(group);
+        if (members != null) {
+            members.remove(node);
+        }
+    }
+}
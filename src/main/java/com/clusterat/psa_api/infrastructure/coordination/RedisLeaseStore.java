@@ -0,0 +1,90 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cluster-wide leases and groups. A lease is a Redis hash holding its owner and fencing token,
+ * expiring after its ttl unless renewed. The token comes from a counter kept per lease name,
+ * so each new holder gets a larger token than every holder before it. A group is a sorted set
+ * of node ids scored by when their membership expires, read and pruned in the same script
+ * that renews it. Expiry is judged by the Redis server clock, not the replicas' clocks.
+ *
+ * Errors are left to the caller, which treats them as having lost its leases.
+ */
+public class RedisLeaseStore implements LeaseStore {
+
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of("""
+            local owner = redis.call('HGET', KEYS[1], 'owner')
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return tonumber(redis.call('HGET', KEYS[1], 'token'))
+            end
+            if owner then
+                return 0
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'token', token)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return token
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> JOIN = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return redis.call('ZRANGE', KEYS[1], 0, -1)
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisLeaseStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public long acquire(String name, String owner, Duration ttl) {
+        Long token = redisTemplate.execute(ACQUIRE,
+                List.of(keyPrefix + "lease:" + name, keyPrefix + "token:" + name),
+                owner, Long.toString(ttl.toMillis()));
+        return token == null ? 0 : token;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        redisTemplate.execute(RELEASE, List.of(keyPrefix + "lease:" + name), owner);
+    }
+
+    @Override
+    public List<String> join(String group, String node, Duration ttl) {
+        List<?> members = redisTemplate.execute(JOIN, List.of(keyPrefix + "group:" + group),
+                node, Long.toString(ttl.toMillis()));
+        List<String> live = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> live.add(String.valueOf(member)));
+        }
+        live.sort(null);
+        return live;
+    }
+
+    @Override
+    public void leave(String group, String node) {
+        redisTemplate.opsForZSet().remove(keyPrefix + "group:" + group, node);
+    }
+}
@@ -0,0 +1,61 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import java.util.function.LongSupplier;
+
+/**
+ * This node's share of a job spread across the live members of a group, kept up to date by
+ * the {@link JobCoordinator}. Members are numbered in id order, and a key belongs to the
+ * member whose number equals the key modulo the member count.
+ *
+ * When a node joins or leaves, members pick up the new count at their next renewal, so for
+ * up to a renewal interval a key may be owned twice or not at all. Partitioned work should
+ * therefore be safe to repeat and picked up again on a later pass. A node whose membership
+ * could not be renewed within its ttl owns nothing.
+ */
+public final class WorkPartition {
+
+    private record View(int index, int count, long validUntil) {
+    }
+
+    private final String group;
+    private final LongSupplier nanoClock;
+    private volatile View view = new View(0, 0, 0);
+
+    WorkPartition(String group, LongSupplier nanoClock) {
+        this.group = group;
+        this.nanoClock = nanoClock;
+    }
+
+    public String group() {
+        return group;
+    }
+
+    public boolean owns(long key) {
+        View current = current();
+        return current.count() > 0 && Math.floorMod(key, current.count()) == current.index();
+    }
+
+    /**
+     * This node's number among the live members, or -1 when it owns nothing.
+     */
+    public int index() {
+        View current = current();
+        return current.count() > 0 ? current.index() : -1;
+    }
+
+    /**
+     * The number of live members, or 0 when this node owns nothing.
+     */
+    public int count() {
+        return current().count();
+    }
+
+    private View current() {
+        View current = view;
+        return nanoClock.getAsLong() - current.validUntil() < 0 ? current : new View(0, 0, 0);
+    }
+
+    void update(int index, int count, long validUntil) {
+        view = index < 0 ? new View(0, 0, 0) : new View(index, count, validUntil);
+    }
+}
@@ -0,0 +1,99 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decides which repository reads may run on a replica, and runs everything on the primary
+ * when no replica is configured.
+ *
+ * The repository adapters report every row they write. For a while after that, reads of the
+ * row, and list reads of its table, stay on the primary, so whoever made the write reads it
+ * back. The stickiness is keyed by the data rather than by the caller because reads run off
+ * the request thread and concurrent requests share loads. The window covers
+ * {@code psa.datasource.max-lag} plus a {@code lag-check-interval}, the most a replica still
+ * getting reads can be behind. Writes made through other instances of the service are not
+ * seen here and may take up to that long to show up on a replica.
+ */
+@Component
+public class ReadRouting {
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final RoutingDataSource dataSource;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> tableWrites = new ConcurrentHashMap<>();
+    private final Map<String, Long> rowWrites = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReadRouting(ObjectProvider<RoutingDataSource> dataSource, ObjectProvider<ReplicaProperties> properties) {
+        this(dataSource.getIfAvailable(), properties.getIfAvailable(ReplicaProperties::new), System::currentTimeMillis);
+    }
+
+    ReadRouting(RoutingDataSource dataSource, ReplicaProperties properties, LongSupplier clock) {
+        this.dataSource = dataSource != null && !dataSource.replicas().isEmpty() ? dataSource : null;
+        this.windowMillis = properties.getMaxLag().plus(properties.getLagCheckInterval()).toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Routing that keeps every read on the primary, as when no replica is configured.
+     */
+    public static ReadRouting primaryOnly() {
+        return new ReadRouting(null, new ReplicaProperties(), System::currentTimeMillis);
+    }
+
+    /**
+     * Runs a read over {@code table} as a whole on a replica, unless the table was written to
+     * within the window.
+     */
+    public <T> T onReplica(String table, Supplier<T> read) {
+        if (dataSource == null || isRecent(tableWrites.get(table))) {
+            return read.get();
+        }
+        return dataSource.readFromReplica(read);
+    }
+
+    /**
+     * Runs a read of the rows {@code ids} of {@code table} on a replica, unless one of them
+     * was written to within the window.
+     */
+    public <T> T onReplica(String table, Collection<Integer> ids, Supplier<T> read) {
+        if (dataSource == null) {
+            return read.get();
+        }
+        for (Integer id : ids) {
+            if (isRecent(rowWrites.get(table + ":" + id))) {
+                return read.get();
+            }
+        }
+        return dataSource.readFromReplica(read);
+    }
+
+    /**
+     * Records a write to row {@code id} of {@code table}.
+     */
+    public void written(String table, int id) {
+        if (dataSource == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        tableWrites.put(table, now);
+        rowWrites.put(table + ":" + id, now);
+        if (rowWrites.size() > SWEEP_THRESHOLD) {
+            rowWrites.values().removeIf(writtenAt -> !isRecent(writtenAt));
+        }
+    }
+
+    private boolean isRecent(Long writtenAt) {
+        return writtenAt != null && clock.getAsLong() - writtenAt < windowMillis;
+    }
+}
@@ -0,0 +1,99 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures each replica's lag behind the primary every {@code psa.datasource.lag-check-interval}
+ * with {@code psa.datasource.lag-query}. A replica whose check fails or times out counts as
+ * unavailable until a later check succeeds. Replicas start out unavailable, so they only get
+ * reads once they have been checked.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<ReplicaPool, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final String lagQuery;
+    private final Duration interval;
+    private volatile Thread worker;
+
+    public ReplicaLagMonitor(List<ReplicaPool> replicas, String lagQuery, Duration interval, MeterRegistry meterRegistry) {
+        this.lagQuery = lagQuery;
+        this.interval = interval;
+        int timeoutSeconds = (int) Math.max(1, interval.toSeconds());
+        for (ReplicaPool replica : replicas) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.dataSource());
+            jdbcTemplate.setQueryTimeout(timeoutSeconds);
+            this.replicas.put(replica, jdbcTemplate);
+            Gauge.builder("psa.datasource.replica_lag", replica,
+                            pool -> pool.lagMillis() == Long.MAX_VALUE ? Double.NaN : pool.lagMillis())
+                    .description("Milliseconds the replica was behind the primary at its last check")
+                    .baseUnit("milliseconds")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        worker = new Thread(this::run, "replica-lag-monitor");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = worker;
+        worker = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    /**
+     * Checks every replica once.
+     */
+    void check() {
+        replicas.forEach((replica, jdbcTemplate) -> {
+            try {
+                Long lag = jdbcTemplate.queryForObject(lagQuery, Long.class);
+                boolean wasUnavailable = replica.lagMillis() == Long.MAX_VALUE;
+                replica.updateLag(lag == null ? 0 : lag);
+                if (wasUnavailable) {
+                    log.info("Replica {} is available, {} ms behind the primary", replica.name(), replica.lagMillis());
+                }
+            } catch (RuntimeException e) {
+                if (replica.lagMillis() != Long.MAX_VALUE) {
+                    log.warn("Lag check on replica {} failed, sending its reads to the primary: {}", replica.name(), e.getMessage());
+                }
+                replica.markUnavailable();
+            }
+        });
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            check();
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * A replica's connection pool and how far behind the primary it was at its last lag check.
+ * A replica that has not been checked yet, or whose last check or read failed, counts as
+ * infinitely far behind.
+ */
+public final class ReplicaPool {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile long lagMillis = Long.MAX_VALUE;
+
+    public ReplicaPool(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    void updateLag(long lagMillis) {
+        this.lagMillis = Math.max(0, lagMillis);
+    }
+
+    void markUnavailable() {
+        this.lagMillis = Long.MAX_VALUE;
+    }
+}
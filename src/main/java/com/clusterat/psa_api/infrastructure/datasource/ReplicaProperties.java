@@ -0,0 +1,35 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code psa.datasource}. Each replica gets its own connection pool next
+ * to the primary pool configured through {@code spring.datasource.*}. Every
+ * {@code lag-check-interval} each replica runs {@code lag-query}, which returns how many
+ * milliseconds it is behind the primary, and a replica further behind than {@code max-lag}
+ * gets no reads until it catches up.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.datasource")
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration maxLag = Duration.ofSeconds(2);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END";
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,172 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.exception.JDBCConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routes connections between the primary pools and the replica pools. The primary has one
+ * pool per {@link Workload}, and connections come from the pool of the calling thread's
+ * workload; a workload without a pool of its own shares the interactive one.
+ *
+ * Connections taken inside {@link #readFromReplica} instead come from the next replica within
+ * {@code psa.datasource.max-lag}, in turn. The choice is made when a connection is taken, so
+ * a read joining a transaction that already holds a primary connection stays on the primary.
+ * When every replica is too far behind, or the replica cannot be reached, the read runs on the
+ * primary instead. An unreachable replica gets no reads until its next successful lag check;
+ * any other failure of the read is the caller's, and is not retried.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutingDataSource.class);
+    private static final ThreadLocal<String> target = new ThreadLocal<>();
+
+    private final Map<Workload, HikariDataSource> primaries;
+    private final List<ReplicaPool> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> replicaReads = new HashMap<>();
+    private final Counter laggingFallbacks;
+    private final Counter failedFallbacks;
+
+    public RoutingDataSource(Map<Workload, HikariDataSource> primaries, List<ReplicaPool> replicas, long maxLagMillis,
+                             MeterRegistry meterRegistry) {
+        HikariDataSource interactive = primaries.get(Workload.INTERACTIVE);
+        if (interactive == null) {
+            throw new IllegalArgumentException("The interactive workload needs a primary pool");
+        }
+        this.primaries = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            this.primaries.put(workload, primaries.getOrDefault(workload, interactive));
+        }
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        Map<Object, Object> targets = new HashMap<>(this.primaries);
+        for (ReplicaPool replica : replicas) {
+            targets.put(replica.name(), replica.dataSource());
+            replicaReads.put(replica.name(), Counter.builder("psa.datasource.replica_reads")
+                    .description("Reads served by a replica")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(interactive);
+        setLenientFallback(false);
+        afterPropertiesSet();
+        this.laggingFallbacks = Counter.builder("psa.datasource.primary_fallbacks")
+                .description("Replica reads sent to the primary instead")
+                .tag("reason", "replica-lag")
+                .register(meterRegistry);
+        this.failedFallbacks = Counter.builder("psa.datasource.primary_fallbacks")
+                .description("Replica reads sent to the primary instead")
+                .tag("reason", "replica-error")
+                .register(meterRegistry);
+    }
+
+    public List<ReplicaPool> replicas() {
+        return replicas;
+    }
+
+    public long maxLagMillis() {
+        return maxLagMillis;
+    }
+
+    /**
+     * Runs {@code read} with its connections taken from a replica that is close enough to the
+     * primary, or from the primary when there is none.
+     */
+    public <T> T readFromReplica(Supplier<T> read) {
+        if (replicas.isEmpty()) {
+            return read.get();
+        }
+        ReplicaPool replica = pick();
+        if (replica == null) {
+            laggingFallbacks.increment();
+            return read.get();
+        }
+        String previous = target.get();
+        target.set(replica.name());
+        try {
+            T result = read.get();
+            replicaReads.get(replica.name()).increment();
+            return result;
+        } catch (RuntimeException e) {
+            if (!isConnectionFailure(e)) {
+                throw e;
+            }
+            replica.markUnavailable();
+            failedFallbacks.increment();
+            log.warn("Read on replica {} failed, retrying on the primary: {}", replica.name(), e.getMessage());
+        } finally {
+            restore(previous);
+        }
+        return read.get();
+    }
+
+    // A connection that could not be opened or was lost, whether Spring or Hibernate reports it
+    private static boolean isConnectionFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof JDBCConnectionException
+                    || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+            // SQLSTATE class 08 is a connection exception
+            if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ReplicaPool pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.lagMillis() <= maxLagMillis) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static void restore(String previous) {
+        if (previous == null) {
+            target.remove();
+        } else {
+            target.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String replica = target.get();
+        return replica != null ? replica : Workload.current();
+    }
+
+    @Override
+    public void close() {
+        Set<HikariDataSource> pools = new LinkedHashSet<>(primaries.values());
+        replicas.forEach(replica -> pools.add(replica.dataSource()));
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,75 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single connection pool with a {@link RoutingDataSource}. The primary gets one
+ * pool per {@link Workload}, sized by {@code psa.workloads.<workload>.size} and otherwise
+ * configured through {@code spring.datasource.*} and {@code spring.datasource.hikari.*}, and
+ * each configured replica gets a pool of its own. Every pool reports
+ * {@code hikaricp.connections.*} metrics tagged with its name.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @Primary
+    public RoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                        ReplicaProperties properties,
+                                        WorkloadProperties workloadProperties,
+                                        Environment environment,
+                                        MeterRegistry meterRegistry) {
+        Map<Workload, HikariDataSource> primaries = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+            primary.setMaximumPoolSize(workloadProperties.pool(workload).getSize());
+            primary.setPoolName(workload.poolName());
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            primaries.put(workload, primary);
+        }
+
+        List<ReplicaPool> replicas = new ArrayList<>();
+        for (ReplicaProperties.Replica replica : properties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (replicas.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pool.setPoolName(name);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaPool(name, pool));
+        }
+        return new RoutingDataSource(primaries, replicas, properties.getMaxLag().toMillis(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.datasource.replicas[0].url")
+    public ReplicaLagMonitor replicaLagMonitor(RoutingDataSource dataSource,
+                                               ReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(dataSource.replicas(), properties.getLagQuery(),
+                properties.getLagCheckInterval(), meterRegistry);
+    }
+}
@@ -0,0 +1,228 @@
+package com.clusterat.psa_api.infrastructure.dedupe;
+
+import com.clusterat.psa_api.application.interfaces.IOccurrenceDuplicateDetector;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window of the occurrences created in the last {@code psa.dedupe.window}, kept in
+ * memory to spot repeated reports of one incident without querying the table. Each
+ * occurrence is filed under its address and its city, in the time slot it was created in,
+ * with a {@link SimHash} of its name and description.
+ *
+ * A new occurrence is compared only with the entries of its own address and city in the
+ * current and previous slot. Each slot keeps only its newest {@code psa.dedupe.slot-capacity}
+ * entries, so a lookup costs a bounded number of bit comparisons however many
+ * occurrences the window holds. A match at the same address may differ in up to
+ * {@code psa.dedupe.address-max-distance} bits; elsewhere in the city, where a repeat is less
+ * likely, in up to {@code psa.dedupe.city-max-distance}.
+ *
+ * Occurrences enter the window only once committed, so the reports of one batch are also
+ * compared with each other through {@link #FindDuplicateAmong}, under the same distances.
+ * The window is per replica and starts empty, and two near-identical reports created at the
+ * same instant in separate requests may both miss each other.
+ */
+@Component
+public class OccurrenceDuplicateWindow implements IOccurrenceDuplicateDetector {
+
+    private static final int SWEEP_EVERY = 1024;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int addressMaxDistance;
+    private final int cityMaxDistance;
+    private final int slotCapacity;
+    private final LongSupplier clock;
+    private final ConcurrentMap<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong remembered = new AtomicLong();
+    private final Counter addressMatches;
+    private final Counter cityMatches;
+
+    @Autowired
+    public OccurrenceDuplicateWindow(@Value("${psa.dedupe.enabled:true}") boolean enabled,
+                                     @Value("${psa.dedupe.window:PT30M}") Duration window,
+                                     @Value("${psa.dedupe.address-max-distance:16}") int addressMaxDistance,
+                                     @Value("${psa.dedupe.city-max-distance:15}") int cityMaxDistance,
+                                     @Value("${psa.dedupe.slot-capacity:32}") int slotCapacity,
+                                     MeterRegistry meterRegistry) {
+        this(enabled, window, addressMaxDistance, cityMaxDistance, slotCapacity, System::currentTimeMillis, meterRegistry);
+    }
+
+    OccurrenceDuplicateWindow(boolean enabled, Duration window, int addressMaxDistance, int cityMaxDistance,
+                              int slotCapacity, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.addressMaxDistance = addressMaxDistance;
+        this.cityMaxDistance = cityMaxDistance;
+        this.slotCapacity = slotCapacity;
+        this.clock = clock;
+        this.addressMatches = matches(meterRegistry, "address");
+        this.cityMatches = matches(meterRegistry, "city");
+        Gauge.builder("psa.dedupe.slots", slots, ConcurrentMap::size)
+                .description("Address and city time slots held by the duplicate window")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Integer> FindDuplicate(OccurrenceEntity occurrence) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        long slot = now / windowMillis;
+        long fingerprint = fingerprint(occurrence);
+        long since = now - windowMillis;
+
+        AddressEntity address = occurrence.getAddress();
+        Match best = closest(new SlotKey(Scope.ADDRESS, address.getId(), slot), fingerprint, since, addressMaxDistance, null);
+        best = closest(new SlotKey(Scope.ADDRESS, address.getId(), slot - 1), fingerprint, since, addressMaxDistance, best);
+        if (best != null) {
+            addressMatches.increment();
+            return Optional.of(best.id());
+        }
+        CityEntity city = address.getCity();
+        if (city == null) {
+            return Optional.empty();
+        }
+        best = closest(new SlotKey(Scope.CITY, city.getId(), slot), fingerprint, since, cityMaxDistance, null);
+        best = closest(new SlotKey(Scope.CITY, city.getId(), slot - 1), fingerprint, since, cityMaxDistance, best);
+        if (best != null) {
+            cityMatches.increment();
+            return Optional.of(best.id());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<OccurrenceEntity> FindDuplicateAmong(OccurrenceEntity occurrence, List<OccurrenceEntity> earlier) {
+        if (!enabled || earlier.isEmpty()) {
+            return Optional.empty();
+        }
+        long fingerprint = fingerprint(occurrence);
+        AddressEntity address = occurrence.getAddress();
+        CityEntity city = address.getCity();
+        OccurrenceEntity sameAddress = null;
+        int sameAddressDistance = addressMaxDistance + 1;
+        OccurrenceEntity sameCity = null;
+        int sameCityDistance = cityMaxDistance + 1;
+        for (OccurrenceEntity candidate : earlier) {
+            AddressEntity candidateAddress = candidate.getAddress();
+            if (candidateAddress.getId() == address.getId()) {
+                int distance = SimHash.distance(fingerprint, fingerprint(candidate));
+                if (distance < sameAddressDistance) {
+                    sameAddress = candidate;
+                    sameAddressDistance = distance;
+                }
+            } else if (city != null && candidateAddress.getCity() != null && candidateAddress.getCity().getId() == city.getId()) {
+                int distance = SimHash.distance(fingerprint, fingerprint(candidate));
+                if (distance < sameCityDistance) {
+                    sameCity = candidate;
+                    sameCityDistance = distance;
+                }
+            }
+        }
+        if (sameAddress != null) {
+            addressMatches.increment();
+            return Optional.of(sameAddress);
+        }
+        if (sameCity != null) {
+            cityMatches.increment();
+        }
+        return Optional.ofNullable(sameCity);
+    }
+
+    @Override
+    public void Remember(OccurrenceEntity occurrence) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long slot = now / windowMillis;
+        if (remembered.incrementAndGet() % SWEEP_EVERY == 0) {
+            slots.keySet().removeIf(key -> key.slot() < slot - 1);
+        }
+        long fingerprint = fingerprint(occurrence);
+        AddressEntity address = occurrence.getAddress();
+        slots.computeIfAbsent(new SlotKey(Scope.ADDRESS, address.getId(), slot), key -> new Slot(slotCapacity))
+                .add(occurrence.getId(), fingerprint, now);
+        if (address.getCity() != null) {
+            slots.computeIfAbsent(new SlotKey(Scope.CITY, address.getCity().getId(), slot), key -> new Slot(slotCapacity))
+                    .add(occurrence.getId(), fingerprint, now);
+        }
+    }
+
+    private Match closest(SlotKey key, long fingerprint, long since, int maxDistance, Match best) {
+        Slot slot = slots.get(key);
+        return slot == null ? best : slot.closest(fingerprint, since, maxDistance, best);
+    }
+
+    private static long fingerprint(OccurrenceEntity occurrence) {
+        return SimHash.of(occurrence.getName() + ' ' + occurrence.getDescription());
+    }
+
+    private static Counter matches(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("psa.dedupe.matches")
+                .description("Created occurrences flagged as likely duplicates")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private enum Scope { ADDRESS, CITY }
+
+    private record SlotKey(Scope scope, int id, long slot) {
+    }
+
+    private record Match(int id, int distance) {
+    }
+
+    // Fixed-size ring of the slot's newest entries; older ones are overwritten
+    private static final class Slot {
+        private final int[] ids;
+        private final long[] fingerprints;
+        private final long[] createdAt;
+        private int next;
+        private int size;
+
+        Slot(int capacity) {
+            this.ids = new int[capacity];
+            this.fingerprints = new long[capacity];
+            this.createdAt = new long[capacity];
+        }
+
+        synchronized void add(int id, long fingerprint, long now) {
+            ids[next] = id;
+            fingerprints[next] = fingerprint;
+            createdAt[next] = now;
+            next = (next + 1) % ids.length;
+            size = Math.min(size + 1, ids.length);
+        }
+
+        synchronized Match closest(long fingerprint, long since, int maxDistance, Match best) {
+            for (int i = 0; i < size; i++) {
+                if (createdAt[i] < since) {
+                    continue;
+                }
+                int distance = SimHash.distance(fingerprint, fingerprints[i]);
+                if (distance <= maxDistance && (best == null || distance < best.distance())) {
+                    best = new Match(ids[i], distance);
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.clusterat.psa_api.infrastructure.dedupe;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 64-bit SimHash of free text: similar texts get fingerprints differing in few bits, so
+ * near-duplicates are found by comparing two longs instead of the texts. Features are the
+ * words and word pairs of the text after lowercasing and stripping accents, so "Incêndio na
+ * praça" and "incendio na praca" hash the same.
+ */
+final class SimHash {
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SimHash() {
+    }
+
+    static long of(String text) {
+        List<String> words = words(text);
+        int[] weights = new int[64];
+        for (String word : words) {
+            add(weights, hash(word));
+            String padded = ' ' + word + ' ';
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                add(weights, hash(padded.substring(i, i + 3)));
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    private static List<String> words(String text) {
+        String normalized = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(normalized)) {
+            // One and two letter words are mostly articles and prepositions
+            if (word.length() > 2) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void add(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += (hash >>> bit & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a followed by a murmur finalizer, so that short words spread over all 64 bits
+    private static long hash(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e88e5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,190 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of occurrence changes to live stream subscribers. It is fed every relayed
+ * change, straight from this instance's outbox relay or, when several instances run, from the
+ * shared Redis stream (see {@link OccurrenceEventsConfig}).
+ *
+ * Events are numbered and kept in a fixed-size ring so a reconnecting client can resume
+ * after its {@code Last-Event-ID}. Ids carry the process epoch; an id from another process,
+ * or one older than the ring, yields a single {@link Entry#resync resync} entry telling the
+ * client to reload instead of silently missing changes.
+ *
+ * Each subscriber has its own bounded buffer. When a client cannot keep up, its oldest
+ * pending events are dropped so it stays on the latest state, and nobody else slows down.
+ *
+ * Unfiltered subscribers share one multicast feed. Filtered ones are kept in a
+ * {@link SubscriptionIndex} and an event is handed only to those it matches, so a busy
+ * city does not cost anything to subscribers watching another one.
+ */
+@Component
+public class OccurrenceEventHub {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Sinks.Many<Entry> sink = Sinks.many().multicast().directBestEffort();
+    private final SubscriptionIndex<FluxSink<Entry>> filtered = new SubscriptionIndex<>();
+    private final OccurrenceLocationResolver locationResolver;
+    private final Entry[] ring;
+    private final int subscriberBuffer;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+    private final DistributionSummary candidates;
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    private long lastSequence;
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceEventHub.class);
+
+    public OccurrenceEventHub(OccurrenceLocationResolver locationResolver,
+                              @Value("${psa.events.replay-capacity:1024}") int replayCapacity,
+                              @Value("${psa.events.subscriber-buffer:256}") int subscriberBuffer,
+                              MeterRegistry meterRegistry) {
+        this.locationResolver = locationResolver;
+        this.ring = new Entry[replayCapacity];
+        this.subscriberBuffer = subscriberBuffer;
+        this.meterRegistry = meterRegistry;
+        this.dropped = meterRegistry.counter("psa.occurrence_events.dropped");
+        this.candidates = meterRegistry.summary("psa.occurrence_events.candidates");
+        meterRegistry.gauge("psa.occurrence_events.subscribers", subscribers);
+    }
+
+    public void Publish(OccurrenceEvent event) {
+        // Locations are looked up concurrently, so a burst shares its loads, but emitting is
+        // chained so events keep their publishing order
+        CompletableFuture<OccurrenceLocation> location = locate(event);
+        synchronized (this) {
+            pending = pending
+                    .thenCombine(location, (ignored, resolved) -> resolved)
+                    .thenAccept(resolved -> emit(event, resolved))
+                    .exceptionally(throwable -> {
+                        log.error("Failed to dispatch occurrence event for occurrence ID {}", event.occurrenceId(), throwable);
+                        return null;
+                    });
+        }
+        meterRegistry.counter("psa.occurrence_events.published",
+                "type", event.type().name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    /**
+     * Live events, preceded by the retained events after {@code lastEventId} when it is given.
+     */
+    public Flux<Entry> subscribe(String lastEventId) {
+        return subscribe(lastEventId, OccurrenceSubscription.ALL);
+    }
+
+    /**
+     * Like {@link #subscribe(String)}, restricted to the events {@code subscription} matches.
+     * Resync entries are always delivered.
+     */
+    public Flux<Entry> subscribe(String lastEventId, OccurrenceSubscription subscription) {
+        return Flux.<Entry>create(emitter -> {
+                    Runnable unsubscribe;
+                    synchronized (this) {
+                        if (lastEventId != null) {
+                            replay(lastEventId, subscription, emitter);
+                        }
+                        if (subscription.unfiltered()) {
+                            Disposable live = sink.asFlux().subscribe(emitter::next, emitter::error, emitter::complete);
+                            unsubscribe = live::dispose;
+                        } else {
+                            unsubscribe = filtered.add(subscription, emitter);
+                        }
+                    }
+                    subscribers.incrementAndGet();
+                    emitter.onDispose(() -> {
+                        unsubscribe.run();
+                        subscribers.decrementAndGet();
+                    });
+                })
+                .onBackpressureBuffer(subscriberBuffer, entry -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private CompletableFuture<OccurrenceLocation> locate(OccurrenceEvent event) {
+        if (event.occurrence() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // An unknown location only hides the event from location filters, it never holds the feed up
+        return locationResolver.locate(event.occurrence().addressId())
+                .exceptionally(throwable -> {
+                    log.warn("Could not resolve location of occurrence ID {}", event.occurrenceId(), throwable);
+                    return null;
+                });
+    }
+
+    private void emit(OccurrenceEvent event, OccurrenceLocation location) {
+        // Appending and emitting under one lock keeps the ring and the live feeds in the same order
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            Entry entry = new Entry(idOf(sequence), event, location);
+            ring[(int) (sequence % ring.length)] = entry;
+            sink.tryEmitNext(entry);
+            candidates.record(filtered.match(location, event, emitter -> emitter.next(entry)));
+        }
+    }
+
+    private void replay(String lastEventId, OccurrenceSubscription subscription, FluxSink<Entry> emitter) {
+        long after = sequenceOf(lastEventId);
+        long oldestRetained = Math.max(1, lastSequence - ring.length + 1);
+        if (after < 0 || after > lastSequence || after < oldestRetained - 1) {
+            emitter.next(Entry.resync(idOf(lastSequence)));
+            return;
+        }
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            Entry entry = ring[(int) (sequence % ring.length)];
+            if (subscription.matches(entry.location(), entry.event())) {
+                emitter.next(entry);
+            }
+        }
+    }
+
+    private String idOf(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long sequenceOf(String id) {
+        int separator = id.lastIndexOf('-');
+        if (separator < 0 || !id.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * One delivered event, where it happened, and the id a client sends back as
+     * {@code Last-Event-ID}. A resync entry has no event.
+     */
+    public record Entry(String id, OccurrenceEvent event, OccurrenceLocation location) {
+        static Entry resync(String id) {
+            return new Entry(id, null, null);
+        }
+
+        public boolean resync() {
+            return event == null;
+        }
+    }
+}
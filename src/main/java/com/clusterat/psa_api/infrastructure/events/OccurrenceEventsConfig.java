@@ -0,0 +1,41 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.infrastructure.outbox.OccurrenceEventSink;
+import com.clusterat.psa_api.infrastructure.outbox.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(OccurrenceEventsProperties.class)
+public class OccurrenceEventsConfig {
+
+    /**
+     * Single instance: the hub receives what this instance's outbox relay delivers.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "psa.events.backend", havingValue = "local", matchIfMissing = true)
+    public OccurrenceEventSink localOccurrenceEventFeed(OccurrenceEventHub hub) {
+        return events -> events.forEach(event -> hub.Publish(event.event()));
+    }
+
+    /**
+     * Several instances: each relay only delivers the batches it claimed, so every hub reads
+     * the shared Redis stream instead.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "psa.events.backend", havingValue = "redis")
+    public RedisStreamOccurrenceEventFeed redisStreamOccurrenceEventFeed(StringRedisTemplate redisTemplate,
+                                                                         OutboxProperties outboxProperties,
+                                                                         OccurrenceEventsProperties properties,
+                                                                         OccurrenceEventHub hub,
+                                                                         ObjectMapper objectMapper,
+                                                                         MeterRegistry meterRegistry) {
+        return new RedisStreamOccurrenceEventFeed(redisTemplate, outboxProperties.getRedis().getStream(),
+                properties.getRedisBlockTimeout(), properties.getRedisReadCount(), hub, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Where the live occurrence stream of each instance gets its events, under {@code psa.events}.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.events")
+public class OccurrenceEventsProperties {
+
+    public enum Backend { LOCAL, REDIS }
+
+    private Backend backend = Backend.LOCAL;
+    private Duration redisBlockTimeout = Duration.ofSeconds(2);
+    private int redisReadCount = 500;
+}
@@ -0,0 +1,9 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.domain.value_objects.Region;
+
+/**
+ * Where an occurrence happened, as far as stream subscriptions can filter on it.
+ */
+public record OccurrenceLocation(int cityId, int stateId, Region region) {
+}
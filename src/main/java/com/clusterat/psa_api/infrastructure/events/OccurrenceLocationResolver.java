@@ -0,0 +1,79 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.interfaces.IAddressRepository;
+import com.clusterat.psa_api.application.interfaces.ICityRepository;
+import com.clusterat.psa_api.application.interfaces.IStateRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves an occurrence's address to the city, state and region subscriptions filter on.
+ *
+ * The address is looked up on every event since addresses are not versioned; the city to
+ * state and region step is reference data and is remembered until the cities or states
+ * tables change.
+ */
+@Component
+public class OccurrenceLocationResolver {
+
+    private final IAddressRepository addressRepository;
+    private final ICityRepository cityRepository;
+    private final IStateRepository stateRepository;
+    private final TableVersions tableVersions;
+    private final Map<Integer, OccurrenceLocation> byCity = new ConcurrentHashMap<>();
+    private volatile String cachedVersion = "";
+
+    public OccurrenceLocationResolver(IAddressRepository addressRepository,
+                                      ICityRepository cityRepository,
+                                      IStateRepository stateRepository,
+                                      TableVersions tableVersions) {
+        this.addressRepository = addressRepository;
+        this.cityRepository = cityRepository;
+        this.stateRepository = stateRepository;
+        this.tableVersions = tableVersions;
+    }
+
+    /**
+     * Location of the address, or null when any step of it no longer exists.
+     */
+    public CompletableFuture<OccurrenceLocation> locate(int addressId) {
+        return addressRepository.GetByIdAsync(addressId)
+                .thenCompose(address -> address
+                        .map(AddressEntity::getCity)
+                        .map(city -> locateCity(city.getId()))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null)));
+    }
+
+    private CompletableFuture<OccurrenceLocation> locateCity(int cityId) {
+        String version = tableVersions.current(TableVersions.CITIES) + ":" + tableVersions.current(TableVersions.STATES);
+        if (!version.equals(cachedVersion)) {
+            byCity.clear();
+            cachedVersion = version;
+        }
+        OccurrenceLocation cached = byCity.get(cityId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return cityRepository.GetByIdAsync(cityId)
+                .thenCompose(city -> city.isEmpty()
+                        ? CompletableFuture.<Optional<StateEntity>>completedFuture(Optional.empty())
+                        : stateRepository.GetByIdAsync(city.get().getState().getId()))
+                .thenApply(state -> state
+                        .map(found -> {
+                            OccurrenceLocation location = new OccurrenceLocation(cityId, found.getId(), found.getRegion());
+                            // Only remember it if no write happened while it was being loaded
+                            if (version.equals(cachedVersion)) {
+                                byCity.put(cityId, location);
+                            }
+                            return location;
+                        })
+                        .orElse(null));
+    }
+}
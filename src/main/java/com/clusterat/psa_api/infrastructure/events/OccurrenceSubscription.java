@@ -0,0 +1,46 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+
+/**
+ * What a stream subscriber wants to hear about. Every criterion is optional and the given
+ * ones must all hold; a subscription without criteria receives every event.
+ */
+public record OccurrenceSubscription(Integer cityId, Integer stateId, Region region, Intensity minIntensity) {
+
+    public static final OccurrenceSubscription ALL = new OccurrenceSubscription(null, null, null, null);
+
+    public boolean unfiltered() {
+        return cityId == null && stateId == null && region == null && minIntensity == null;
+    }
+
+    boolean located() {
+        return cityId != null || stateId != null || region != null;
+    }
+
+    /**
+     * Whether an event at {@code location}, which is null when it could not be resolved, is
+     * of interest to this subscription.
+     */
+    public boolean matches(OccurrenceLocation location, OccurrenceEvent event) {
+        if (located()) {
+            if (location == null
+                    || (cityId != null && cityId != location.cityId())
+                    || (stateId != null && stateId != location.stateId())
+                    || (region != null && region != location.region())) {
+                return false;
+            }
+        }
+        if (minIntensity == null) {
+            return true;
+        }
+        Intensity intensity = intensityOf(event);
+        return intensity != null && intensity.compareTo(minIntensity) >= 0;
+    }
+
+    static Intensity intensityOf(OccurrenceEvent event) {
+        return event.occurrence() == null ? null : event.occurrence().intensity();
+    }
+}
@@ -0,0 +1,132 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Feeds the {@link OccurrenceEventHub} of this instance from the Redis stream the outbox relays
+ * append to, so live subscribers see every change whichever replica relayed it.
+ *
+ * Every instance reads the whole stream on its own, without a consumer group, starting after
+ * the newest entry present when it first reads. It keeps the id of the last entry it handed on,
+ * so a lost connection only delays events, unless the stream is trimmed past that entry first.
+ */
+public class RedisStreamOccurrenceEventFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStreamOccurrenceEventFeed.class);
+    private static final String START = "0-0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String stream;
+    private final StreamReadOptions readOptions;
+    private final Duration retryInterval;
+    private final OccurrenceEventHub hub;
+    private final ObjectMapper objectMapper;
+    private final Counter failures;
+    private volatile Thread worker;
+    private String lastId;
+
+    public RedisStreamOccurrenceEventFeed(StringRedisTemplate redisTemplate, String stream,
+                                          Duration blockTimeout, int readCount,
+                                          OccurrenceEventHub hub, ObjectMapper objectMapper,
+                                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.stream = stream;
+        this.readOptions = StreamReadOptions.empty().block(blockTimeout).count(readCount);
+        this.retryInterval = blockTimeout;
+        this.hub = hub;
+        this.objectMapper = objectMapper;
+        this.failures = meterRegistry.counter("psa.occurrence_events.feed_failures");
+    }
+
+    @Override
+    public synchronized void start() {
+        worker = new Thread(Workload.BACKGROUND.bind(this::run), "occurrence-event-feed");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = worker;
+        worker = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    /**
+     * Hands the entries appended after the last one read to the hub and returns how many there were.
+     */
+    int readOnce() {
+        if (lastId == null) {
+            lastId = newestId();
+        }
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().read(readOptions, StreamOffset.create(stream, ReadOffset.from(lastId)));
+        if (records == null) {
+            return 0;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            publish(record);
+            lastId = record.getId().getValue();
+        }
+        return records.size();
+    }
+
+    private String newestId() {
+        List<MapRecord<String, Object, Object>> newest =
+                redisTemplate.opsForStream().reverseRange(stream, Range.unbounded(), Limit.limit().count(1));
+        return newest == null || newest.isEmpty() ? START : newest.get(0).getId().getValue();
+    }
+
+    private void publish(MapRecord<String, Object, Object> record) {
+        Object payload = record.getValue().get("payload");
+        try {
+            hub.Publish(objectMapper.readValue(String.valueOf(payload), OccurrenceEvent.class));
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable occurrence event {} in Redis stream {}", record.getId(), stream, e);
+        }
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            try {
+                readOnce();
+            } catch (RuntimeException e) {
+                if (worker != Thread.currentThread()) {
+                    return;
+                }
+                failures.increment();
+                log.error("Failed to read occurrence events from Redis stream {}, retrying in {}", stream, retryInterval, e);
+                try {
+                    Thread.sleep(retryInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
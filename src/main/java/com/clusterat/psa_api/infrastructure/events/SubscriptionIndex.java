@@ -0,0 +1,114 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Filtered subscriptions, arranged so an event only visits the ones that can match it.
+ *
+ * A subscription is filed under its narrowest location criterion (city, else state, else
+ * region, else anywhere) and, within that, under its minimum intensity. An event then looks
+ * up its own city, state and region, and in each of those buckets only walks the intensity
+ * levels at or below its own. The work per event therefore follows the number of matching
+ * subscribers rather than the total, which is what keeps dispatch cost flat as thousands of
+ * dashboards each watch their own area.
+ */
+final class SubscriptionIndex<T> {
+
+    private final Map<Integer, Bucket<T>> byCity = new ConcurrentHashMap<>();
+    private final Map<Integer, Bucket<T>> byState = new ConcurrentHashMap<>();
+    private final Map<Region, Bucket<T>> byRegion = new ConcurrentHashMap<>();
+    private final Bucket<T> anywhere = new Bucket<>();
+
+    /**
+     * Files {@code subscriber} and returns the action that removes it again.
+     */
+    Runnable add(OccurrenceSubscription subscription, T subscriber) {
+        Set<Registration<T>> level = bucketFor(subscription).level(subscription.minIntensity());
+        Registration<T> registration = new Registration<>(subscription, subscriber);
+        level.add(registration);
+        return () -> level.remove(registration);
+    }
+
+    /**
+     * Hands every subscriber interested in {@code event} to {@code target} and returns how
+     * many registrations were looked at to find them.
+     */
+    int match(OccurrenceLocation location, OccurrenceEvent event, Consumer<T> target) {
+        Intensity intensity = OccurrenceSubscription.intensityOf(event);
+        int visited = 0;
+        if (location != null) {
+            visited += visit(byCity.get(location.cityId()), location, event, intensity, target);
+            visited += visit(byState.get(location.stateId()), location, event, intensity, target);
+            visited += visit(byRegion.get(location.region()), location, event, intensity, target);
+        }
+        return visited + visit(anywhere, location, event, intensity, target);
+    }
+
+    private int visit(Bucket<T> bucket, OccurrenceLocation location, OccurrenceEvent event,
+                      Intensity intensity, Consumer<T> target) {
+        if (bucket == null) {
+            return 0;
+        }
+        int visited = 0;
+        int highest = intensity == null ? 0 : intensity.ordinal();
+        for (int level = 0; level <= highest; level++) {
+            for (Registration<T> registration : bucket.levels[level]) {
+                visited++;
+                // Only combined criteria (say a city and a region) can still disagree here
+                if (registration.subscription().matches(location, event)) {
+                    target.accept(registration.subscriber());
+                }
+            }
+        }
+        return visited;
+    }
+
+    private Bucket<T> bucketFor(OccurrenceSubscription subscription) {
+        if (subscription.cityId() != null) {
+            return byCity.computeIfAbsent(subscription.cityId(), id -> new Bucket<>());
+        }
+        if (subscription.stateId() != null) {
+            return byState.computeIfAbsent(subscription.stateId(), id -> new Bucket<>());
+        }
+        if (subscription.region() != null) {
+            return byRegion.computeIfAbsent(subscription.region(), region -> new Bucket<>());
+        }
+        return anywhere;
+    }
+
+    private record Registration<T>(OccurrenceSubscription subscription, T subscriber) {
+        // Identity, so two subscribers with the same filter and handle never replace each other
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    private static final class Bucket<T> {
+        @SuppressWarnings("unchecked")
+        private final Set<Registration<T>>[] levels = new Set[Intensity.values().length];
+
+        private Bucket() {
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = ConcurrentHashMap.newKeySet();
+            }
+        }
+
+        // No minimum behaves like the lowest one: every intensity reaches it
+        private Set<Registration<T>> level(Intensity minIntensity) {
+            return levels[minIntensity == null ? 0 : minIntensity.ordinal()];
+        }
+    }
+}
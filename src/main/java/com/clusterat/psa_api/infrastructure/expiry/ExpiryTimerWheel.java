@@ -0,0 +1,85 @@
+package com.clusterat.psa_api.infrastructure.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timer wheel of occurrence deadlines. Each deadline is filed in the slot of its tick,
+ * so scheduling is O(1) and each tick only looks at the timers filed in one slot. A deadline
+ * more than one rotation away waits in its slot until the wheel reaches its tick.
+ *
+ * Rescheduling or cancelling an id only updates its entry in the deadline map; the old timer
+ * stays in its slot and is dropped when reached, since it no longer matches the map.
+ */
+final class ExpiryTimerWheel {
+
+    private record Timer(int id, long deadline, long tick) {
+    }
+
+    private final long tickMillis;
+    private final List<Timer>[] slots;
+    private final int mask;
+    private final Map<Integer, Long> deadlines = new HashMap<>();
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryTimerWheel(long tickMillis, int slotCount, long nowMillis) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.slots = new List[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.nextTick = nowMillis / tickMillis;
+    }
+
+    synchronized void schedule(int id, long deadlineMillis) {
+        Long current = deadlines.put(id, deadlineMillis);
+        if (current != null && current == deadlineMillis) {
+            return;
+        }
+        // Overdue deadlines go into the next slot to be processed
+        long tick = Math.max(deadlineMillis / tickMillis, nextTick);
+        slots[(int) (tick & mask)].add(new Timer(id, deadlineMillis, tick));
+    }
+
+    synchronized void cancel(int id) {
+        deadlines.remove(id);
+    }
+
+    /**
+     * Removes and returns the ids of the ticks that have fully elapsed by {@code nowMillis},
+     * all of which have their deadline at or before it.
+     */
+    synchronized List<Integer> advance(long nowMillis) {
+        long lastTick = (nowMillis + 1) / tickMillis - 1;
+        List<Integer> due = new ArrayList<>();
+        // After a pause longer than a rotation, one pass over every slot is enough
+        long firstTick = Math.max(nextTick, lastTick - mask);
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            Iterator<Timer> timers = slots[(int) (tick & mask)].iterator();
+            while (timers.hasNext()) {
+                Timer timer = timers.next();
+                if (timer.tick() > lastTick) {
+                    continue;
+                }
+                timers.remove();
+                Long deadline = deadlines.get(timer.id());
+                if (deadline != null && deadline == timer.deadline()) {
+                    deadlines.remove(timer.id());
+                    due.add(timer.id());
+                }
+            }
+        }
+        nextTick = Math.max(nextTick, lastTick + 1);
+        return due;
+    }
+
+    synchronized int size() {
+        return deadlines.size();
+    }
+}
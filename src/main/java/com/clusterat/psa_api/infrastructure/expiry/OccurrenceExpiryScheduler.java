@@ -0,0 +1,190 @@
+package com.clusterat.psa_api.infrastructure.expiry;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.infrastructure.coordination.JobCoordinator;
+import com.clusterat.psa_api.infrastructure.coordination.LeaderLease;
+import com.clusterat.psa_api.infrastructure.outbox.OccurrenceEventSink;
+import com.clusterat.psa_api.infrastructure.outbox.OutboxEvent;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Deactivates occurrences once their {@code dateEnd} has passed.
+ *
+ * Upcoming deadlines are kept in an {@link ExpiryTimerWheel} that is checked every
+ * {@code psa.expiry.tick}, so an occurrence is switched off within about a tick of its end.
+ * The wheel is fed from two places. Every {@code psa.expiry.refill-interval}, a range scan of
+ * the {@code (active, date_end)} index loads the occurrences ending within
+ * {@code psa.expiry.horizon}, including overdue ones. Only the replica holding the
+ * {@code occurrence-expiry-refill} lease scans. In between, created and updated occurrences
+ * arrive through the outbox relay, which hands each event to one replica.
+ *
+ * Due ids are deactivated in batches of {@code psa.expiry.batch-size} with
+ * {@link IOccurrenceRepository#ExpireAsync}, a set-based UPDATE that only touches rows still
+ * active and past their end, so a deadline held by two replicas around a change of leader
+ * is expired once and rows locked by another replica are skipped. A failed batch is picked
+ * up again by the next scan.
+ */
+@Component
+@ConditionalOnProperty(name = "psa.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class OccurrenceExpiryScheduler implements SmartLifecycle, OccurrenceEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceExpiryScheduler.class);
+
+    private final IOccurrenceRepository occurrenceRepository;
+    private final long tickMillis;
+    private final long horizonMillis;
+    private final long refillIntervalMillis;
+    private final int batchSize;
+    private final int refillLimit;
+    private final LongSupplier clock;
+    private final LeaderLease refillLease;
+    private final ExpiryTimerWheel wheel;
+    private final Counter deactivated;
+    private final Counter failures;
+    private final Timer lag;
+    private long nextRefill;
+    private volatile Thread worker;
+
+    @Autowired
+    public OccurrenceExpiryScheduler(IOccurrenceRepository occurrenceRepository,
+                                     @Value("${psa.expiry.tick:PT1S}") Duration tick,
+                                     @Value("${psa.expiry.horizon:PT10M}") Duration horizon,
+                                     @Value("${psa.expiry.refill-interval:PT30S}") Duration refillInterval,
+                                     @Value("${psa.expiry.batch-size:500}") int batchSize,
+                                     @Value("${psa.expiry.refill-limit:10000}") int refillLimit,
+                                     JobCoordinator jobCoordinator,
+                                     MeterRegistry meterRegistry) {
+        this(occurrenceRepository, tick, horizon, refillInterval, batchSize, refillLimit, System::currentTimeMillis,
+                jobCoordinator.leaderOnly("occurrence-expiry-refill"), meterRegistry);
+    }
+
+    OccurrenceExpiryScheduler(IOccurrenceRepository occurrenceRepository, Duration tick, Duration horizon,
+                              Duration refillInterval, int batchSize, int refillLimit, LongSupplier clock,
+                              LeaderLease refillLease, MeterRegistry meterRegistry) {
+        this.occurrenceRepository = occurrenceRepository;
+        this.tickMillis = tick.toMillis();
+        this.horizonMillis = horizon.toMillis();
+        this.refillIntervalMillis = refillInterval.toMillis();
+        this.batchSize = batchSize;
+        this.refillLimit = refillLimit;
+        this.clock = clock;
+        this.refillLease = refillLease;
+        // One rotation spans the horizon, so scheduled timers rarely wait a second round
+        this.wheel = new ExpiryTimerWheel(tickMillis, (int) Math.min(1 << 16, horizonMillis / tickMillis + 1), clock.getAsLong());
+        this.deactivated = meterRegistry.counter("psa.expiry.deactivated");
+        this.failures = meterRegistry.counter("psa.expiry.failures");
+        this.lag = Timer.builder("psa.expiry.lag")
+                .description("Time from an occurrence's end to its deactivation")
+                .register(meterRegistry);
+        Gauge.builder("psa.expiry.scheduled", wheel, ExpiryTimerWheel::size)
+                .description("Occurrence deadlines held in the timer wheel")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        long until = clock.getAsLong() + horizonMillis;
+        for (OutboxEvent outboxEvent : events) {
+            OccurrenceEvent event = outboxEvent.event();
+            OccurrenceApplicationDTO.Response occurrence = event.occurrence();
+            if (event.type() == OccurrenceEvent.Type.DELETED || !occurrence.active() || occurrence.dateEnd() == null) {
+                wheel.cancel(event.occurrenceId());
+            } else if (occurrence.dateEnd().getTime() <= until) {
+                wheel.schedule(event.occurrenceId(), occurrence.dateEnd().getTime());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        worker = new Thread(Workload.BACKGROUND.bind(this::run), "occurrence-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = worker;
+        worker = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    /**
+     * Refills the wheel when this node holds the refill lease and the refill interval has
+     * passed, then deactivates what is due.
+     * Returns how many occurrences were deactivated.
+     */
+    int tick() {
+        long now = clock.getAsLong();
+        if (now >= nextRefill && refillLease.isHeld()) {
+            List<OccurrenceEntity> ending = occurrenceRepository.GetActiveEndingByAsync(new Date(now + horizonMillis), refillLimit).join();
+            for (OccurrenceEntity occurrence : ending) {
+                wheel.schedule(occurrence.getId(), occurrence.getDateEnd().getTime());
+            }
+            // A full scan may have left overdue rows behind; look again on the next tick
+            nextRefill = ending.size() < refillLimit ? now + refillIntervalMillis : now;
+        }
+
+        List<Integer> due = wheel.advance(now);
+        int count = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Integer> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            List<OccurrenceEntity> expired = occurrenceRepository.ExpireAsync(batch, new Date(now)).join();
+            for (OccurrenceEntity occurrence : expired) {
+                lag.record(Math.max(0, now - occurrence.getDateEnd().getTime()), TimeUnit.MILLISECONDS);
+            }
+            count += expired.size();
+        }
+        deactivated.increment(count);
+        return count;
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            try {
+                int count = tick();
+                if (count > 0) {
+                    log.debug("Deactivated {} occurrences past their end", count);
+                }
+                Thread.sleep(tickMillis - clock.getAsLong() % tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Failed to expire occurrences, retrying on the next scan", e);
+                try {
+                    Thread.sleep(tickMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
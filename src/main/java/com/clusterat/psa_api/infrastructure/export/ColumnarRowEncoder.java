@@ -0,0 +1,142 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Buffers rows column by column and writes them as row groups of a simple columnar file.
+ *
+ * All integers are little-endian. The file starts with a header written by
+ * {@link #writeFileHeader(WritableByteChannel)}:
+ * <pre>
+ * "PSAC" | u8 version | u8 columnCount | columnCount x (u8 type | u8 nameLength | name utf8)
+ * </pre>
+ * followed by any number of row groups:
+ * <pre>
+ * i32 rowCount | columnCount x (i32 byteLength | column data)
+ * </pre>
+ * Column data is {@code i32} per value for INT32, {@code i64} epoch millis for TIMESTAMP
+ * ({@link Long#MIN_VALUE} for null), one byte per value for BOOLEAN and ENUM ordinals
+ * ({@code -1} for null) and {@code i32 length | utf8 bytes} per value for STRING
+ * ({@code -1} length for null).
+ */
+final class ColumnarRowEncoder implements OccurrenceRowEncoder {
+    static final byte FORMAT_VERSION = 1;
+    static final int ROW_GROUP_SIZE = 16_384;
+
+    private static final byte[] MAGIC = {'P', 'S', 'A', 'C'};
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer[] columns;
+    private int rowCount;
+
+    ColumnarRowEncoder(WritableByteChannel channel) {
+        this.channel = channel;
+        OccurrenceExportColumn[] definitions = OccurrenceExportColumn.all();
+        this.columns = new ByteBuffer[definitions.length];
+        for (int i = 0; i < definitions.length; i++) {
+            int initialCapacity = switch (definitions[i].type()) {
+                case INT32 -> ROW_GROUP_SIZE * Integer.BYTES;
+                case TIMESTAMP -> ROW_GROUP_SIZE * Long.BYTES;
+                case BOOLEAN, ENUM -> ROW_GROUP_SIZE;
+                case STRING -> ROW_GROUP_SIZE * 32;
+            };
+            columns[i] = ByteBuffer.allocate(initialCapacity).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    static void writeFileHeader(WritableByteChannel channel) throws IOException {
+        OccurrenceExportColumn[] definitions = OccurrenceExportColumn.all();
+        ByteBuffer header = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).put(FORMAT_VERSION).put((byte) definitions.length);
+        for (OccurrenceExportColumn column : definitions) {
+            byte[] name = column.header().getBytes(StandardCharsets.US_ASCII);
+            header.put((byte) column.type().code()).put((byte) name.length).put(name);
+        }
+        header.flip();
+        writeFully(channel, header);
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+        OccurrenceExportColumn[] definitions = OccurrenceExportColumn.all();
+        for (int i = 0; i < definitions.length; i++) {
+            OccurrenceExportColumn column = definitions[i];
+            int index = column.jdbcIndex();
+            switch (column.type()) {
+                case INT32 -> ensure(i, Integer.BYTES).putInt(resultSet.getInt(index));
+                case TIMESTAMP -> {
+                    Timestamp value = resultSet.getTimestamp(index);
+                    ensure(i, Long.BYTES).putLong(value == null ? Long.MIN_VALUE : value.getTime());
+                }
+                case BOOLEAN -> ensure(i, 1).put(resultSet.getBoolean(index) ? (byte) 1 : (byte) 0);
+                case ENUM -> {
+                    int value = resultSet.getInt(index);
+                    ensure(i, 1).put(resultSet.wasNull() ? (byte) -1 : (byte) value);
+                }
+                case STRING -> {
+                    String value = resultSet.getString(index);
+                    if (value == null) {
+                        ensure(i, Integer.BYTES).putInt(-1);
+                    } else {
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        ensure(i, Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+                    }
+                }
+            }
+        }
+        if (++rowCount == ROW_GROUP_SIZE) {
+            flushRowGroup();
+        }
+    }
+
+    private ByteBuffer ensure(int column, int bytes) {
+        ByteBuffer buffer = columns[column];
+        if (buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            columns[column] = grown;
+            return grown;
+        }
+        return buffer;
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rowCount == 0) {
+            return;
+        }
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeFully(channel, length.putInt(0, rowCount));
+        for (ByteBuffer column : columns) {
+            column.flip();
+            length.clear();
+            writeFully(channel, length.putInt(0, column.remaining()));
+            writeFully(channel, column);
+            column.clear();
+        }
+        rowCount = 0;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushRowGroup();
+        } finally {
+            channel.close();
+        }
+    }
+}
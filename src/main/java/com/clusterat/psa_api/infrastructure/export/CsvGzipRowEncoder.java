@@ -0,0 +1,106 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes rows as RFC 4180 CSV into a single gzip member. Members produced by different
+ * partitions are concatenated into one valid multi-member gzip file.
+ */
+final class CsvGzipRowEncoder implements OccurrenceRowEncoder {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvGzipRowEncoder(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(new GZIPOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+    }
+
+    static void writeHeader(OutputStream out) throws IOException {
+        try (CsvGzipRowEncoder encoder = new CsvGzipRowEncoder(out)) {
+            OccurrenceExportColumn[] columns = OccurrenceExportColumn.all();
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    encoder.writer.write(',');
+                }
+                encoder.writer.write(columns[i].header());
+            }
+            encoder.writer.write("\r\n");
+        }
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+        OccurrenceExportColumn[] columns = OccurrenceExportColumn.all();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            OccurrenceExportColumn column = columns[i];
+            int index = column.jdbcIndex();
+            switch (column.type()) {
+                case INT32 -> {
+                    int value = resultSet.getInt(index);
+                    if (!resultSet.wasNull()) {
+                        writer.write(Integer.toString(value));
+                    }
+                }
+                case TIMESTAMP -> {
+                    Timestamp value = resultSet.getTimestamp(index);
+                    if (value != null) {
+                        writer.write(Instant.ofEpochMilli(value.getTime()).toString());
+                    }
+                }
+                case BOOLEAN -> writer.write(resultSet.getBoolean(index) ? "true" : "false");
+                case ENUM -> {
+                    int value = resultSet.getInt(index);
+                    if (!resultSet.wasNull()) {
+                        writer.write(column.label(value));
+                    }
+                }
+                case STRING -> writeQuoted(resultSet.getString(index));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeQuoted(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = false;
+        for (int i = 0; i < value.length() && !needsQuoting; i++) {
+            char c = value.charAt(i);
+            needsQuoting = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
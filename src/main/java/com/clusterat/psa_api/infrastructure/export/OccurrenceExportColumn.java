@@ -0,0 +1,98 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+
+/**
+ * Columns of the denormalized occurrence extract, in the order they are selected.
+ * The ordinal of each constant is also its 1-based JDBC column index minus one.
+ */
+enum OccurrenceExportColumn {
+    ID("id", "o.id", Type.INT32),
+    NAME("name", "o.name", Type.STRING),
+    DESCRIPTION("description", "o.description", Type.STRING),
+    DATE_START("date_start", "o.date_start", Type.TIMESTAMP),
+    DATE_END("date_end", "o.date_end", Type.TIMESTAMP),
+    DATE_UPDATE("date_update", "o.date_update", Type.TIMESTAMP),
+    ACTIVE("active", "o.active", Type.BOOLEAN),
+    INTENSITY("intensity", "o.intensity", Type.ENUM, Intensity.values()),
+    USER_ID("user_id", "o.user_id", Type.INT32),
+    ADDRESS_ID("address_id", "a.id", Type.INT32),
+    STREET("street", "a.street", Type.STRING),
+    NUMBER("number", "a.number", Type.STRING),
+    NEIGHBORHOOD("neighborhood", "a.neighborhood", Type.STRING),
+    CITY_ID("city_id", "c.id", Type.INT32),
+    CITY_NAME("city_name", "c.name", Type.STRING),
+    CITY_IBGE_CODE("city_ibge_code", "c.ibge_code", Type.STRING),
+    STATE_ID("state_id", "s.id", Type.INT32),
+    STATE_NAME("state_name", "s.name", Type.STRING),
+    STATE_SHORT_NAME("state_short_name", "s.short_name", Type.STRING),
+    REGION("region", "s.region", Type.ENUM, Region.values());
+
+    enum Type {
+        INT32(1),
+        TIMESTAMP(2),
+        BOOLEAN(3),
+        ENUM(4),
+        STRING(5);
+
+        private final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+    }
+
+    private static final OccurrenceExportColumn[] ALL = values();
+
+    private final String header;
+    private final String expression;
+    private final Type type;
+    private final Enum<?>[] labels;
+
+    OccurrenceExportColumn(String header, String expression, Type type) {
+        this(header, expression, type, new Enum<?>[0]);
+    }
+
+    OccurrenceExportColumn(String header, String expression, Type type, Enum<?>[] labels) {
+        this.header = header;
+        this.expression = expression;
+        this.type = type;
+        this.labels = labels;
+    }
+
+    String header() {
+        return header;
+    }
+
+    Type type() {
+        return type;
+    }
+
+    int jdbcIndex() {
+        return ordinal() + 1;
+    }
+
+    String label(int ordinal) {
+        return ordinal >= 0 && ordinal < labels.length ? labels[ordinal].name() : Integer.toString(ordinal);
+    }
+
+    static OccurrenceExportColumn[] all() {
+        return ALL;
+    }
+
+    static String selectList() {
+        StringBuilder builder = new StringBuilder();
+        for (OccurrenceExportColumn column : ALL) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(column.expression);
+        }
+        return builder.toString();
+    }
+}
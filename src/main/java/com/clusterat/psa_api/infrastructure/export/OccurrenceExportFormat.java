@@ -0,0 +1,40 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+/**
+ * Output encodings supported by {@link OccurrenceExporter}.
+ *
+ * Both formats are built from independently encoded partition segments that can be
+ * concatenated byte-for-byte: gzip allows multiple members in one file and the columnar
+ * format is a header followed by self-describing row groups.
+ */
+public enum OccurrenceExportFormat {
+    CSV_GZIP("csv.gz", "application/gzip"),
+    COLUMNAR("psac", "application/octet-stream");
+
+    private final String fileExtension;
+    private final String contentType;
+
+    OccurrenceExportFormat(String fileExtension, String contentType) {
+        this.fileExtension = fileExtension;
+        this.contentType = contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static OccurrenceExportFormat fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV_GZIP;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "csv", "csv.gz", "csv_gzip" -> CSV_GZIP;
+            case "columnar", "psac" -> COLUMNAR;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + value);
+        };
+    }
+}
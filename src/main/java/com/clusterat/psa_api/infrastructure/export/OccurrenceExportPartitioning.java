@@ -0,0 +1,30 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+/**
+ * Column used to split an export into contiguous ranges that are read in parallel.
+ */
+public enum OccurrenceExportPartitioning {
+    ID("o.id"),
+    DATE_START("o.date_start");
+
+    private final String column;
+
+    OccurrenceExportPartitioning(String column) {
+        this.column = column;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public static OccurrenceExportPartitioning fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "id" -> ID;
+            case "datestart", "date_start" -> DATE_START;
+            default -> throw new IllegalArgumentException("Unsupported export partitioning: " + value);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for the occurrence export, e.g.
+ * {@code java -jar psa_api.jar --spring.profiles.active=export --psa.export.output=/data/occurrences.csv.gz}.
+ * The application exits once the file has been written.
+ */
+@Component
+@Profile("export")
+public class OccurrenceExportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceExportRunner.class);
+
+    private final OccurrenceExporter exporter;
+    private final ConfigurableApplicationContext context;
+    private final String format;
+    private final String partitionBy;
+    private final int partitions;
+    private final String output;
+
+    public OccurrenceExportRunner(OccurrenceExporter exporter,
+                                 ConfigurableApplicationContext context,
+                                 @Value("${psa.export.format:csv}") String format,
+                                 @Value("${psa.export.partition-by:id}") String partitionBy,
+                                 @Value("${psa.export.partitions:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int partitions,
+                                 @Value("${psa.export.output:}") String output) {
+        this.exporter = exporter;
+        this.context = context;
+        this.format = format;
+        this.partitionBy = partitionBy;
+        this.partitions = partitions;
+        this.output = output;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        OccurrenceExportFormat exportFormat = OccurrenceExportFormat.fromParameter(format);
+        Path target = Path.of(output.isBlank() ? "occurrences." + exportFormat.fileExtension() : output);
+        int exitCode = 0;
+        try {
+            exporter.exportToFile(exportFormat, OccurrenceExportPartitioning.fromParameter(partitionBy), partitions, target);
+        } catch (Exception e) {
+            log.error("Occurrence export to {} failed", target, e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
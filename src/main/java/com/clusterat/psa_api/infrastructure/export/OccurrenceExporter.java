@@ -0,0 +1,282 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bulk export of occurrences joined with address, city and state.
+ *
+ * The key range of the partitioning column is split into contiguous slices that are read
+ * concurrently on the {@link Workload#BULK} executor, each on its own connection from the
+ * bulk pool, so exports queue behind each other rather than take connections from requests.
+ * Every slice streams its result set straight into an encoded segment file; segments are
+ * then stitched into the target file with {@link FileChannel#transferTo}, which the HTTP
+ * endpoint sends as a file, or streamed in order as buffers.
+ */
+@Component
+public class OccurrenceExporter {
+    public static final int MAX_PARTITIONS = 16;
+
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceExporter.class);
+    private static final int FETCH_SIZE = 2_000;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String tablePrefix;
+    private final WorkloadExecutors workloads;
+
+    public OccurrenceExporter(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              WorkloadExecutors workloads,
+                              @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tablePrefix = schema == null || schema.isBlank() ? "" : schema.trim() + ".";
+        this.workloads = workloads;
+    }
+
+    /**
+     * Exports all occurrences into {@code target}, replacing it if it exists.
+     */
+    public Path exportToFile(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions, Path target) {
+        return export(format, partitioning, partitions, target).join();
+    }
+
+    /**
+     * Exports all occurrences into a temporary file and sends it as the response body with
+     * {@link ZeroCopyHttpOutputMessage#writeWith(Path, long, long)}, so the server hands the
+     * file to the socket without copying it through buffers. The body starts once the whole
+     * file is written; the file is deleted when the response completes.
+     */
+    public Mono<Void> exportToResponse(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions, ZeroCopyHttpOutputMessage response) {
+        return Mono.fromFuture(() -> exportToTempFile(format, partitioning, partitions))
+                .flatMap(path -> {
+                    long size = path.toFile().length();
+                    response.getHeaders().setContentLength(size);
+                    return response.writeWith(path, 0, size)
+                            .doFinally(signal -> deleteQuietly(path));
+                });
+    }
+
+    /**
+     * Streams an export as a sequence of buffers, for responses that cannot send files. Segments
+     * are read concurrently but emitted strictly in partition order, each as soon as it and all
+     * preceding segments are complete.
+     */
+    public Flux<DataBuffer> exportAsStream(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions, DataBufferFactory bufferFactory) {
+        return Mono.fromFuture(() -> workloads.supplyAsync(Workload.BULK, () -> Optional.ofNullable(findBounds(partitioning))))
+                .flatMapMany(bounds -> {
+                    List<CompletableFuture<Path>> segments = startSegments(format, partitioning, partitions, bounds.orElse(null));
+                    Mono<DataBuffer> header = Mono.fromCallable(() -> {
+                        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                        writeFileHeader(format, Channels.newChannel(bytes));
+                        return bufferFactory.wrap(bytes.toByteArray());
+                    });
+                    Flux<DataBuffer> body = Flux.fromIterable(segments)
+                            .concatMap(segment -> Mono.fromFuture(segment)
+                                    .flatMapMany(path -> DataBufferUtils.read(path, bufferFactory, STREAM_BUFFER_SIZE)
+                                            .doFinally(signal -> deleteQuietly(path))));
+                    return Flux.concat(header, body)
+                            .doFinally(signal -> segments.forEach(OccurrenceExporter::deleteWhenDone));
+                });
+    }
+
+    private CompletableFuture<Path> exportToTempFile(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions) {
+        return workloads.supplyAsync(Workload.BULK, () -> createTempFile(format))
+                .thenCompose(file -> export(format, partitioning, partitions, file)
+                        .whenComplete((path, error) -> {
+                            if (error != null) {
+                                deleteQuietly(file);
+                            }
+                        }));
+    }
+
+    /**
+     * Finds the bounds, reads the segments and stitches them into {@code target}, each step on
+     * the {@link Workload#BULK} executor, so neither the caller nor a bulk thread waits on
+     * another.
+     */
+    private CompletableFuture<Path> export(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions, Path target) {
+        return workloads.supplyAsync(Workload.BULK, () -> Optional.ofNullable(findBounds(partitioning)))
+                .thenCompose(bounds -> {
+                    List<CompletableFuture<Path>> segments = startSegments(format, partitioning, partitions, bounds.orElse(null));
+                    return CompletableFuture.allOf(segments.toArray(CompletableFuture[]::new))
+                            .thenCompose(ignored -> workloads.supplyAsync(Workload.BULK, () -> stitch(format, segments, target)))
+                            .whenComplete((path, error) -> segments.forEach(OccurrenceExporter::deleteWhenDone));
+                });
+    }
+
+    private static Path stitch(OccurrenceExportFormat format, List<CompletableFuture<Path>> segments, Path target) {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFileHeader(format, out);
+            for (CompletableFuture<Path> segment : segments) {
+                Path path = segment.join();
+                try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                Files.deleteIfExists(path);
+            }
+            log.info("Exported occurrences as {} into {} ({} bytes)", format, target, out.size());
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write export to " + target, e);
+        }
+    }
+
+    private List<CompletableFuture<Path>> startSegments(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, int partitions, long[] bounds) {
+        if (bounds == null) {
+            return List.of();
+        }
+        long lower = bounds[0];
+        long upperExclusive = bounds[1] + 1;
+        long span = upperExclusive - lower;
+        int slices = (int) Math.max(1, Math.min(clampPartitions(partitions), span));
+        long step = (span + slices - 1) / slices;
+
+        List<CompletableFuture<Path>> segments = new ArrayList<>(slices);
+        for (int i = 0; i < slices; i++) {
+            long from = lower + i * step;
+            long to = Math.min(upperExclusive, from + step);
+            segments.add(workloads.supplyAsync(Workload.BULK, () -> writeSegment(format, partitioning, from, to)));
+        }
+        log.info("Started occurrence export as {} with {} {}-partitions", format, slices, partitioning);
+        return segments;
+    }
+
+    private long[] findBounds(OccurrenceExportPartitioning partitioning) {
+        String sql = "SELECT MIN(" + partitioning.column() + "), MAX(" + partitioning.column() + ") FROM " + tablePrefix + "occurrences o";
+        return readOnlyTransaction.execute(status -> jdbcTemplate.query(sql, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            if (partitioning == OccurrenceExportPartitioning.DATE_START) {
+                Timestamp min = rs.getTimestamp(1);
+                Timestamp max = rs.getTimestamp(2);
+                return min == null ? null : new long[]{min.getTime(), max.getTime()};
+            }
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        }));
+    }
+
+    private static Path createTempFile(OccurrenceExportFormat format) {
+        try {
+            return Files.createTempFile("occurrence-export-", "." + format.fileExtension());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create export file", e);
+        }
+    }
+
+    private Path writeSegment(OccurrenceExportFormat format, OccurrenceExportPartitioning partitioning, long from, long to) {
+        String sql = "SELECT " + OccurrenceExportColumn.selectList()
+                + " FROM " + tablePrefix + "occurrences o"
+                + " JOIN " + tablePrefix + "addresses a ON a.id = o.address_id"
+                + " JOIN " + tablePrefix + "cities c ON c.id = a.city_id"
+                + " JOIN " + tablePrefix + "states s ON s.id = c.state_id"
+                + " WHERE " + partitioning.column() + " >= ? AND " + partitioning.column() + " < ?";
+        Path segment = createTempFile(format);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (OccurrenceRowEncoder encoder = newEncoder(format, segment)) {
+                    jdbcTemplate.query(sql, ps -> {
+                        if (partitioning == OccurrenceExportPartitioning.DATE_START) {
+                            ps.setTimestamp(1, new Timestamp(from));
+                            ps.setTimestamp(2, new Timestamp(to));
+                        } else {
+                            ps.setLong(1, from);
+                            ps.setLong(2, to);
+                        }
+                    }, rs -> {
+                        try {
+                            encoder.writeRow(rs);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(segment);
+            throw e;
+        }
+        return segment;
+    }
+
+    private static OccurrenceRowEncoder newEncoder(OccurrenceExportFormat format, Path segment) throws IOException {
+        FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return switch (format) {
+            case CSV_GZIP -> new CsvGzipRowEncoder(Channels.newOutputStream(channel));
+            case COLUMNAR -> new ColumnarRowEncoder(channel);
+        };
+    }
+
+    private static void writeFileHeader(OccurrenceExportFormat format, WritableByteChannel out) throws IOException {
+        switch (format) {
+            case CSV_GZIP -> {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                CsvGzipRowEncoder.writeHeader(bytes);
+                out.write(ByteBuffer.wrap(bytes.toByteArray()));
+            }
+            case COLUMNAR -> ColumnarRowEncoder.writeFileHeader(out);
+        }
+    }
+
+    static int clampPartitions(int partitions) {
+        return Math.max(1, Math.min(MAX_PARTITIONS, partitions));
+    }
+
+    private static void deleteWhenDone(CompletableFuture<Path> segment) {
+        segment.whenComplete((path, error) -> {
+            if (path != null) {
+                deleteQuietly(path);
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete export segment {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Encodes the current row of a {@link ResultSet} directly into an export segment.
+ * Implementations read column values by index and never materialize entities.
+ */
+interface OccurrenceRowEncoder extends AutoCloseable {
+    void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,30 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+/**
+ * Result of {@link IdempotencyStore#claim}. Only an {@link Outcome#ACQUIRED} claim carries
+ * an owner token, and only a {@link Outcome#REPLAY} carries a response.
+ */
+public record IdempotencyClaim(Outcome outcome, String owner, StoredResponse response) {
+
+    public enum Outcome {
+        /** The caller holds the key and must run the request, then complete or release it */
+        ACQUIRED,
+        /** The key already has a stored response */
+        REPLAY,
+        /** The key was first used with a different request body */
+        MISMATCH,
+        /** Another request with the key is still running after the wait */
+        IN_FLIGHT
+    }
+
+    static final IdempotencyClaim MISMATCH = new IdempotencyClaim(Outcome.MISMATCH, null, null);
+    static final IdempotencyClaim IN_FLIGHT = new IdempotencyClaim(Outcome.IN_FLIGHT, null, null);
+
+    static IdempotencyClaim acquired(String owner) {
+        return new IdempotencyClaim(Outcome.ACQUIRED, owner, null);
+    }
+
+    static IdempotencyClaim replay(StoredResponse response) {
+        return new IdempotencyClaim(Outcome.REPLAY, null, response);
+    }
+}
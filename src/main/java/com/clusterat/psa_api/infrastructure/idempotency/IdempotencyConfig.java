@@ -0,0 +1,35 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.idempotency.backend", havingValue = "local", matchIfMissing = true)
+    public IdempotencyStore localIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(
+                properties.getLease(), properties.getTtl(), properties.getWait());
+        Gauge.builder("psa.idempotency.local_keys", store, LocalIdempotencyStore::size)
+                .description("Idempotency keys currently held in memory")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.idempotency.backend", havingValue = "redis")
+    public IdempotencyStore redisIdempotencyStore(ReactiveStringRedisTemplate redisTemplate,
+                                                  ObjectMapper objectMapper,
+                                                  IdempotencyProperties properties,
+                                                  MeterRegistry meterRegistry) {
+        return new RedisIdempotencyStore(redisTemplate, objectMapper, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,170 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import com.clusterat.psa_api.infrastructure.web.BodyCapturingResponseDecorator;
+import com.clusterat.psa_api.infrastructure.web.WebFilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Makes any {@code POST} carrying an {@code Idempotency-Key} header safe to retry. The first
+ * request with a key runs normally and its successful response is stored; retries with the
+ * same key and body get that response back without reaching the endpoint, marked with
+ * {@code Idempotent-Replayed: true}. A retry arriving while the first request still runs
+ * waits for it instead of running alongside it.
+ *
+ * Keys are scoped to the principal and path. Reusing a key with a different body is
+ * rejected with 422. Only 2xx responses are stored: the endpoints answer most failures,
+ * transient ones included, with 400, so any other outcome releases the key and the next
+ * retry runs again.
+ */
+@Component
+@Order(WebFilterOrder.IDEMPOTENCY)
+public class IdempotencyFilter implements WebFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private final IdempotencyStore store;
+    private final boolean enabled;
+    private final Map<IdempotencyClaim.Outcome, Counter> outcomes = new EnumMap<>(IdempotencyClaim.Outcome.class);
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.enabled = properties.isEnabled();
+        for (IdempotencyClaim.Outcome outcome : IdempotencyClaim.Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("psa.idempotency.requests")
+                    .description("Requests with an Idempotency-Key by claim outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String idempotencyKey = request.getHeaders().getFirst(HEADER);
+        if (!enabled || request.getMethod() != HttpMethod.POST || idempotencyKey == null) {
+            return chain.filter(exchange);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return reject(exchange.getResponse(), HttpStatus.BAD_REQUEST);
+        }
+
+        return DataBufferUtils.join(request.getBody())
+                .map(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+                    return bytes;
+                })
+                .defaultIfEmpty(EMPTY)
+                .flatMap(body -> exchange.getPrincipal()
+                        .map(principal -> "user:" + principal.getName())
+                        .defaultIfEmpty("anonymous")
+                        .flatMap(caller -> {
+                            String key = caller + ":" + request.getPath().pathWithinApplication().value() + ":" + idempotencyKey;
+                            return store.claim(key, fingerprint(body))
+                                    .flatMap(claim -> {
+                                        outcomes.get(claim.outcome()).increment();
+                                        return switch (claim.outcome()) {
+                                            case ACQUIRED -> execute(exchange, chain, body, key, claim.owner());
+                                            case REPLAY -> replay(exchange.getResponse(), claim.response());
+                                            case MISMATCH -> reject(exchange.getResponse(), HttpStatus.UNPROCESSABLE_ENTITY);
+                                            case IN_FLIGHT -> {
+                                                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                                                yield reject(exchange.getResponse(), HttpStatus.CONFLICT);
+                                            }
+                                        };
+                                    });
+                        }));
+    }
+
+    private Mono<Void> execute(ServerWebExchange exchange, WebFilterChain chain, byte[] body, String key, String owner) {
+        ServerHttpResponse response = exchange.getResponse();
+        AtomicReference<byte[]> written = new AtomicReference<>(EMPTY);
+        ServerHttpRequest replayableRequest = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(response.bufferFactory().wrap(body)));
+            }
+        };
+        ServerWebExchange mutated = exchange.mutate()
+                .request(replayableRequest)
+                .response(new BodyCapturingResponseDecorator(response, written::set))
+                .build();
+
+        return chain.filter(mutated)
+                .then(Mono.defer(() -> {
+                    HttpStatusCode status = response.getStatusCode();
+                    if (status == null || !status.is2xxSuccessful()) {
+                        return store.release(key, owner);
+                    }
+                    HttpHeaders headers = response.getHeaders();
+                    MediaType contentType = headers.getContentType();
+                    return store.complete(key, owner, new StoredResponse(status.value(),
+                            contentType != null ? contentType.toString() : null,
+                            headers.getFirst(HttpHeaders.LOCATION),
+                            written.get()));
+                }))
+                .onErrorResume(e -> store.release(key, owner).then(Mono.error(e)))
+                .doOnCancel(() -> store.release(key, owner).subscribe());
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, StoredResponse stored) {
+        response.setStatusCode(HttpStatusCode.valueOf(stored.status()));
+        HttpHeaders headers = response.getHeaders();
+        if (stored.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, stored.contentType());
+        }
+        if (stored.location() != null) {
+            headers.set(HttpHeaders.LOCATION, stored.location());
+        }
+        headers.set(REPLAYED_HEADER, "true");
+        headers.setContentLength(stored.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(stored.body())));
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status) {
+        log.debug("Rejecting idempotent request with {}", status);
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} handling under {@code psa.idempotency}. A key is held for
+ * {@code lease} while its first request runs, and its response is kept for {@code ttl}
+ * afterwards. A retry arriving while the first request runs waits up to {@code wait} for
+ * its outcome before being answered with 409.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.idempotency")
+public class IdempotencyProperties {
+
+    public enum Backend { LOCAL, REDIS }
+
+    private boolean enabled = true;
+    private Backend backend = Backend.LOCAL;
+    private String redisKeyPrefix = "psa:idempotency:";
+    private Duration ttl = Duration.ofHours(24);
+    private Duration lease = Duration.ofSeconds(30);
+    private Duration wait = Duration.ofSeconds(10);
+    private Duration redisPollInterval = Duration.ofMillis(50);
+}
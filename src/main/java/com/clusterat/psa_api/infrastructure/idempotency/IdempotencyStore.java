@@ -0,0 +1,22 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyStore {
+    /**
+     * Claims {@code key} for a request whose body hashes to {@code fingerprint}. When another
+     * request holds the key, waits for it to finish and resolves to its stored response, or
+     * claims the key again if that request released it.
+     */
+    Mono<IdempotencyClaim> claim(String key, String fingerprint);
+
+    /**
+     * Stores the response of the request that holds {@code key} and wakes up waiting retries.
+     */
+    Mono<Void> complete(String key, String owner, StoredResponse response);
+
+    /**
+     * Gives up {@code key} without a response, so that the next request with it runs again.
+     */
+    Mono<Void> release(String key, String owner);
+}
@@ -0,0 +1,122 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process idempotency keys for single-node deployments. Each key maps to an entry whose
+ * future completes with the stored response, or with null when the owner releases it, so a
+ * concurrent retry simply waits on the future instead of polling.
+ *
+ * An entry expires {@code lease} after it was claimed while its request runs and
+ * {@code ttl} after it was completed. Expired entries are swept periodically.
+ */
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private static final int SWEEP_EVERY = 4096;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong claims = new AtomicLong();
+    private final long leaseNanos;
+    private final long ttlNanos;
+    private final Duration wait;
+    private final LongSupplier nanoClock;
+
+    public LocalIdempotencyStore(Duration lease, Duration ttl, Duration wait) {
+        this(lease, ttl, wait, System::nanoTime);
+    }
+
+    LocalIdempotencyStore(Duration lease, Duration ttl, Duration wait, LongSupplier nanoClock) {
+        this.leaseNanos = lease.toNanos();
+        this.ttlNanos = ttl.toNanos();
+        this.wait = wait;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Mono<IdempotencyClaim> claim(String key, String fingerprint) {
+        return Mono.defer(() -> {
+            long now = nanoClock.getAsLong();
+            if (claims.incrementAndGet() % SWEEP_EVERY == 0) {
+                sweep(now);
+            }
+            while (true) {
+                Entry fresh = new Entry(UUID.randomUUID().toString(), fingerprint, now + leaseNanos);
+                Entry existing = entries.putIfAbsent(key, fresh);
+                if (existing == null) {
+                    return Mono.just(IdempotencyClaim.acquired(fresh.owner));
+                }
+                if (existing.expiresAt - now <= 0) {
+                    if (entries.replace(key, existing, fresh)) {
+                        existing.outcome.complete(null);
+                        return Mono.just(IdempotencyClaim.acquired(fresh.owner));
+                    }
+                    continue;
+                }
+                if (!existing.fingerprint.equals(fingerprint)) {
+                    return Mono.just(IdempotencyClaim.MISMATCH);
+                }
+                return Mono.fromFuture(existing.outcome, true)
+                        .timeout(wait)
+                        .map(IdempotencyClaim::replay)
+                        // An empty outcome means the owner released the key: claim it again
+                        .switchIfEmpty(Mono.defer(() -> claim(key, fingerprint)))
+                        .onErrorResume(TimeoutException.class, e -> Mono.just(IdempotencyClaim.IN_FLIGHT));
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> complete(String key, String owner, StoredResponse response) {
+        return Mono.fromRunnable(() -> {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.owner.equals(owner)) {
+                entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+                entry.outcome.complete(response);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> release(String key, String owner) {
+        return Mono.fromRunnable(() -> {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.owner.equals(owner) && !entry.outcome.isDone() && entries.remove(key, entry)) {
+                entry.outcome.complete(null);
+            }
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void sweep(long now) {
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt - now <= 0 && entries.remove(key, entry)) {
+                entry.outcome.complete(null);
+            }
+        });
+    }
+
+    private static final class Entry {
+        final String owner;
+        final String fingerprint;
+        final CompletableFuture<StoredResponse> outcome = new CompletableFuture<>();
+        volatile long expiresAt;
+
+        Entry(String owner, String fingerprint, long expiresAt) {
+            this.owner = owner;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cluster-wide idempotency keys. Each key is a Redis hash holding the owner token and the
+ * request fingerprint, plus the serialized response once the owner completes it. Claiming,
+ * completing and releasing are single Lua scripts, so only the current owner can store a
+ * response or give the key up, and a key whose owner died frees itself when its lease
+ * expires.
+ *
+ * Retries arriving while the first request runs poll the key until it is completed or
+ * released. If Redis is unreachable requests run without deduplication and are counted.
+ */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisIdempotencyStore.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'fingerprint', ARGV[2])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return {'acquired'}
+            end
+            local held = redis.call('HMGET', KEYS[1], 'fingerprint', 'response')
+            return {'held', held[1] or '', held[2] or ''}
+            """, List.class);
+
+    private static final RedisScript<Long> COMPLETE = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'response', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] or redis.call('HEXISTS', KEYS[1], 'response') == 1 then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Counter backendErrors;
+
+    public RedisIdempotencyStore(ReactiveStringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.backendErrors = Counter.builder("psa.idempotency.backend_errors")
+                .description("Requests run without deduplication because Redis could not be reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<IdempotencyClaim> claim(String key, String fingerprint) {
+        long deadline = System.nanoTime() + properties.getWait().toNanos();
+        return claim(key, fingerprint, deadline);
+    }
+
+    private Mono<IdempotencyClaim> claim(String key, String fingerprint, long deadline) {
+        String owner = UUID.randomUUID().toString();
+        return redisTemplate.execute(CLAIM, List.of(properties.getRedisKeyPrefix() + key),
+                        List.of(owner, fingerprint, Long.toString(properties.getLease().toMillis())))
+                .next()
+                .flatMap(result -> {
+                    if ("acquired".equals(result.get(0))) {
+                        return Mono.just(IdempotencyClaim.acquired(owner));
+                    }
+                    if (!fingerprint.equals(result.get(1))) {
+                        return Mono.just(IdempotencyClaim.MISMATCH);
+                    }
+                    String response = (String) result.get(2);
+                    if (!response.isEmpty()) {
+                        return Mono.just(IdempotencyClaim.replay(read(response)));
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        return Mono.just(IdempotencyClaim.IN_FLIGHT);
+                    }
+                    return Mono.delay(properties.getRedisPollInterval())
+                            .then(Mono.defer(() -> claim(key, fingerprint, deadline)));
+                })
+                .onErrorResume(e -> {
+                    log.warn("Idempotency claim for {} failed, running request without it: {}", key, e.getMessage());
+                    backendErrors.increment();
+                    return Mono.just(IdempotencyClaim.acquired(owner));
+                });
+    }
+
+    @Override
+    public Mono<Void> complete(String key, String owner, StoredResponse response) {
+        return redisTemplate.execute(COMPLETE, List.of(properties.getRedisKeyPrefix() + key),
+                        List.of(owner, write(response), Long.toString(properties.getTtl().toMillis())))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Storing idempotent response for {} failed: {}", key, e.getMessage());
+                    backendErrors.increment();
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> release(String key, String owner) {
+        return redisTemplate.execute(RELEASE, List.of(properties.getRedisKeyPrefix() + key), List.of(owner))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Releasing idempotency key {} failed, it frees itself after the lease: {}", key, e.getMessage());
+                    backendErrors.increment();
+                    return Mono.empty();
+                });
+    }
+
+    private String write(StoredResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize stored response", e);
+        }
+    }
+
+    private StoredResponse read(String response) {
+        try {
+            return objectMapper.readValue(response, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read stored response", e);
+        }
+    }
+}
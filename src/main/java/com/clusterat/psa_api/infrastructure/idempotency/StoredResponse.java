@@ -0,0 +1,8 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+/**
+ * The parts of a response replayed for a repeated {@code Idempotency-Key}. Header values
+ * are null when the original response did not carry them.
+ */
+public record StoredResponse(int status, String contentType, String location, byte[] body) {
+}
@@ -0,0 +1,31 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed events to a local file as JSON lines, one write per batch. Meant for
+ * audit trails and for feeding log shippers.
+ */
+public class FileOccurrenceEventSink implements OccurrenceEventSink {
+
+    private final Path path;
+
+    public FileOccurrenceEventSink(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> events) {
+        try {
+            Files.write(path, events.stream().map(OutboxEvent::payload).toList(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append occurrence events to " + path, e);
+        }
+    }
+}
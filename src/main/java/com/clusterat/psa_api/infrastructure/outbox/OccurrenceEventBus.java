@@ -0,0 +1,24 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-process fan-out of relayed events to every {@link OccurrenceEventSink} bean.
+ */
+@Component
+public class OccurrenceEventBus {
+
+    private final List<OccurrenceEventSink> sinks;
+
+    public OccurrenceEventBus(List<OccurrenceEventSink> sinks) {
+        this.sinks = sinks;
+    }
+
+    public void publish(List<OutboxEvent> events) {
+        for (OccurrenceEventSink sink : sinks) {
+            sink.deliver(events);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed occurrence events. Delivery is at least once: when any sink fails,
+ * the whole batch stays in the outbox and is delivered to every sink again.
+ */
+public interface OccurrenceEventSink {
+    void deliver(List<OutboxEvent> events);
+}
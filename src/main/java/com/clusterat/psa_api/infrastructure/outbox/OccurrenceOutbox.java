@@ -0,0 +1,103 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code occurrence_outbox} table: repository adapters append events inside the
+ * transaction of the change, and {@link OccurrenceOutboxRelay} claims and removes them in
+ * batches.
+ *
+ * Claims use {@code FOR UPDATE SKIP LOCKED}, so relays on several replicas take disjoint
+ * batches without waiting on each other.
+ */
+@Component
+public class OccurrenceOutbox {
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String claim;
+    private final String remove;
+    private final Semaphore committed = new Semaphore(0);
+
+    public OccurrenceOutbox(EntityManager entityManager, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        String table = (schema == null || schema.isBlank() ? "" : schema.trim() + ".") + "occurrence_outbox";
+        this.claim = "SELECT id, payload FROM " + table + " ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED";
+        this.remove = "DELETE FROM " + table + " WHERE id = ?";
+    }
+
+    /**
+     * Stores {@code event} in the current transaction, which must exist: an event written on
+     * its own could be delivered for a change that was rolled back.
+     */
+    public void append(OccurrenceEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside the transaction of the change");
+        }
+        entityManager.persist(new OccurrenceOutboxMessage(event.occurrenceId(), event.type().name(), write(event)));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committed.release();
+            }
+        });
+    }
+
+    /**
+     * Locks and returns up to {@code limit} of the oldest events no other transaction holds.
+     * They stay locked until the calling transaction ends.
+     */
+    public List<OutboxEvent> claim(int limit) {
+        return jdbcTemplate.query(claim, (row, index) -> {
+            String payload = row.getString("payload");
+            return new OutboxEvent(row.getLong("id"), read(payload), payload);
+        }, limit);
+    }
+
+    public void remove(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(remove, events.stream().map(event -> new Object[]{event.id()}).toList());
+    }
+
+    /**
+     * Waits until a local transaction appending events has committed or {@code timeout} has
+     * passed, so the relay picks up local changes at once and only polls for other replicas.
+     */
+    public void awaitAppend(Duration timeout) throws InterruptedException {
+        if (committed.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            committed.drainPermits();
+        }
+    }
+
+    private String write(OccurrenceEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event for occurrence ID " + event.occurrenceId(), e);
+        }
+    }
+
+    private OccurrenceEvent read(String payload) {
+        try {
+            return objectMapper.readValue(payload, OccurrenceEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload: " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Pending occurrence event, written in the transaction of the change it describes and
+ * removed once {@link OccurrenceOutboxRelay} has delivered it.
+ */
+@Entity
+@Table(name = "occurrence_outbox")
+@Data
+@NoArgsConstructor
+public class OccurrenceOutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(nullable = false)
+    private int occurrenceId;
+
+    @Column(nullable = false, length = 16)
+    private String eventType;
+
+    @Column(nullable = false, length = 8192)
+    private String payload;
+
+    @Column(nullable = false)
+    private Date createdAt;
+
+    OccurrenceOutboxMessage(int occurrenceId, String eventType, String payload) {
+        this.occurrenceId = occurrenceId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = new Date();
+    }
+}
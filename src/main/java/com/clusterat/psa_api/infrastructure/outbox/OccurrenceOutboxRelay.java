@@ -0,0 +1,115 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves events from the outbox to the {@link OccurrenceEventBus}.
+ *
+ * Each round claims up to {@code psa.outbox.batch-size} events, delivers them and deletes
+ * them in one transaction, so a failed delivery leaves the batch for the next round. Full
+ * batches are followed at once by the next round. Otherwise the relay sleeps until a local
+ * commit appends events or {@code psa.outbox.poll-interval} passes. Under load, one query
+ * therefore moves a whole batch, and an idle outbox costs one query per interval.
+ */
+@Component
+@ConditionalOnProperty(name = "psa.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OccurrenceOutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceOutboxRelay.class);
+
+    private final OccurrenceOutbox outbox;
+    private final OccurrenceEventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final Counter relayed;
+    private final Counter failures;
+    private final DistributionSummary batches;
+    private volatile Thread worker;
+
+    public OccurrenceOutboxRelay(OccurrenceOutbox outbox,
+                                 OccurrenceEventBus eventBus,
+                                 TransactionTemplate transactionTemplate,
+                                 OutboxProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.eventBus = eventBus;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.relayed = meterRegistry.counter("psa.outbox.relayed");
+        this.failures = meterRegistry.counter("psa.outbox.failures");
+        this.batches = meterRegistry.summary("psa.outbox.batch_size");
+    }
+
+    @Override
+    public synchronized void start() {
+        worker = new Thread(Workload.BACKGROUND.bind(this::run), "occurrence-outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread running = worker;
+        worker = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    /**
+     * Relays one batch and returns how many events it held.
+     */
+    int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outbox.claim(properties.getBatchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            eventBus.publish(events);
+            outbox.remove(events);
+            return events.size();
+        });
+        int size = count == null ? 0 : count;
+        if (size > 0) {
+            relayed.increment(size);
+            batches.record(size);
+        }
+        return size;
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            try {
+                if (relayBatch() < properties.getBatchSize()) {
+                    outbox.awaitAppend(properties.getPollInterval());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Failed to relay occurrence outbox batch, retrying in {}", properties.getPollInterval(), e);
+                try {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    /**
+     * Also on whenever the live stream reads its events back from Redis.
+     */
+    @Bean
+    @ConditionalOnExpression("${psa.outbox.redis.enabled:false} or '${psa.events.backend:local}'.equalsIgnoreCase('redis')")
+    public OccurrenceEventSink redisStreamOccurrenceEventSink(StringRedisTemplate redisTemplate, OutboxProperties properties) {
+        return new RedisStreamOccurrenceEventSink(redisTemplate,
+                properties.getRedis().getStream(), properties.getRedis().getMaxLength());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.outbox.file.path")
+    public OccurrenceEventSink fileOccurrenceEventSink(OutboxProperties properties) {
+        return new FileOccurrenceEventSink(Path.of(properties.getFile().getPath()));
+    }
+}
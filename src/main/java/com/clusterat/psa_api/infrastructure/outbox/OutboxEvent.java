@@ -0,0 +1,10 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+
+/**
+ * Event claimed from the outbox, along with its row id and the JSON it was stored as so
+ * sinks that forward text do not serialize it again.
+ */
+public record OutboxEvent(long id, OccurrenceEvent event, String payload) {
+}
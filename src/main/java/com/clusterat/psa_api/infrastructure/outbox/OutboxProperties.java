@@ -0,0 +1,33 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay settings under {@code psa.outbox}, and the optional sinks it feeds besides
+ * the live occurrence stream.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.outbox")
+public class OutboxProperties {
+
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Redis redis = new Redis();
+    private File file = new File();
+
+    @Data
+    public static class Redis {
+        private boolean enabled = false;
+        private String stream = "psa:occurrence-events";
+        private long maxLength = 100_000;
+    }
+
+    @Data
+    public static class File {
+        private String path;
+    }
+}
@@ -0,0 +1,42 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends relayed events to a Redis stream for consumers outside this service, one
+ * pipelined round trip per batch. The stream is trimmed to about
+ * {@code psa.outbox.redis.max-length} entries.
+ */
+public class RedisStreamOccurrenceEventSink implements OccurrenceEventSink {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String stream;
+    private final XAddOptions options;
+
+    public RedisStreamOccurrenceEventSink(StringRedisTemplate redisTemplate, String stream, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.stream = stream;
+        this.options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (OutboxEvent event : events) {
+                redis.xAdd(StreamRecords.string(Map.of(
+                        "type", event.event().type().name(),
+                        "occurrenceId", String.valueOf(event.event().occurrenceId()),
+                        "payload", event.payload())).withStreamKey(stream), options);
+            }
+            return null;
+        });
+    }
+}
@@ -2,53 +2,100 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.IAddressRepository;
 import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class AddressRepository implements IAddressRepository {
+    private static final String TABLE = "addresses";
+
     private final SpringDataJpaAddressRepository jpaRepository;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, AddressEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<AddressEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<AddressEntity>>> listLoads;
 
-    public AddressRepository(SpringDataJpaAddressRepository jpaRepository) {
+    public AddressRepository(SpringDataJpaAddressRepository jpaRepository, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("addresses.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("addresses.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("addresses", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<AddressEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<AddressEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, AddressEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<List<Optional<AddressEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<AddressEntity> AddAsync(AddressEntity address) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(address));
+        return workloads.supplyAsync(() -> jpaRepository.save(address))
+                .whenComplete((saved, error) -> forgetLoads(address.getId()));
     }
 
     @Override
     public CompletableFuture<AddressEntity> UpdateAsync(AddressEntity address) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(address));
+        return workloads.supplyAsync(() -> jpaRepository.save(address))
+                .whenComplete((saved, error) -> forgetLoads(address.getId()));
     }
 
     @Override
     public CompletableFuture<AddressEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return workloads.supplyAsync(() -> {
             Optional<AddressEntity> address = jpaRepository.findById(id);
             if (address.isPresent()) {
                 jpaRepository.deleteById(id);
                 return address.get();
             }
             throw new RuntimeException("Address not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id));
+    }
+
+    private Map<Integer, AddressEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(AddressEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
 }
\ No newline at end of file
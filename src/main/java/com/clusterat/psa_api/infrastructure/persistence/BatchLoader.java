@@ -0,0 +1,137 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collects single-key lookups arriving within a short window and resolves them with one
+ * multi-key query, in the style of a DataLoader. A batch is dispatched when the window
+ * elapses or as soon as {@code maxBatchSize} keys are waiting, whichever comes first. Each
+ * caller still gets its own future, completed with an empty {@link Optional} when the key
+ * was not found. When the same key is requested more than once in a batch, every caller
+ * after the first receives the value through {@code forDuplicate}. When the executor refuses
+ * a dispatch, the lookups waiting for it fail with its {@link RejectedExecutionException}.
+ */
+final class BatchLoader<K, V> {
+
+    static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+    static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private record Pending<K, V>(K key, CompletableFuture<Optional<V>> result) {
+    }
+
+    private final Function<List<K>, Map<K, V>> batchFunction;
+    private final UnaryOperator<V> forDuplicate;
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+    private final Executor executor;
+    private final Queue<Pending<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final DistributionSummary batchSizes;
+
+    BatchLoader(String name, Function<List<K>, Map<K, V>> batchFunction, UnaryOperator<V> forDuplicate,
+                Executor executor, MeterRegistry meterRegistry) {
+        this(name, batchFunction, forDuplicate, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE,
+                executor, meterRegistry);
+    }
+
+    BatchLoader(String name, Function<List<K>, Map<K, V>> batchFunction, UnaryOperator<V> forDuplicate,
+                Duration window, int maxBatchSize, Executor executor, MeterRegistry meterRegistry) {
+        this.batchFunction = batchFunction;
+        this.forDuplicate = forDuplicate;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, this::handOff);
+        this.batchSizes = DistributionSummary.builder("psa.batch_loader.batch_size")
+                .description("Keys resolved per multi-key query")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    CompletableFuture<Optional<V>> load(K key) {
+        CompletableFuture<Optional<V>> result = new CompletableFuture<>();
+        queue.add(new Pending<>(key, result));
+        if (queued.incrementAndGet() >= maxBatchSize) {
+            handOff(this::dispatch);
+        } else if (scheduled.compareAndSet(false, true)) {
+            delayedExecutor.execute(this::dispatch);
+        }
+        return result;
+    }
+
+    // The delayed executor drops a refused task silently, so both paths hand dispatches over here
+    private void handOff(Runnable dispatch) {
+        try {
+            executor.execute(dispatch);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            Pending<K, V> pending;
+            while ((pending = queue.poll()) != null) {
+                queued.decrementAndGet();
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void dispatch() {
+        // Clear the flag before draining: anything enqueued after the drain schedules its own batch
+        scheduled.set(false);
+        List<Pending<K, V>> batch = new ArrayList<>();
+        Pending<K, V> pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        queued.addAndGet(-batch.size());
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            delayedExecutor.execute(this::dispatch);
+        }
+        resolve(batch);
+    }
+
+    private void resolve(List<Pending<K, V>> batch) {
+        LinkedHashSet<K> keys = new LinkedHashSet<>();
+        for (Pending<K, V> pending : batch) {
+            keys.add(pending.key());
+        }
+        batchSizes.record(keys.size());
+
+        Map<K, V> found;
+        try {
+            found = batchFunction.apply(new ArrayList<>(keys));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        Set<K> handedOut = new HashSet<>();
+        for (Pending<K, V> pending : batch) {
+            V value = found.get(pending.key());
+            if (value != null && !handedOut.add(pending.key())) {
+                value = forDuplicate.apply(value);
+            }
+            pending.result().complete(Optional.ofNullable(value));
+        }
+    }
+}
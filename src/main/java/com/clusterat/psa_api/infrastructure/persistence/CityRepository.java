@@ -2,58 +2,108 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.ICityRepository;
 import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class CityRepository implements ICityRepository {
+    private static final String TABLE = "cities";
+
     private final SpringDataJpaCityRepository jpaRepository;
+    private final TableVersions tableVersions;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, CityEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<CityEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<CityEntity>>> listLoads;
 
-    public CityRepository(SpringDataJpaCityRepository jpaRepository) {
+    public CityRepository(SpringDataJpaCityRepository jpaRepository, TableVersions tableVersions, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.tableVersions = tableVersions;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("cities.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("cities.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("cities", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<CityEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<CityEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, CityEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<Optional<CityEntity>> GetByIbgeCodeAsync(String ibgeCode) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findByIbgeCode(ibgeCode));
+        return workloads.supplyAsync(() -> readRouting.onReplica(TABLE, () -> jpaRepository.findByIbgeCode(ibgeCode)));
     }
 
     @Override
     public CompletableFuture<List<Optional<CityEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<CityEntity> AddAsync(CityEntity city) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(city));
+        return tableVersions.bumpAfter(TableVersions.CITIES, workloads.supplyAsync(() -> jpaRepository.save(city))
+                .whenComplete((saved, error) -> forgetLoads(city.getId())));
     }
 
     @Override
     public CompletableFuture<CityEntity> UpdateAsync(CityEntity city) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(city));
+        return tableVersions.bumpAfter(TableVersions.CITIES, workloads.supplyAsync(() -> jpaRepository.save(city))
+                .whenComplete((saved, error) -> forgetLoads(city.getId())));
     }
 
     @Override
     public CompletableFuture<CityEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return tableVersions.bumpAfter(TableVersions.CITIES, workloads.supplyAsync(() -> {
             Optional<CityEntity> city = jpaRepository.findById(id);
             if (city.isPresent()) {
                 jpaRepository.deleteById(id);
                 return city.get();
             }
             throw new RuntimeException("City not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id)));
+    }
+
+    private Map<Integer, CityEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(CityEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
 }
\ No newline at end of file
@@ -2,58 +2,108 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.ICountryRepository;
 import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class CountryRepository implements ICountryRepository {
+    private static final String TABLE = "countries";
+
     private final SpringDataJpaCountryRepository jpaRepository;
+    private final TableVersions tableVersions;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, CountryEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<CountryEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<CountryEntity>>> listLoads;
 
-    public CountryRepository(SpringDataJpaCountryRepository jpaRepository) {
+    public CountryRepository(SpringDataJpaCountryRepository jpaRepository, TableVersions tableVersions, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.tableVersions = tableVersions;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("countries.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("countries.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("countries", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<CountryEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<CountryEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, CountryEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<Optional<CountryEntity>> GetByIsoCodeAsync(String isoCode) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findByIsoCode(isoCode));
+        return workloads.supplyAsync(() -> readRouting.onReplica(TABLE, () -> jpaRepository.findByIsoCode(isoCode)));
     }
 
     @Override
     public CompletableFuture<List<Optional<CountryEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<CountryEntity> AddAsync(CountryEntity country) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(country));
+        return tableVersions.bumpAfter(TableVersions.COUNTRIES, workloads.supplyAsync(() -> jpaRepository.save(country))
+                .whenComplete((saved, error) -> forgetLoads(country.getId())));
     }
 
     @Override
     public CompletableFuture<CountryEntity> UpdateAsync(CountryEntity country) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(country));
+        return tableVersions.bumpAfter(TableVersions.COUNTRIES, workloads.supplyAsync(() -> jpaRepository.save(country))
+                .whenComplete((saved, error) -> forgetLoads(country.getId())));
     }
 
     @Override
     public CompletableFuture<CountryEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return tableVersions.bumpAfter(TableVersions.COUNTRIES, workloads.supplyAsync(() -> {
             Optional<CountryEntity> country = jpaRepository.findById(id);
             if (country.isPresent()) {
                 jpaRepository.deleteById(id);
                 return country.get();
             }
             throw new RuntimeException("Country not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id)));
+    }
+
+    private Map<Integer, CountryEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(CountryEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
 }
\ No newline at end of file
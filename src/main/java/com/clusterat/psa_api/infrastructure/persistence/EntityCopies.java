@@ -0,0 +1,33 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import org.springframework.beans.BeanUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shallow copies of loaded entities, handed to callers that share a coalesced read so each
+ * of them can modify its own instance. Associations are copied by reference.
+ */
+final class EntityCopies {
+
+    private EntityCopies() {
+    }
+
+    static <T> Optional<T> copyOf(Optional<T> entity) {
+        return entity.map(EntityCopies::shallowCopy);
+    }
+
+    static <T> List<Optional<T>> copyAll(List<Optional<T>> entities) {
+        return entities.stream()
+                .map(EntityCopies::copyOf)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T shallowCopy(T entity) {
+        T copy = BeanUtils.instantiateClass((Class<T>) entity.getClass());
+        BeanUtils.copyProperties(entity, copy);
+        return copy;
+    }
+}
@@ -0,0 +1,155 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Collects single writes arriving within a short window and commits them in one
+ * transaction, the write-side counterpart of {@link BatchLoader}. A batch is flushed when
+ * the window elapses or as soon as {@code maxBatchSize} writes are waiting, whichever comes
+ * first, and every caller's future completes only once its batch has committed.
+ *
+ * Batches are committed one at a time, so writes arriving during a commit gather into the
+ * next batch and batches grow with the load. Pending writes wait in a bounded
+ * {@link MpscRingBuffer}; when it is full, the write is refused with a
+ * {@link RejectedExecutionException} instead of queueing without limit. When the executor
+ * refuses a flush, the writes waiting for it are taken out of the queue and fail the same
+ * way, so a refused write is never committed later. When a batch fails, its writes are
+ * retried one by one so a single bad row only fails its own caller.
+ */
+final class GroupCommitter<T> {
+
+    private record Pending<T>(T item, CompletableFuture<T> result) {
+    }
+
+    private final Function<List<T>, List<T>> commitFunction;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final Executor delayedExecutor;
+    private final MpscRingBuffer<Pending<T>> pending;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean committing = new AtomicBoolean();
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+
+    GroupCommitter(String name, Function<List<T>, List<T>> commitFunction, int capacity, int maxBatchSize,
+                   Duration window, Executor executor, MeterRegistry meterRegistry) {
+        this.commitFunction = commitFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, this::handOff);
+        this.pending = new MpscRingBuffer<>(capacity);
+        this.batchSizes = DistributionSummary.builder("psa.group_commit.batch_size")
+                .description("Writes committed per transaction")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("psa.group_commit.rejected")
+                .description("Writes refused because the queue or the executor was full")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("psa.group_commit.queued", pending, MpscRingBuffer::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    CompletableFuture<T> submit(T item) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (!pending.offer(new Pending<>(item, result))) {
+            rejected.increment();
+            result.completeExceptionally(new RejectedExecutionException(
+                    "Group commit queue is full (" + pending.capacity() + " writes pending)"));
+            return result;
+        }
+        if (pending.size() >= maxBatchSize) {
+            handOff(this::flush);
+        } else if (scheduled.compareAndSet(false, true)) {
+            delayedExecutor.execute(this::flush);
+        }
+        return result;
+    }
+
+    void flush() {
+        scheduled.set(false);
+        // The committing flag makes this the only consumer; a flush arriving meanwhile leaves
+        // its writes to the loop below or to the flush scheduled after it
+        if (!committing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Pending<T>> batch;
+            do {
+                batch = drain();
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } while (batch.size() == maxBatchSize);
+        } finally {
+            committing.set(false);
+        }
+        if (pending.size() > 0 && scheduled.compareAndSet(false, true)) {
+            delayedExecutor.execute(this::flush);
+        }
+    }
+
+    // The delayed executor drops a refused task silently, so both paths hand flushes over here
+    private void handOff(Runnable flush) {
+        try {
+            executor.execute(flush);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            // Only the committing thread may poll; if a commit is running, it schedules another
+            // flush for what is left once it is done
+            if (!committing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Pending<T> refused;
+                while ((refused = pending.poll()) != null) {
+                    rejected.increment();
+                    refused.result().completeExceptionally(e);
+                }
+            } finally {
+                committing.set(false);
+            }
+        }
+    }
+
+    private List<Pending<T>> drain() {
+        List<Pending<T>> batch = new ArrayList<>();
+        Pending<T> next;
+        while (batch.size() < maxBatchSize && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void commit(List<Pending<T>> batch) {
+        batchSizes.record(batch.size());
+        List<T> committed;
+        try {
+            committed = commitFunction.apply(batch.stream().map(Pending::item).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            batch.forEach(single -> commit(List.of(single)));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(committed.get(i));
+        }
+    }
+}
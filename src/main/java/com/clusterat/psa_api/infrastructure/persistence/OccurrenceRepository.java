@@ -1,72 +1,335 @@
 package com.clusterat.psa_api.infrastructure.persistence;
 
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
 import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
 import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.outbox.OccurrenceOutbox;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class OccurrenceRepository implements IOccurrenceRepository {
+    // Columns a sparse read may leave out; id and the foreign keys are always selected
+    private static final List<String> PROJECTABLE = List.of(
+            "name", "description", "dateStart", "dateEnd", "dateUpdate", "active", "intensity");
+    private static final String TABLE = "occurrences";
+    // Lock timeout hint value Hibernate turns into SKIP LOCKED
+    private static final int SKIP_LOCKED = -2;
+
     private final SpringDataJpaOccurrenceRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final OccurrenceOutbox outbox;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, OccurrenceEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<OccurrenceEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<OccurrenceEntity>>> listLoads;
+    // Null unless group commit is enabled, in which case single creates share transactions
+    private final GroupCommitter<OccurrenceEntity> createCommits;
 
-    public OccurrenceRepository(SpringDataJpaOccurrenceRepository jpaRepository) {
+    public OccurrenceRepository(SpringDataJpaOccurrenceRepository jpaRepository, EntityManager entityManager,
+                                TransactionTemplate transactionTemplate, OccurrenceOutbox outbox, ReadRouting readRouting,
+                                WorkloadExecutors workloads, MeterRegistry meterRegistry,
+                                @Value("${psa.group-commit.enabled:false}") boolean groupCommit,
+                                @Value("${psa.group-commit.capacity:8192}") int groupCommitCapacity,
+                                @Value("${psa.group-commit.max-batch:256}") int groupCommitMaxBatch,
+                                @Value("${psa.group-commit.window:PT0.005S}") Duration groupCommitWindow) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.outbox = outbox;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("occurrences.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("occurrences.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("occurrences", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
+        this.createCommits = groupCommit
+                ? new GroupCommitter<>("occurrences.create", this::insertAll, groupCommitCapacity, groupCommitMaxBatch,
+                        groupCommitWindow, workloads.executor(Workload.INTERACTIVE), meterRegistry)
+                : null;
     }
 
     @Override
     public CompletableFuture<Optional<OccurrenceEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<OccurrenceEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, OccurrenceEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<List<Optional<OccurrenceEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<List<Optional<OccurrenceEntity>>> GetByActiveAsync(boolean active) {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findByActive(active).stream()
+        return listLoads.execute("active:" + active, () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, () -> jpaRepository.findByActive(active)).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<List<Optional<OccurrenceEntity>>> GetByUserIdAsync(int userId) {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findByUserId(userId).stream()
+        return listLoads.execute("user:" + userId, () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, () -> jpaRepository.findByUserId(userId)).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<OccurrenceEntity>>> GetAllAsync(Set<String> fields) {
+        return projected("all", fields, null, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<OccurrenceEntity>>> GetByActiveAsync(boolean active, Set<String> fields) {
+        return projected("active:" + active, fields, active, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<OccurrenceEntity>>> GetByUserIdAsync(int userId, Set<String> fields) {
+        return projected("user:" + userId, fields, null, userId);
     }
 
     @Override
     public CompletableFuture<OccurrenceEntity> AddAsync(OccurrenceEntity occurrence) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(occurrence));
+        if (createCommits != null) {
+            return createCommits.submit(occurrence)
+                    .whenComplete((saved, error) -> forgetLoads(occurrence.getId()));
+        }
+        return workloads.supplyAsync(() -> transactionTemplate.execute(status -> {
+            OccurrenceEntity saved = jpaRepository.save(occurrence);
+            outbox.append(OccurrenceEvent.created(saved));
+            return saved;
+        })).whenComplete((saved, error) -> forgetLoads(occurrence.getId()));
     }
 
     @Override
     public CompletableFuture<OccurrenceEntity> UpdateAsync(OccurrenceEntity occurrence) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(occurrence));
+        return workloads.supplyAsync(() -> transactionTemplate.execute(status -> {
+            // Loads the row the merge below would load anyway, to tell deactivations apart
+            OccurrenceEntity current = entityManager.find(OccurrenceEntity.class, occurrence.getId());
+            boolean wasActive = current != null && current.isActive();
+            OccurrenceEntity saved = jpaRepository.save(occurrence);
+            outbox.append(OccurrenceEvent.updated(saved, wasActive));
+            return saved;
+        })).whenComplete((saved, error) -> forgetLoads(occurrence.getId()));
+    }
+
+    // One transaction for the whole batch, so it costs a single commit; batches are bulk work
+    @Override
+    public CompletableFuture<List<OccurrenceEntity>> AddAllAsync(List<OccurrenceEntity> occurrences) {
+        return workloads.supplyAsync(Workload.BULK, () -> insertAll(occurrences)).whenComplete((saved, error) -> occurrences.forEach(occurrence -> forgetLoads(occurrence.getId())));
+    }
+
+    @Override
+    public CompletableFuture<List<OccurrenceEntity>> UpdateAllAsync(List<OccurrenceEntity> occurrences) {
+        return workloads.supplyAsync(Workload.BULK, () -> transactionTemplate.execute(status -> {
+            Map<Integer, Boolean> wasActive = findAllById(occurrences.stream().map(OccurrenceEntity::getId).distinct().toList())
+                    .values().stream()
+                    .collect(Collectors.toMap(OccurrenceEntity::getId, OccurrenceEntity::isActive));
+            List<OccurrenceEntity> saved = jpaRepository.saveAll(occurrences);
+            saved.forEach(occurrence -> outbox.append(
+                    OccurrenceEvent.updated(occurrence, wasActive.getOrDefault(occurrence.getId(), false))));
+            return saved;
+        })).whenComplete((saved, error) -> occurrences.forEach(occurrence -> forgetLoads(occurrence.getId())));
     }
 
     @Override
     public CompletableFuture<OccurrenceEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return workloads.supplyAsync(() -> transactionTemplate.execute(status -> {
             Optional<OccurrenceEntity> occurrence = jpaRepository.findById(id);
             if (occurrence.isPresent()) {
                 jpaRepository.deleteById(id);
+                outbox.append(OccurrenceEvent.deleted(occurrence.get()));
                 return occurrence.get();
             }
             throw new RuntimeException("Occurrence not found with id: " + id);
+        })).whenComplete((deleted, error) -> forgetLoads(id));
+    }
+
+    @Override
+    public CompletableFuture<List<OccurrenceEntity>> GetActiveEndingByAsync(Date until, int limit) {
+        return workloads.supplyAsync(() -> jpaRepository.findActiveEndingBy(until, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * Deactivates those of {@code ids} that are still active and past their end, with one
+     * bulk UPDATE. Rows are locked with SKIP LOCKED first, so replicas expiring the same ids
+     * at once split them instead of waiting on each other, and each deactivation is written
+     * to the outbox exactly once.
+     */
+    @Override
+    public CompletableFuture<List<OccurrenceEntity>> ExpireAsync(List<Integer> ids, Date now) {
+        return workloads.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<OccurrenceEntity> expiring = entityManager.createQuery(
+                            "SELECT o FROM OccurrenceEntity o WHERE o.id IN :ids AND o.active = true AND o.dateEnd <= :now",
+                            OccurrenceEntity.class)
+                    .setParameter("ids", ids)
+                    .setParameter("now", now)
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, SKIP_LOCKED)
+                    .getResultList();
+            if (expiring.isEmpty()) {
+                return List.<OccurrenceEntity>of();
+            }
+            // Detached first, so the bulk UPDATE is the only write and dirty checking adds none
+            expiring.forEach(entityManager::detach);
+            entityManager.createQuery("UPDATE OccurrenceEntity o SET o.active = false, o.dateUpdate = :now WHERE o.id IN :ids")
+                    .setParameter("now", now)
+                    .setParameter("ids", expiring.stream().map(OccurrenceEntity::getId).toList())
+                    .executeUpdate();
+            for (OccurrenceEntity occurrence : expiring) {
+                occurrence.setActive(false);
+                occurrence.setDateUpdate(now);
+                outbox.append(OccurrenceEvent.updated(occurrence, true));
+            }
+            return expiring;
+        })).whenComplete((expired, error) -> ids.forEach(this::forgetLoads));
+    }
+
+    // Commits creates still waiting for their window, so none are lost on shutdown
+    @PreDestroy
+    void flushPendingCreates() {
+        if (createCommits != null) {
+            createCommits.flush();
+        }
+    }
+
+    private List<OccurrenceEntity> insertAll(List<OccurrenceEntity> occurrences) {
+        return transactionTemplate.execute(status -> {
+            List<OccurrenceEntity> saved = jpaRepository.saveAll(occurrences);
+            saved.forEach(occurrence -> outbox.append(OccurrenceEvent.created(occurrence)));
+            return saved;
         });
     }
+
+    private CompletableFuture<List<Optional<OccurrenceEntity>>> projected(String key, Set<String> fields, Boolean active, Integer userId) {
+        List<String> columns = PROJECTABLE.stream().filter(fields::contains).toList();
+        return listLoads.execute(key + ":" + String.join(",", new TreeSet<>(columns)), () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, () -> findProjected(columns, active, userId)).stream()
+                .map(Optional::of)
+                .toList()
+        ));
+    }
+
+    /**
+     * Selects only the requested columns and returns detached entities with the rest left
+     * unset. The address and user are id-only stubs built from the foreign key columns, so
+     * no join is issued.
+     */
+    private List<OccurrenceEntity> findProjected(List<String> columns, Boolean active, Integer userId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<OccurrenceEntity> occurrence = query.from(OccurrenceEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(occurrence.get("id").alias("id"));
+        selections.add(occurrence.get("address").get("id").alias("addressId"));
+        selections.add(occurrence.get("user").get("id").alias("userId"));
+        for (String column : columns) {
+            selections.add(occurrence.get(column).alias(column));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (active != null) {
+            predicates.add(builder.equal(occurrence.get("active"), active));
+        }
+        if (userId != null) {
+            predicates.add(builder.equal(occurrence.get("user").get("id"), userId));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> toEntity(row, columns))
+                .toList();
+    }
+
+    private static OccurrenceEntity toEntity(Tuple row, List<String> columns) {
+        OccurrenceEntity occurrence = new OccurrenceEntity();
+        occurrence.setId(row.get("id", Integer.class));
+        AddressEntity address = new AddressEntity();
+        address.setId(row.get("addressId", Integer.class));
+        occurrence.setAddress(address);
+        UserEntity user = new UserEntity();
+        user.setId(row.get("userId", Integer.class));
+        occurrence.setUser(user);
+        for (String column : columns) {
+            switch (column) {
+                case "name" -> occurrence.setName(row.get(column, String.class));
+                case "description" -> occurrence.setDescription(row.get(column, String.class));
+                case "dateStart" -> occurrence.setDateStart(row.get(column, Date.class));
+                case "dateEnd" -> occurrence.setDateEnd(row.get(column, Date.class));
+                case "dateUpdate" -> occurrence.setDateUpdate(row.get(column, Date.class));
+                case "active" -> occurrence.setActive(row.get(column, Boolean.class));
+                case "intensity" -> occurrence.setIntensity(row.get(column, Intensity.class));
+                default -> throw new IllegalArgumentException("Unknown occurrence column: " + column);
+            }
+        }
+        return occurrence;
+    }
+
+    private Map<Integer, OccurrenceEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(OccurrenceEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
+    }
 }
\ No newline at end of file
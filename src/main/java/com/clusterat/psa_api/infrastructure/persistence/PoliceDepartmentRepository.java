@@ -2,58 +2,108 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.IPoliceDepartmentRepository;
 import com.clusterat.psa_api.domain.entities.PoliceDepartmentEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class PoliceDepartmentRepository implements IPoliceDepartmentRepository {
+    private static final String TABLE = "police_departments";
+
     private final SpringDataJpaPoliceDepartmentRepository jpaRepository;
+    private final TableVersions tableVersions;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, PoliceDepartmentEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<PoliceDepartmentEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<PoliceDepartmentEntity>>> listLoads;
 
-    public PoliceDepartmentRepository(SpringDataJpaPoliceDepartmentRepository jpaRepository) {
+    public PoliceDepartmentRepository(SpringDataJpaPoliceDepartmentRepository jpaRepository, TableVersions tableVersions, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.tableVersions = tableVersions;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("police-departments.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("police-departments.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("police-departments", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<PoliceDepartmentEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<PoliceDepartmentEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, PoliceDepartmentEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<Optional<PoliceDepartmentEntity>> GetByOverpassIdAsync(String overpassId) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findByOverpassId(overpassId));
+        return workloads.supplyAsync(() -> readRouting.onReplica(TABLE, () -> jpaRepository.findByOverpassId(overpassId)));
     }
 
     @Override
     public CompletableFuture<List<Optional<PoliceDepartmentEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<PoliceDepartmentEntity> AddAsync(PoliceDepartmentEntity policeDepartment) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(policeDepartment));
+        return tableVersions.bumpAfter(TableVersions.POLICE_DEPARTMENTS, workloads.supplyAsync(() -> jpaRepository.save(policeDepartment))
+                .whenComplete((saved, error) -> forgetLoads(policeDepartment.getId())));
     }
 
     @Override
     public CompletableFuture<PoliceDepartmentEntity> UpdateAsync(PoliceDepartmentEntity policeDepartment) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(policeDepartment));
+        return tableVersions.bumpAfter(TableVersions.POLICE_DEPARTMENTS, workloads.supplyAsync(() -> jpaRepository.save(policeDepartment))
+                .whenComplete((saved, error) -> forgetLoads(policeDepartment.getId())));
     }
 
     @Override
     public CompletableFuture<PoliceDepartmentEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return tableVersions.bumpAfter(TableVersions.POLICE_DEPARTMENTS, workloads.supplyAsync(() -> {
             Optional<PoliceDepartmentEntity> policeDepartment = jpaRepository.findById(id);
             if (policeDepartment.isPresent()) {
                 jpaRepository.deleteById(id);
                 return policeDepartment.get();
             }
             throw new RuntimeException("Police Department not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id)));
+    }
+
+    private Map<Integer, PoliceDepartmentEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(PoliceDepartmentEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
 
 @Repository
@@ -16,4 +18,8 @@ public interface SpringDataJpaOccurrenceRepository extends JpaRepository<Occurre
     
     @Query("SELECT o FROM OccurrenceEntity o WHERE o.user.id = :userId")
     List<OccurrenceEntity> findByUserId(@Param("userId") int userId);
+
+    // Range scan of idx_occurrences_active_date_end, soonest first
+    @Query("SELECT o FROM OccurrenceEntity o WHERE o.active = true AND o.dateEnd <= :until ORDER BY o.dateEnd")
+    List<OccurrenceEntity> findActiveEndingBy(@Param("until") Date until, Pageable pageable);
 }
\ No newline at end of file
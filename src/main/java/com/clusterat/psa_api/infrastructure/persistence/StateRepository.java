@@ -2,58 +2,108 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.IStateRepository;
 import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class StateRepository implements IStateRepository {
+    private static final String TABLE = "states";
+
     private final SpringDataJpaStateRepository jpaRepository;
+    private final TableVersions tableVersions;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, StateEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<StateEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<StateEntity>>> listLoads;
 
-    public StateRepository(SpringDataJpaStateRepository jpaRepository) {
+    public StateRepository(SpringDataJpaStateRepository jpaRepository, TableVersions tableVersions, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.tableVersions = tableVersions;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("states.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("states.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("states", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<StateEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<StateEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, StateEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<Optional<StateEntity>> GetByIbgeCodeAsync(String ibgeCode) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findByIbgeCode(ibgeCode));
+        return workloads.supplyAsync(() -> readRouting.onReplica(TABLE, () -> jpaRepository.findByIbgeCode(ibgeCode)));
     }
 
     @Override
     public CompletableFuture<List<Optional<StateEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<StateEntity> AddAsync(StateEntity state) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(state));
+        return tableVersions.bumpAfter(TableVersions.STATES, workloads.supplyAsync(() -> jpaRepository.save(state))
+                .whenComplete((saved, error) -> forgetLoads(state.getId())));
     }
 
     @Override
     public CompletableFuture<StateEntity> UpdateAsync(StateEntity state) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(state));
+        return tableVersions.bumpAfter(TableVersions.STATES, workloads.supplyAsync(() -> jpaRepository.save(state))
+                .whenComplete((saved, error) -> forgetLoads(state.getId())));
     }
 
     @Override
     public CompletableFuture<StateEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return tableVersions.bumpAfter(TableVersions.STATES, workloads.supplyAsync(() -> {
             Optional<StateEntity> state = jpaRepository.findById(id);
             if (state.isPresent()) {
                 jpaRepository.deleteById(id);
                 return state.get();
             }
             throw new RuntimeException("State not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id)));
+    }
+
+    private Map<Integer, StateEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(StateEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
 }
\ No newline at end of file
@@ -2,58 +2,105 @@ package com.clusterat.psa_api.infrastructure.persistence;
 
 import com.clusterat.psa_api.application.interfaces.IUserRepository;
 import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.infrastructure.cache.SingleFlight;
+import com.clusterat.psa_api.infrastructure.datasource.ReadRouting;
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.clusterat.psa_api.infrastructure.workload.WorkloadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class UserRepository implements IUserRepository {
+    private static final String TABLE = "users";
+
     private final SpringDataJpaUserRepository jpaRepository;
+    private final ReadRouting readRouting;
+    private final WorkloadExecutors workloads;
+    private final BatchLoader<Integer, UserEntity> byIdBatches;
+    private final SingleFlight<Integer, Optional<UserEntity>> byIdLoads;
+    private final SingleFlight<String, List<Optional<UserEntity>>> listLoads;
 
-    public UserRepository(SpringDataJpaUserRepository jpaRepository) {
+    public UserRepository(SpringDataJpaUserRepository jpaRepository, ReadRouting readRouting, WorkloadExecutors workloads, MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.readRouting = readRouting;
+        this.workloads = workloads;
+        this.byIdLoads = new SingleFlight<>("users.by-id", EntityCopies::copyOf, meterRegistry);
+        this.listLoads = new SingleFlight<>("users.list", EntityCopies::copyAll, meterRegistry);
+        this.byIdBatches = new BatchLoader<>("users", this::findAllById, EntityCopies::shallowCopy,
+                workloads.executor(Workload.INTERACTIVE), meterRegistry);
     }
 
     @Override
     public CompletableFuture<Optional<UserEntity>> GetByIdAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findById(id));
+        return byIdLoads.execute(id, () -> byIdBatches.load(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<UserEntity>>> GetByIdsAsync(List<Integer> ids) {
+        return workloads.supplyAsync(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, UserEntity> found = findAllById(ids.stream().distinct().toList());
+            return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)))
+                .toList();
+        });
     }
 
     @Override
     public CompletableFuture<Optional<UserEntity>> GetByCognitoIdAsync(int cognitoId) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.findByCognitoId(cognitoId));
+        return workloads.supplyAsync(() -> readRouting.onReplica(TABLE, () -> jpaRepository.findByCognitoId(cognitoId)));
     }
 
     @Override
     public CompletableFuture<List<Optional<UserEntity>>> GetAllAsync() {
-        return CompletableFuture.supplyAsync(() ->
-            jpaRepository.findAll().stream()
+        return listLoads.execute("all", () -> workloads.supplyAsync(() ->
+            readRouting.onReplica(TABLE, jpaRepository::findAll).stream()
                 .map(Optional::of)
                 .toList()
-        );
+        ));
     }
 
     @Override
     public CompletableFuture<UserEntity> AddAsync(UserEntity user) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(user));
+        return workloads.supplyAsync(() -> jpaRepository.save(user))
+                .whenComplete((saved, error) -> forgetLoads(user.getId()));
     }
 
     @Override
     public CompletableFuture<UserEntity> UpdateAsync(UserEntity user) {
-        return CompletableFuture.supplyAsync(() -> jpaRepository.save(user));
+        return workloads.supplyAsync(() -> jpaRepository.save(user))
+                .whenComplete((saved, error) -> forgetLoads(user.getId()));
     }
 
     @Override
     public CompletableFuture<UserEntity> DeleteAsync(int id) {
-        return CompletableFuture.supplyAsync(() -> {
+        return workloads.supplyAsync(() -> {
             Optional<UserEntity> user = jpaRepository.findById(id);
             if (user.isPresent()) {
                 jpaRepository.deleteById(id);
                 return user.get();
             }
             throw new RuntimeException("User not found with id: " + id);
-        });
+        }).whenComplete((deleted, error) -> forgetLoads(id));
+    }
+
+    private Map<Integer, UserEntity> findAllById(List<Integer> ids) {
+        return readRouting.onReplica(TABLE, ids, () -> jpaRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+    }
+
+    private void forgetLoads(int id) {
+        readRouting.written(TABLE, id);
+        byIdLoads.forget(id);
+        listLoads.forgetAll();
     }
-}
+}
\ No newline at end of file
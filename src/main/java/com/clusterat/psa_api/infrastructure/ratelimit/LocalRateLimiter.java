@@ -0,0 +1,69 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token buckets for single-node deployments, implemented as GCRA: each bucket is
+ * one {@link AtomicLong} holding its theoretical arrival time, updated with a CAS loop.
+ *
+ * A bucket whose arrival time is in the past is full, which is the same as not existing, so
+ * such entries are swept periodically to keep per-client keys from accumulating. A request
+ * racing with the sweep may lose its update and get one extra token.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final int SWEEP_EVERY = 4096;
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    LocalRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Bucket bucket) {
+        return Mono.just(acquire(key, bucket));
+    }
+
+    RateLimitDecision acquire(String key, RateLimitProperties.Bucket bucket) {
+        long now = nanoClock.getAsLong();
+        if (acquisitions.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(now);
+        }
+
+        long interval = (long) (1_000_000_000L / bucket.getRefillPerSecond());
+        long tolerance = interval * bucket.getCapacity();
+        AtomicLong arrival = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current - now, 0) + now + interval;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return RateLimitDecision.rejected(Duration.ofNanos(excess));
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return RateLimitDecision.ALLOWED;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+    public RateLimiter localRateLimiter(MeterRegistry meterRegistry) {
+        LocalRateLimiter limiter = new LocalRateLimiter();
+        Gauge.builder("psa.rate_limit.local_buckets", limiter, LocalRateLimiter::size)
+                .description("Token buckets currently held in memory")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "psa.rate-limit.backend", havingValue = "redis")
+    public RateLimiter redisRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                        RateLimitProperties properties,
+                                        MeterRegistry meterRegistry) {
+        return new RedisRateLimiter(redisTemplate, properties.getRedisKeyPrefix(), meterRegistry);
+    }
+}
@@ -0,0 +1,136 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import com.clusterat.psa_api.infrastructure.web.WebFilterOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies {@link RateLimitProperties} to every request after authentication. Callers are keyed
+ * by principal name, or by remote address on the few endpoints open to anonymous clients.
+ * Buckets are checked from the narrowest to the global one and the first rejection ends the
+ * check, so a caller that is over its own limit does not drain the shared buckets.
+ */
+@Component
+@Order(WebFilterOrder.RATE_LIMIT)
+public class RateLimitFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final Limit globalLimit;
+    private final Limit principalLimit;
+    private final List<Limit> groupLimits;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = properties.isEnabled();
+        this.globalLimit = Limit.of("global", "all", properties.getGlobal(), Set.of(), List.of(), meterRegistry);
+        this.principalLimit = Limit.of("principal", "all", properties.getPrincipal(), Set.of(), List.of(), meterRegistry);
+        this.groupLimits = properties.getGroups().stream()
+                .map(group -> Limit.of("group", group.getName(), group.toBucket(),
+                        group.getMethods().stream().map(HttpMethod::valueOf).collect(Collectors.toSet()),
+                        group.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                        meterRegistry))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        Limit groupLimit = groupFor(exchange.getRequest());
+
+        return exchange.getPrincipal()
+                .map(principal -> "user:" + principal.getName())
+                .switchIfEmpty(Mono.fromSupplier(() -> clientKey(exchange.getRequest())))
+                .flatMap(client -> acquire(principalLimit, "principal:" + client)
+                        .flatMap(decision -> decision.allowed() && groupLimit != null
+                                ? acquire(groupLimit, "group:" + groupLimit.group() + ":" + client)
+                                : Mono.just(decision))
+                        .flatMap(decision -> decision.allowed()
+                                ? acquire(globalLimit, "global")
+                                : Mono.just(decision))
+                        .flatMap(decision -> decision.allowed()
+                                ? chain.filter(exchange)
+                                : reject(exchange, client, decision)));
+    }
+
+    private Mono<RateLimitDecision> acquire(Limit limit, String key) {
+        return rateLimiter.tryAcquire(key, limit.bucket())
+                .doOnNext(decision -> (decision.allowed() ? limit.allowed() : limit.rejected()).increment());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String client, RateLimitDecision decision) {
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        log.debug("Rate limit exceeded for {} on {} {}, retry after {}s", client,
+                exchange.getRequest().getMethod(), exchange.getRequest().getPath().value(), retryAfterSeconds);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    Limit groupFor(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (Limit limit : groupLimits) {
+            if ((limit.methods().isEmpty() || limit.methods().contains(request.getMethod()))
+                    && limit.paths().stream().anyMatch(pattern -> pattern.matches(path))) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "client:unknown";
+        }
+        return "client:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    record Limit(String scope, String group, RateLimitProperties.Bucket bucket,
+                 Set<HttpMethod> methods, List<PathPattern> paths,
+                 Counter allowed, Counter rejected) {
+
+        static Limit of(String scope, String group, RateLimitProperties.Bucket bucket,
+                        Set<HttpMethod> methods, List<PathPattern> paths, MeterRegistry meterRegistry) {
+            return new Limit(scope, group, bucket, methods, paths,
+                    counter(meterRegistry, scope, group, "allowed"),
+                    counter(meterRegistry, scope, group, "rejected"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String scope, String group, String outcome) {
+            return Counter.builder("psa.rate_limit.requests")
+                    .description("Token bucket decisions by bucket")
+                    .tag("scope", scope)
+                    .tag("group", group)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
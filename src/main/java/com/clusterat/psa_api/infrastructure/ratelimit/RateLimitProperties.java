@@ -0,0 +1,66 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token bucket limits under {@code psa.rate-limit}. Every request draws one token from the
+ * caller's own bucket, from the caller's bucket for the first matching route group, and
+ * from the single global bucket.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.rate-limit")
+public class RateLimitProperties {
+
+    public enum Backend { LOCAL, REDIS }
+
+    private boolean enabled = true;
+    private Backend backend = Backend.LOCAL;
+    private String redisKeyPrefix = "psa:rate-limit:";
+    private Bucket global = new Bucket(2000, 4000);
+    private Bucket principal = new Bucket(50, 100);
+    private List<Group> groups = defaultGroups();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private double refillPerSecond;
+        private long capacity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Group {
+        private String name;
+        private List<String> methods = new ArrayList<>();
+        private List<String> paths = new ArrayList<>();
+        private double refillPerSecond;
+        private long capacity;
+
+        Group(String name, String method, String path, double refillPerSecond, long capacity) {
+            this.name = name;
+            this.methods = new ArrayList<>(List.of(method));
+            this.paths = new ArrayList<>(List.of(path));
+            this.refillPerSecond = refillPerSecond;
+            this.capacity = capacity;
+        }
+
+        public Bucket toBucket() {
+            return new Bucket(refillPerSecond, capacity);
+        }
+    }
+
+    private static List<Group> defaultGroups() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(new Group("occurrence-export", "GET", "/api/v1/occurrences/export", 1.0 / 30, 2));
+        groups.add(new Group("occurrence-reads", "GET", "/api/v1/occurrences/**", 20, 40));
+        groups.add(new Group("token", "POST", "/api/v1/auth/token", 1, 5));
+        return groups;
+    }
+}
@@ -0,0 +1,10 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+public interface RateLimiter {
+    /**
+     * Takes one token from the bucket identified by {@code key}, creating it full when absent.
+     */
+    Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Bucket bucket);
+}
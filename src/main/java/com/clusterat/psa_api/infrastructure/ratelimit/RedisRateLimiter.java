@@ -0,0 +1,72 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cluster-wide token buckets. The same GCRA step as {@link LocalRateLimiter} runs as one Lua
+ * script, so check-and-update is atomic on the Redis side and uses the Redis clock rather
+ * than each replica's. If Redis is unreachable requests are let through and counted.
+ */
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA = RedisScript.of("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = interval * tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local arrival = tonumber(redis.call('GET', KEYS[1]) or now)
+            if arrival < now then arrival = now end
+            local next = arrival + interval
+            local excess = next - now - tolerance
+            if excess > 0 then
+                return {0, excess}
+            end
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000))
+            return {1, 0}
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Counter backendErrors;
+
+    public RedisRateLimiter(ReactiveStringRedisTemplate redisTemplate, String keyPrefix, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.backendErrors = Counter.builder("psa.rate_limit.backend_errors")
+                .description("Rate limit checks let through because Redis could not be reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Bucket bucket) {
+        long intervalMicros = Math.max(1, (long) (1_000_000L / bucket.getRefillPerSecond()));
+        return redisTemplate.execute(GCRA, List.of(keyPrefix + key),
+                        List.of(Long.toString(intervalMicros), Long.toString(bucket.getCapacity())))
+                .next()
+                .map(result -> {
+                    long allowed = ((Number) result.get(0)).longValue();
+                    long excessMicros = ((Number) result.get(1)).longValue();
+                    return allowed == 1
+                            ? RateLimitDecision.ALLOWED
+                            : RateLimitDecision.rejected(Duration.ofNanos(excessMicros * 1000));
+                })
+                .defaultIfEmpty(RateLimitDecision.ALLOWED)
+                .onErrorResume(e -> {
+                    log.warn("Rate limit check for {} failed, allowing request: {}", key, e.getMessage());
+                    backendErrors.increment();
+                    return Mono.just(RateLimitDecision.ALLOWED);
+                });
+    }
+}
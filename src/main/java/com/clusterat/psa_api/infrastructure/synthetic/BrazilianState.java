@@ -0,0 +1,85 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.domain.value_objects.Region;
+
+/**
+ * The 27 federative units with their IBGE codes, number of municipalities and capital
+ * (IBGE, 2022 census). Capital populations are in thousands and rank the capitals in the
+ * synthetic city distribution.
+ */
+enum BrazilianState {
+    RO("Rondônia", Region.NORTE, 11, 52, "Porto Velho", 1100205, 460),
+    AC("Acre", Region.NORTE, 12, 22, "Rio Branco", 1200401, 364),
+    AM("Amazonas", Region.NORTE, 13, 62, "Manaus", 1302603, 2063),
+    RR("Roraima", Region.NORTE, 14, 15, "Boa Vista", 1400100, 413),
+    PA("Pará", Region.NORTE, 15, 144, "Belém", 1501402, 1303),
+    AP("Amapá", Region.NORTE, 16, 16, "Macapá", 1600303, 442),
+    TO("Tocantins", Region.NORTE, 17, 139, "Palmas", 1721000, 302),
+    MA("Maranhão", Region.NORDESTE, 21, 217, "São Luís", 2111300, 1037),
+    PI("Piauí", Region.NORDESTE, 22, 224, "Teresina", 2211001, 866),
+    CE("Ceará", Region.NORDESTE, 23, 184, "Fortaleza", 2304400, 2428),
+    RN("Rio Grande do Norte", Region.NORDESTE, 24, 167, "Natal", 2408102, 751),
+    PB("Paraíba", Region.NORDESTE, 25, 223, "João Pessoa", 2507507, 833),
+    PE("Pernambuco", Region.NORDESTE, 26, 185, "Recife", 2611606, 1488),
+    AL("Alagoas", Region.NORDESTE, 27, 102, "Maceió", 2704302, 957),
+    SE("Sergipe", Region.NORDESTE, 28, 75, "Aracaju", 2800308, 602),
+    BA("Bahia", Region.NORDESTE, 29, 417, "Salvador", 2927408, 2418),
+    MG("Minas Gerais", Region.SUDESTE, 31, 853, "Belo Horizonte", 3106200, 2316),
+    ES("Espírito Santo", Region.SUDESTE, 32, 78, "Vitória", 3205309, 322),
+    RJ("Rio de Janeiro", Region.SUDESTE, 33, 92, "Rio de Janeiro", 3304557, 6211),
+    SP("São Paulo", Region.SUDESTE, 35, 645, "São Paulo", 3550308, 11451),
+    PR("Paraná", Region.SUL, 41, 399, "Curitiba", 4106902, 1773),
+    SC("Santa Catarina", Region.SUL, 42, 295, "Florianópolis", 4205407, 537),
+    RS("Rio Grande do Sul", Region.SUL, 43, 497, "Porto Alegre", 4314902, 1332),
+    MS("Mato Grosso do Sul", Region.CENTRO_OESTE, 50, 79, "Campo Grande", 5002704, 898),
+    MT("Mato Grosso", Region.CENTRO_OESTE, 51, 141, "Cuiabá", 5103403, 650),
+    GO("Goiás", Region.CENTRO_OESTE, 52, 246, "Goiânia", 5208707, 1437),
+    DF("Distrito Federal", Region.CENTRO_OESTE, 53, 1, "Brasília", 5300108, 2817);
+
+    private final String stateName;
+    private final Region region;
+    private final int ibgeCode;
+    private final int municipalities;
+    private final String capital;
+    private final int capitalIbgeCode;
+    private final int capitalPopulation;
+
+    BrazilianState(String stateName, Region region, int ibgeCode, int municipalities,
+                   String capital, int capitalIbgeCode, int capitalPopulation) {
+        this.stateName = stateName;
+        this.region = region;
+        this.ibgeCode = ibgeCode;
+        this.municipalities = municipalities;
+        this.capital = capital;
+        this.capitalIbgeCode = capitalIbgeCode;
+        this.capitalPopulation = capitalPopulation;
+    }
+
+    String stateName() {
+        return stateName;
+    }
+
+    Region region() {
+        return region;
+    }
+
+    int ibgeCode() {
+        return ibgeCode;
+    }
+
+    int municipalities() {
+        return municipalities;
+    }
+
+    String capital() {
+        return capital;
+    }
+
+    int capitalIbgeCode() {
+        return capitalIbgeCode;
+    }
+
+    int capitalPopulation() {
+        return capitalPopulation;
+    }
+}
@@ -0,0 +1,36 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.infrastructure.workload.WorkloadProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("synthetic")
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticDataConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataConfig.class);
+
+    @Bean
+    public SyntheticDataGenerator syntheticDataGenerator(DataSource dataSource,
+                                                         PlatformTransactionManager transactionManager,
+                                                         SyntheticDataProperties properties,
+                                                         WorkloadProperties workloadProperties,
+                                                         @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        // More threads than bulk connections would only wait for each other
+        int connections = workloadProperties.getBulk().getSize();
+        if (properties.getThreads() > connections) {
+            log.info("Capping synthetic data threads at {}, the size of the bulk pool (psa.workloads.bulk.size)", connections);
+        }
+        return new SyntheticDataGenerator(dataSource, transactionManager, properties,
+                Math.max(1, Math.min(properties.getThreads(), connections)), schema);
+    }
+}
@@ -0,0 +1,123 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills an empty schema with a {@link SyntheticDataset}. Tables are written parents first;
+ * each table is cut into batches of {@code batch-size} rows that are built and inserted
+ * concurrently, one transaction per batch, by {@code threads} threads of the
+ * {@link Workload#BULK} workload, so they write through the bulk connection pool.
+ *
+ * Rows carry their ids, so the identity of every table is moved past them at the end.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final SyntheticDataProperties properties;
+    private final int threads;
+    private final String tablePrefix;
+
+    public SyntheticDataGenerator(DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  SyntheticDataProperties properties,
+                                  int threads,
+                                  String schema) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.threads = threads;
+        this.tablePrefix = schema == null || schema.isBlank() ? "" : schema.trim() + ".";
+    }
+
+    public void generate() {
+        Instant until = properties.getUntil() != null ? properties.getUntil() : Instant.now();
+        SyntheticDataset dataset = new SyntheticDataset(properties, until);
+        Workload.BULK.call(() -> {
+            Integer countries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tablePrefix + "countries", Integer.class);
+            if (countries != null && countries > 0) {
+                throw new IllegalStateException("Synthetic data needs an empty schema, " + tablePrefix + "countries has " + countries + " rows");
+            }
+            return null;
+        });
+
+        log.info("Generating synthetic data with seed {} until {} on {} threads", properties.getSeed(), until, threads);
+        long started = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(Workload.BULK.bind(task), "synthetic-data-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (SyntheticDataset.Table table : dataset.tables()) {
+                write(table, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Workload.BULK.call(() -> {
+            restartIdentities(dataset.tables());
+            return null;
+        });
+        log.info("Generated synthetic data in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void write(SyntheticDataset.Table table, ExecutorService executor) {
+        String sql = "INSERT INTO " + tablePrefix + table.name() + " (" + String.join(", ", table.columns())
+                + ") VALUES (" + String.join(", ", Collections.nCopies(table.columns().size(), "?")) + ")";
+        long started = System.nanoTime();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int first = 1; first <= table.rows(); first += properties.getBatchSize()) {
+            int from = first;
+            int to = Math.min(table.rows(), first + properties.getBatchSize() - 1);
+            batches.add(CompletableFuture.runAsync(() -> writeBatch(sql, table, from, to), executor));
+        }
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Wrote {} rows into {} in {} ms ({} rows/s)", table.rows(), table.name(), millis, table.rows() * 1000L / millis);
+    }
+
+    private void writeBatch(String sql, SyntheticDataset.Table table, int from, int to) {
+        List<Object[]> rows = new ArrayList<>(to - from + 1);
+        for (int id = from; id <= to; id++) {
+            rows.add(table.row().apply(id));
+        }
+        transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+    }
+
+    private void restartIdentities(List<SyntheticDataset.Table> tables) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        for (SyntheticDataset.Table table : tables) {
+            if (table.rows() == 0) {
+                continue;
+            }
+            String name = tablePrefix + table.name();
+            if ("PostgreSQL".equals(database)) {
+                jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, 'id'), ?)", Long.class, name, (long) table.rows());
+            } else if ("H2".equals(database)) {
+                jdbcTemplate.execute("ALTER TABLE " + name + " ALTER COLUMN id RESTART WITH " + (table.rows() + 1));
+            } else {
+                log.warn("Cannot move the identity of {} on {}, new rows may collide with the generated ids", name, database);
+            }
+        }
+    }
+}
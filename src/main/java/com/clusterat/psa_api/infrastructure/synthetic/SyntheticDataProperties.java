@@ -0,0 +1,56 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Shape of the synthetic data set under {@code psa.synthetic}. The same seed, sizes and
+ * {@code until} always produce the same rows, whatever the number of threads.
+ *
+ * Cities are ranked with the state capitals first, by population, and the other municipalities
+ * in seeded random order; occurrences fall on the city of rank {@code r} with a weight of
+ * {@code 1 / r^city-skew}, and on their reporting user the same way with {@code user-skew}.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.synthetic")
+public class SyntheticDataProperties {
+
+    private long seed = 42L;
+    private int occurrences = 1_000_000;
+    private int addresses = 200_000;
+    private int users = 50_000;
+    private int policeDepartments = 2_000;
+    private double citySkew = 1.0;
+    private double userSkew = 0.8;
+
+    /**
+     * Occurrences start within {@code span} before {@code until}; those still running at
+     * {@code until} are active. Defaults to the time the generator starts.
+     */
+    private Instant until;
+    private Duration span = Duration.ofDays(365);
+
+    /**
+     * Relative weight of each intensity; missing intensities are never generated.
+     */
+    private Map<Intensity, Double> intensityMix = defaultIntensityMix();
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 5_000;
+
+    private static Map<Intensity, Double> defaultIntensityMix() {
+        Map<Intensity, Double> mix = new EnumMap<>(Intensity.class);
+        mix.put(Intensity.LOW, 0.45);
+        mix.put(Intensity.MODERATE, 0.28);
+        mix.put(Intensity.HIGH, 0.16);
+        mix.put(Intensity.SEVERE, 0.08);
+        mix.put(Intensity.CRITICAL, 0.03);
+        return mix;
+    }
+}
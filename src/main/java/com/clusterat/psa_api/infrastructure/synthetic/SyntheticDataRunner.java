@@ -0,0 +1,44 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point for the synthetic data generator, e.g.
+ * {@code java -jar psa_api.jar --spring.profiles.active=synthetic --psa.synthetic.occurrences=5000000 --psa.synthetic.seed=7}.
+ * On PostgreSQL, add {@code reWriteBatchedInserts=true} to the JDBC URL so batches go out as
+ * multi-row inserts. The application exits once the schema has been filled.
+ */
+@Component
+@Profile("synthetic")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final ConfigurableApplicationContext context;
+
+    public SyntheticDataRunner(SyntheticDataGenerator generator, ConfigurableApplicationContext context) {
+        this.generator = generator;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            generator.generate();
+        } catch (Exception e) {
+            log.error("Synthetic data generation failed", e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,318 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * The synthetic data set as a pure function of {@link SyntheticDataProperties}: every row is
+ * derived from the seed and its own id, so rows can be built by any number of threads in any
+ * order and still come out the same.
+ *
+ * Brazil gets its 27 states and all 5570 municipalities; capitals carry their IBGE codes and
+ * names, the other municipalities get synthetic codes within their state. Every city has at
+ * least one address and the rest are spread like the occurrences, so the large metros hold
+ * most of both. Occurrence start times follow an hour-of-day and day-of-week profile in
+ * Brasília time, and their duration grows with intensity.
+ */
+final class SyntheticDataset {
+    static final int COUNTRY_ID = 1;
+    static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long HOUR = 3_600_000L;
+    private static final long MIN_DURATION = 10 * 60_000L;
+    private static final int COGNITO_ID_BASE = 100_000_000;
+
+    // Reports per hour of day and per day of week (Monday first), relative
+    private static final double[] HOUR_WEIGHTS = {
+            3, 2, 2, 1, 1, 2, 4, 6, 7, 6, 6, 7, 8, 7, 7, 7, 8, 10, 11, 11, 9, 7, 5, 4};
+    private static final double[] WEEKDAY_WEIGHTS = {1.0, 0.95, 0.95, 1.0, 1.1, 1.2, 1.1};
+    // Median duration in hours by intensity ordinal; durations are log-normal around it
+    private static final double[] MEDIAN_HOURS = {2, 4, 8, 24, 72};
+
+    private static final String[] CATEGORIES = {
+            "Acidente de Trânsito", "Alagamento", "Assalto à Mão Armada", "Queda de Energia",
+            "Incêndio", "Deslizamento de Terra", "Queda de Árvore", "Vazamento de Gás",
+            "Operação Policial", "Manifestação", "Interdição de Via", "Furto de Veículo"};
+    private static final String[] STREET_TYPES = {"Rua", "Rua", "Rua", "Avenida", "Travessa", "Alameda"};
+    private static final String[] STREET_NAMES = {
+            "São João", "Sete de Setembro", "Quinze de Novembro", "Tiradentes", "Dom Pedro II",
+            "Santos Dumont", "Getúlio Vargas", "Marechal Deodoro", "Barão do Rio Branco",
+            "José Bonifácio", "Castro Alves", "Rui Barbosa", "das Flores", "das Palmeiras",
+            "da Independência", "Presidente Vargas", "Amazonas", "Paraná", "Bahia", "Brasil"};
+    private static final String[] NEIGHBORHOODS = {
+            "Centro", "Jardim América", "Vila Nova", "Santa Cruz", "Boa Vista", "São José",
+            "Bela Vista", "Distrito Industrial", "Alvorada", "Primavera", "Liberdade", "Cidade Nova"};
+    private static final String[] COMPLEMENTS = {"Casa", "Apto %d", "Bloco %d", "Loja %d", "Sala %d", "Fundos"};
+
+    // Salts keeping the random streams of different tables apart
+    private static final long ADDRESS_STREAM = 1;
+    private static final long POLICE_DEPARTMENT_STREAM = 2;
+    private static final long OCCURRENCE_STREAM = 3;
+
+    private final long seed;
+    private final int users;
+    private final int policeDepartments;
+    private final int occurrences;
+    private final long until;
+    private final long days;
+
+    private final BrazilianState[] states = BrazilianState.values();
+    private final List<String> cityNames = new ArrayList<>();
+    private final List<Integer> cityIbgeCodes = new ArrayList<>();
+    private final List<BrazilianState> cityStates = new ArrayList<>();
+    private final int[] cityByRank;
+    // Addresses of city c have ids firstAddress[c] + 1 to firstAddress[c + 1]
+    private final int[] firstAddress;
+
+    private final Sampler citySampler;
+    private final Sampler userSampler;
+    private final Sampler hourSampler;
+    private final Intensity[] intensities;
+    private final Sampler intensitySampler;
+
+    SyntheticDataset(SyntheticDataProperties properties, Instant until) {
+        this.seed = properties.getSeed();
+        this.users = properties.getUsers();
+        this.policeDepartments = properties.getPoliceDepartments();
+        this.occurrences = properties.getOccurrences();
+        this.until = until.toEpochMilli();
+        this.days = Math.max(1, properties.getSpan().toDays());
+
+        List<Integer> capitals = new ArrayList<>();
+        List<Integer> others = new ArrayList<>();
+        for (BrazilianState state : states) {
+            capitals.add(cityNames.size());
+            addCity(state.capital(), state.capitalIbgeCode(), state);
+            int code = state.ibgeCode() * 100_000;
+            for (int i = 1; i < state.municipalities(); i++) {
+                code += 10;
+                if (code == state.capitalIbgeCode()) {
+                    code += 10;
+                }
+                others.add(cityNames.size());
+                addCity("Município " + code, code, state);
+            }
+        }
+        capitals.sort(Comparator.comparingInt((Integer city) -> cityStates.get(city).capitalPopulation()).reversed());
+        Collections.shuffle(others, new Random(seed));
+        cityByRank = new int[cityNames.size()];
+        for (int rank = 0; rank < cityByRank.length; rank++) {
+            cityByRank[rank] = rank < capitals.size() ? capitals.get(rank) : others.get(rank - capitals.size());
+        }
+
+        double[] cityWeights = zipfWeights(cityByRank.length, properties.getCitySkew());
+        citySampler = new Sampler(cityWeights);
+        firstAddress = allocateAddresses(Math.max(properties.getAddresses(), cityByRank.length), cityWeights);
+        userSampler = new Sampler(zipfWeights(Math.max(users, 1), properties.getUserSkew()));
+        hourSampler = new Sampler(HOUR_WEIGHTS);
+
+        Map<Intensity, Double> mix = properties.getIntensityMix();
+        intensities = mix.keySet().toArray(Intensity[]::new);
+        intensitySampler = new Sampler(Arrays.stream(intensities).mapToDouble(mix::get).toArray());
+    }
+
+    private void addCity(String name, int ibgeCode, BrazilianState state) {
+        cityNames.add(name);
+        cityIbgeCodes.add(ibgeCode);
+        cityStates.add(state);
+    }
+
+    private static double[] zipfWeights(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int rank = 0; rank < size; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, exponent);
+        }
+        return weights;
+    }
+
+    private int[] allocateAddresses(int addresses, double[] rankWeights) {
+        int cities = cityByRank.length;
+        double total = Arrays.stream(rankWeights).sum();
+        int spare = addresses - cities;
+        int[] perCity = new int[cities];
+        int assigned = 0;
+        for (int rank = 0; rank < cities; rank++) {
+            int extra = (int) (spare * rankWeights[rank] / total);
+            perCity[cityByRank[rank]] = 1 + extra;
+            assigned += extra;
+        }
+        for (int rank = 0; assigned < spare; rank = (rank + 1) % cities, assigned++) {
+            perCity[cityByRank[rank]]++;
+        }
+        int[] first = new int[cities + 1];
+        for (int city = 0; city < cities; city++) {
+            first[city + 1] = first[city] + perCity[city];
+        }
+        return first;
+    }
+
+    /**
+     * The tables to fill, parents before children, with rows keyed by id from 1.
+     */
+    List<Table> tables() {
+        return List.of(
+                new Table("countries", List.of("id", "name", "short_name", "iso_code"), 1,
+                        id -> new Object[]{id, "Brazil", "BR", "BRA"}),
+                new Table("states", List.of("id", "name", "short_name", "region", "ibge_code", "country_id"), states.length,
+                        this::state),
+                new Table("cities", List.of("id", "name", "short_name", "ibge_code", "state_id"), cityNames.size(),
+                        this::city),
+                new Table("addresses", List.of("id", "street", "number", "complement", "neighborhood", "city_id"), addressCount(),
+                        this::address),
+                new Table("users", List.of("id", "cognito_id"), users,
+                        id -> new Object[]{id, COGNITO_ID_BASE + id}),
+                new Table("police_departments", List.of("id", "overpass_id", "name", "short_name", "operator", "ownership",
+                        "phone", "email", "latitude", "longitude", "address_id"), policeDepartments,
+                        this::policeDepartment),
+                new Table("occurrences", List.of("id", "name", "description", "date_start", "date_end", "date_update",
+                        "active", "intensity", "address_id", "user_id"), occurrences,
+                        this::occurrence));
+    }
+
+    int addressCount() {
+        return firstAddress[firstAddress.length - 1];
+    }
+
+    /**
+     * Index of the city an address belongs to; city ids are the index plus one.
+     */
+    int cityOf(int addressId) {
+        int index = Arrays.binarySearch(firstAddress, addressId);
+        // Ids are 1-based, so an exact hit is the last address of the city before
+        return index >= 0 ? index - 1 : -index - 2;
+    }
+
+    String cityName(int city) {
+        return cityNames.get(city);
+    }
+
+    private Object[] state(int id) {
+        BrazilianState state = states[id - 1];
+        return new Object[]{id, state.stateName(), state.name(), state.region().ordinal(),
+                String.valueOf(state.ibgeCode()), COUNTRY_ID};
+    }
+
+    private Object[] city(int id) {
+        String name = cityNames.get(id - 1);
+        return new Object[]{id, name, name, String.valueOf(cityIbgeCodes.get(id - 1)),
+                cityStates.get(id - 1).ordinal() + 1};
+    }
+
+    private Object[] address(int id) {
+        SplittableRandom random = random(ADDRESS_STREAM, id);
+        String street = pick(random, STREET_TYPES) + " " + pick(random, STREET_NAMES);
+        String complement = String.format(Locale.ROOT, pick(random, COMPLEMENTS), 1 + random.nextInt(40));
+        return new Object[]{id, street, String.valueOf(1 + random.nextInt(3_000)), complement,
+                pick(random, NEIGHBORHOODS), cityOf(id) + 1};
+    }
+
+    private Object[] policeDepartment(int id) {
+        SplittableRandom random = random(POLICE_DEPARTMENT_STREAM, id);
+        int city = cityByRank[citySampler.sample(random)];
+        BrazilianState state = cityStates.get(city);
+        return new Object[]{id, "node/" + (9_000_000_000L + id),
+                id + "ª Delegacia de Polícia de " + cityNames.get(city), id + "ª DP",
+                "Polícia Civil", "public",
+                String.format(Locale.ROOT, "+55%02d3%07d", 11 + random.nextInt(89), random.nextInt(10_000_000)),
+                "dp" + id + "@policiacivil." + state.name().toLowerCase(Locale.ROOT) + ".gov.br",
+                String.format(Locale.ROOT, "%.6f", -33.7 + random.nextDouble() * 39.0),
+                String.format(Locale.ROOT, "%.6f", -73.9 + random.nextDouble() * 39.1),
+                randomAddress(random, city)};
+    }
+
+    private Object[] occurrence(int id) {
+        SplittableRandom random = random(OCCURRENCE_STREAM, id);
+        int city = cityByRank[citySampler.sample(random)];
+        int address = randomAddress(random, city);
+        int user = 1 + userSampler.sample(random);
+        Intensity intensity = intensities[intensitySampler.sample(random)];
+
+        long start = startTime(random);
+        long duration = (long) (MEDIAN_HOURS[intensity.ordinal()] * HOUR * Math.exp(0.75 * random.nextGaussian()));
+        long end = start + Math.max(duration, MIN_DURATION);
+        long update = start + (long) (random.nextDouble() * (Math.min(end, until) - start));
+
+        String category = pick(random, CATEGORIES);
+        String description = category + " reportado em " + cityNames.get(city) + " - " + cityStates.get(city).name() + ".";
+        return new Object[]{id, category, description, new Timestamp(start), new Timestamp(end), new Timestamp(update),
+                end > until, intensity.ordinal(), address, user};
+    }
+
+    private int randomAddress(SplittableRandom random, int city) {
+        return firstAddress[city] + 1 + random.nextInt(firstAddress[city + 1] - firstAddress[city]);
+    }
+
+    private long startTime(SplittableRandom random) {
+        LocalDate last = Instant.ofEpochMilli(until).atZone(ZONE).toLocalDate();
+        while (true) {
+            LocalDate day = last.minusDays(random.nextLong(days));
+            DayOfWeek weekday = day.getDayOfWeek();
+            if (random.nextDouble() * 1.2 > WEEKDAY_WEIGHTS[weekday.ordinal()]) {
+                continue;
+            }
+            long start = day.atTime(hourSampler.sample(random), random.nextInt(60), random.nextInt(60))
+                    .atZone(ZONE).toInstant().toEpochMilli();
+            if (start < until) {
+                return start;
+            }
+        }
+    }
+
+    private SplittableRandom random(long stream, int id) {
+        return new SplittableRandom(mix64(mix64(seed + stream * GOLDEN_GAMMA) + id));
+    }
+
+    // MurmurHash3 finalizer, so neighbouring ids get unrelated streams
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    record Table(String name, List<String> columns, int rows, IntFunction<Object[]> row) {
+    }
+
+    /**
+     * Draws indexes in proportion to their weights by binary search over the cumulative weights.
+     */
+    static final class Sampler {
+        private final double[] cumulative;
+
+        Sampler(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < cumulative.length; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+        }
+    }
+}
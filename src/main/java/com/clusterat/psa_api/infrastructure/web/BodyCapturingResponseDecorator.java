@@ -0,0 +1,20 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Buffers a non-streaming response body, hands a copy of the complete bytes to a callback
+ * and then writes them unchanged. Streaming writes ({@code writeAndFlushWith}) pass through
+ * untouched and are never captured.
+ */
+public class BodyCapturingResponseDecorator extends BodyRewritingResponseDecorator {
+
+    public BodyCapturingResponseDecorator(ServerHttpResponse delegate, Consumer<byte[]> onBody) {
+        super(delegate, bytes -> {
+            onBody.accept(bytes);
+            return bytes;
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Buffers a non-streaming response body, passes the complete bytes through a rewrite
+ * function and writes the result with a matching {@code Content-Length}. Streaming writes
+ * ({@code writeAndFlushWith}) pass through untouched.
+ */
+public class BodyRewritingResponseDecorator extends ServerHttpResponseDecorator {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final UnaryOperator<byte[]> rewrite;
+
+    public BodyRewritingResponseDecorator(ServerHttpResponse delegate, UnaryOperator<byte[]> rewrite) {
+        super(delegate);
+        this.rewrite = rewrite;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return DataBufferUtils.join(Flux.from(body))
+                .map(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+                    return bytes;
+                })
+                .defaultIfEmpty(EMPTY)
+                .flatMap(bytes -> {
+                    byte[] rewritten = rewrite.apply(bytes);
+                    if (rewritten != bytes) {
+                        getHeaders().setContentLength(rewritten.length);
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(rewritten)));
+                });
+    }
+}
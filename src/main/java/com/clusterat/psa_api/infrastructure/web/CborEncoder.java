@@ -0,0 +1,41 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Jackson2CborEncoder} that can be used by the response writers. The Spring encoder
+ * only implements {@code encodeValue} and rejects {@code encode} even for a single value,
+ * which is how every handler result is written. Single values are encoded directly and a
+ * multi-value publisher is collected into one CBOR array, since CBOR has no streaming
+ * framing comparable to newline-delimited JSON.
+ */
+public class CborEncoder extends Jackson2CborEncoder {
+
+    public CborEncoder(ObjectMapper mapper) {
+        super(mapper, Representation.CBOR.mediaType());
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> value) {
+            return value.map(item -> encodeValue(item, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream)
+                .collectList()
+                .map(items -> encodeValue(items, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
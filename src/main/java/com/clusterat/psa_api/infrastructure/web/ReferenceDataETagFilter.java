@@ -0,0 +1,100 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strong ETags and conditional GET for the reference data endpoints.
+ *
+ * The validator is derived only from in-memory table versions, so a matching
+ * {@code If-None-Match} is answered with {@code 304} before the request reaches an
+ * endpoint or the database. The versions are read before the endpoint runs; a concurrent
+ * write can at worst pair newer content with an older validator, which only costs the
+ * client one extra download later. JSON and the binary representations get distinct
+ * validators, and responses vary on {@code Accept}.
+ */
+@Component
+@Order(WebFilterOrder.CONDITIONAL_REQUESTS)
+public class ReferenceDataETagFilter implements WebFilter {
+
+    private static final Map<String, List<String>> ROUTES = new LinkedHashMap<>();
+
+    static {
+        ROUTES.put("/api/v1/countries", List.of(TableVersions.COUNTRIES));
+        ROUTES.put("/api/v1/states", List.of(TableVersions.STATES));
+        // ?expand= embeds the state and country, so city validators depend on those tables too
+        ROUTES.put("/api/v1/cities", List.of(TableVersions.CITIES, TableVersions.STATES, TableVersions.COUNTRIES));
+    }
+
+    private final TableVersions tableVersions;
+
+    public ReferenceDataETagFilter(TableVersions tableVersions) {
+        this.tableVersions = tableVersions;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return chain.filter(exchange);
+        }
+        List<String> tables = tablesFor(exchange.getRequest().getPath().pathWithinApplication().value());
+        if (tables == null) {
+            return chain.filter(exchange);
+        }
+
+        Representation representation = Representation.negotiate(exchange.getRequest().getHeaders().getAccept());
+        if (representation == null) {
+            return chain.filter(exchange);
+        }
+        String eTag = eTagFor(tables, representation);
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT));
+        if (exchange.checkNotModified(eTag)) {
+            return response.setComplete();
+        }
+        response.getHeaders().setCacheControl("no-cache");
+        response.beforeCommit(() -> {
+            HttpStatusCode status = response.getStatusCode();
+            if (status != null && !status.is2xxSuccessful()) {
+                response.getHeaders().remove(HttpHeaders.ETAG);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    static List<String> tablesFor(String path) {
+        for (Map.Entry<String, List<String>> route : ROUTES.entrySet()) {
+            String prefix = route.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    String eTagFor(List<String> tables, Representation representation) {
+        StringBuilder eTag = new StringBuilder("\"").append(tableVersions.epoch());
+        for (String table : tables) {
+            eTag.append('-').append(tableVersions.current(table));
+        }
+        if (representation.eTagSuffix() != null) {
+            eTag.append('-').append(representation.eTagSuffix());
+        }
+        return eTag.append('"').toString();
+    }
+}
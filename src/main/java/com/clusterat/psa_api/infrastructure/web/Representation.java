@@ -0,0 +1,77 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Encodings the API can produce for the same resource. JSON is the default; the binary
+ * forms are negotiated with {@code Accept} and carry the same fields.
+ */
+public enum Representation {
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+    private final String eTagSuffix;
+
+    Representation(MediaType mediaType, String eTagSuffix) {
+        this.mediaType = mediaType;
+        this.eTagSuffix = eTagSuffix;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Suffix that keeps validators distinct per representation, or {@code null} for JSON so
+     * existing JSON ETags are unchanged.
+     */
+    public String eTagSuffix() {
+        return eTagSuffix;
+    }
+
+    /**
+     * Picks the representation the codecs will produce for an {@code Accept} header:
+     * the highest-quality acceptable type wins and wildcards resolve to JSON. Returns
+     * {@code null} when none of them is acceptable.
+     */
+    public static Representation negotiate(List<MediaType> accept) {
+        if (accept.isEmpty()) {
+            return JSON;
+        }
+        List<MediaType> byQuality = accept.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+        for (MediaType type : byQuality) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            for (Representation representation : values()) {
+                if (type.isCompatibleWith(representation.mediaType)) {
+                    return representation;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Representation of a response by its {@code Content-Type}, or {@code null} when it is
+     * not one of ours.
+     */
+    public static Representation of(MediaType contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (Representation representation : values()) {
+            if (contentType.isCompatibleWith(representation.mediaType)) {
+                return representation;
+            }
+        }
+        return null;
+    }
+}
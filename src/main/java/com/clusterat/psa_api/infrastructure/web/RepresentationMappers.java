@@ -0,0 +1,40 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One Jackson mapper per {@link Representation}. The binary mappers are built from Boot's
+ * {@link Jackson2ObjectMapperBuilder}, so they share the modules and settings of the JSON one
+ * and every encoding carries the same fields.
+ */
+@Component
+public class RepresentationMappers {
+
+    private final Map<Representation, ObjectMapper> mappers = new EnumMap<>(Representation.class);
+
+    @Autowired
+    public RepresentationMappers(ObjectMapper objectMapper, ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this(objectMapper,
+                builders.getObject().factory(new CBORFactory()).build(),
+                builders.getObject().factory(new SmileFactory()).build());
+    }
+
+    RepresentationMappers(ObjectMapper json, ObjectMapper cbor, ObjectMapper smile) {
+        mappers.put(Representation.JSON, json);
+        mappers.put(Representation.CBOR, cbor);
+        mappers.put(Representation.SMILE, smile);
+    }
+
+    public ObjectMapper get(Representation representation) {
+        return mappers.get(representation);
+    }
+}
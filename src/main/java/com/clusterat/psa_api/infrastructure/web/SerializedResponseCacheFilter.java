@@ -0,0 +1,132 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the already-encoded JSON of the hot reference list endpoints and replays it as a
+ * wrapped {@code DataBuffer}, skipping the repository call, DTO mapping and Jackson.
+ *
+ * Entries are stamped with the table versions and epoch read before the endpoint ran and are
+ * only served while those are current, so any write through a repository adapter, on this
+ * replica or another one sharing the {@link TableVersions} store, invalidates them. A gzip
+ * copy is produced once per entry and served to clients that accept it. Only requests that
+ * negotiate JSON are served from or stored in the cache.
+ */
+@Component
+@Order(WebFilterOrder.RESPONSE_CACHE)
+public class SerializedResponseCacheFilter implements WebFilter {
+
+    private static final Map<String, List<String>> ROUTES = Map.of(
+            "/api/v1/countries", List.of(TableVersions.COUNTRIES),
+            "/api/v1/states", List.of(TableVersions.STATES),
+            "/api/v1/cities", List.of(TableVersions.CITIES),
+            "/api/v1/police-departments", List.of(TableVersions.POLICE_DEPARTMENTS));
+
+    private final TableVersions tableVersions;
+    private final boolean gzipEnabled;
+    private final Map<String, CachedBody> cache = new ConcurrentHashMap<>();
+
+    public SerializedResponseCacheFilter(TableVersions tableVersions,
+                                         @Value("${psa.response-cache.gzip:true}") boolean gzipEnabled) {
+        this.tableVersions = tableVersions;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        List<String> tables = ROUTES.get(path);
+        if (request.getMethod() != HttpMethod.GET || tables == null
+                || !request.getQueryParams().isEmpty()
+                || Representation.negotiate(request.getHeaders().getAccept()) != Representation.JSON) {
+            return chain.filter(exchange);
+        }
+
+        String version = versionOf(tables);
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setVary(gzipEnabled
+                ? List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                : List.of(HttpHeaders.ACCEPT));
+        CachedBody cached = cache.get(path);
+        if (cached != null && cached.version().equals(version)) {
+            return write(response, cached, gzipEnabled && acceptsGzip(request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)));
+        }
+
+        BodyCapturingResponseDecorator capturing = new BodyCapturingResponseDecorator(response, bytes -> {
+            MediaType contentType = response.getHeaders().getContentType();
+            if (response.getStatusCode() == HttpStatus.OK && contentType != null
+                    && contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                cache.put(path, new CachedBody(version, bytes, gzipEnabled ? gzip(bytes) : null));
+            }
+        });
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+
+    private String versionOf(List<String> tables) {
+        StringBuilder version = new StringBuilder(tableVersions.epoch());
+        for (String table : tables) {
+            version.append('.').append(tableVersions.current(table));
+        }
+        return version.toString();
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, CachedBody cached, boolean gzip) {
+        byte[] body = gzip && cached.gzip() != null ? cached.gzip() : cached.json();
+        response.setStatusCode(HttpStatus.OK);
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        if (body != cached.json()) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    // Whether Accept-Encoding lists gzip, without q=0
+    static boolean acceptsGzip(List<String> acceptEncoding) {
+        for (String value : acceptEncoding) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedBody(String version, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Applies {@code ?fields=} to every read, in any {@link Representation}: only the listed
+ * attributes (plus {@code id}) are kept in each returned object. Dotted names select inside
+ * embedded resources, e.g. {@code fields=name,address.street} together with
+ * {@code expand=address}; naming an embedded resource without a dot keeps it whole. Unknown
+ * names select nothing, and a malformed list is rejected with {@code 400}.
+ *
+ * Endpoints that can also narrow their SQL projection read the same parameter; this filter
+ * only trims the serialized output, so every read route gets the smaller payload.
+ */
+@Component
+@Order(WebFilterOrder.SPARSE_FIELDSETS)
+public class SparseFieldsetFilter implements WebFilter {
+
+    static final String PARAMETER = "fields";
+    // Marker key for a selection node that keeps the whole value
+    private static final String WHOLE = "";
+    private static final Pattern FIELD = Pattern.compile("[A-Za-z][A-Za-z0-9]*(\\.[A-Za-z][A-Za-z0-9]*)*");
+
+    private final RepresentationMappers representationMappers;
+
+    public SparseFieldsetFilter(RepresentationMappers representationMappers) {
+        this.representationMappers = representationMappers;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String fields = exchange.getRequest().getQueryParams().getFirst(PARAMETER);
+        if (fields == null || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        Map<String, Object> selection = parse(fields);
+        ServerHttpResponse response = exchange.getResponse();
+        if (selection == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return response.setComplete();
+        }
+
+        BodyRewritingResponseDecorator pruning = new BodyRewritingResponseDecorator(response, bytes -> {
+            Representation representation = Representation.of(response.getHeaders().getContentType());
+            if (response.getStatusCode() != HttpStatus.OK || bytes.length == 0 || representation == null) {
+                return bytes;
+            }
+            return prune(representationMappers.get(representation), bytes, selection);
+        });
+        return chain.filter(exchange.mutate().response(pruning).build());
+    }
+
+    /**
+     * Parses {@code name,address.street} into a nested selection tree where an empty node
+     * keeps the whole value. Returns {@code null} when a name is malformed.
+     */
+    static Map<String, Object> parse(String fields) {
+        Map<String, Object> selection = new LinkedHashMap<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!FIELD.matcher(trimmed).matches()) {
+                return null;
+            }
+            Map<String, Object> node = selection;
+            String[] segments = trimmed.split("\\.");
+            for (int i = 0; i < segments.length; i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> child = (Map<String, Object>) node.computeIfAbsent(segments[i], key -> new LinkedHashMap<>());
+                if (i == segments.length - 1) {
+                    // A bare name wins over any narrower selection inside it
+                    child.clear();
+                    child.put(WHOLE, Boolean.TRUE);
+                } else if (child.containsKey(WHOLE)) {
+                    break;
+                }
+                node = child;
+            }
+        }
+        return selection;
+    }
+
+    private static byte[] prune(ObjectMapper objectMapper, byte[] bytes, Map<String, Object> selection) {
+        try {
+            JsonNode body = objectMapper.readTree(bytes);
+            if (isLookupEnvelope(body)) {
+                for (JsonNode result : body.get("results")) {
+                    prune(result.get("item"), selection);
+                }
+            } else {
+                prune(body, selection);
+            }
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            return bytes;
+        }
+    }
+
+    // Multi-get responses wrap each resource as {"id", "found", "item"}; the selection applies to the items
+    private static boolean isLookupEnvelope(JsonNode body) {
+        return body.isObject() && body.size() == 2 && body.path("results").isArray() && body.path("missing").isArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void prune(JsonNode node, Map<String, Object> selection) {
+        if (node == null || selection.containsKey(WHOLE)) {
+            return;
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                prune(element, selection);
+            }
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> properties = ((ObjectNode) node).properties().iterator();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            Object child = selection.get(property.getKey());
+            if (child == null) {
+                if (!property.getKey().equals("id")) {
+                    properties.remove();
+                }
+            } else {
+                prune(property.getValue(), (Map<String, Object>) child);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the OpenAPI documents written at build time when springdoc is off, which it is
+ * outside the dev profile, so production pods never scan the endpoints. Each document is
+ * read once at startup and sent as the build compressed it to clients accepting gzip.
+ */
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class StaticApiDocsEndpoints {
+
+    /**
+     * The springdoc groups written by the build, served under {@code /api-docs/<group>}.
+     */
+    public static final List<String> DOCUMENTS = List.of("public-safety-api");
+
+    private static final Logger log = LoggerFactory.getLogger(StaticApiDocsEndpoints.class);
+    private static final String LOCATION = "openapi/";
+
+    private final Map<String, byte[]> plain = new HashMap<>();
+    private final Map<String, byte[]> gzipped = new HashMap<>();
+
+    public StaticApiDocsEndpoints() throws IOException {
+        for (String document : DOCUMENTS) {
+            ClassPathResource json = new ClassPathResource(LOCATION + document + ".json");
+            ClassPathResource gzip = new ClassPathResource(LOCATION + document + ".json.gz");
+            if (!json.exists() || !gzip.exists()) {
+                log.warn("OpenAPI document {} was not built into this jar, /api-docs/{} will answer 404", document, document);
+                continue;
+            }
+            plain.put(document, read(json));
+            gzipped.put(document, read(gzip));
+        }
+    }
+
+    private static byte[] read(ClassPathResource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @GetMapping("/api-docs/{document}")
+    public ResponseEntity<byte[]> getDocument(@PathVariable String document,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        byte[] json = plain.get(document);
+        if (json == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && SerializedResponseCacheFilter.acceptsGzip(List.of(acceptEncoding))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped.get(document));
+        }
+        return response.body(json);
+    }
+}
@@ -0,0 +1,17 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+/**
+ * Relative order of the application's {@link org.springframework.web.server.WebFilter}s.
+ * All of them run after Spring Security ({@code -100}) so that the principal is resolved
+ * and unauthenticated requests are rejected before any cached answer is produced.
+ */
+public final class WebFilterOrder {
+    public static final int RATE_LIMIT = -50;
+    public static final int IDEMPOTENCY = -40;
+    public static final int CONDITIONAL_REQUESTS = 0;
+    public static final int RESPONSE_CACHE = 10;
+    public static final int SPARSE_FIELDSETS = 20;
+
+    private WebFilterOrder() {
+    }
+}
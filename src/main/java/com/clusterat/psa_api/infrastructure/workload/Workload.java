@@ -0,0 +1,64 @@
+package com.clusterat.psa_api.infrastructure.workload;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * The kind of traffic a thread is serving. Each workload has its own executor and its own
+ * connection pool, so a bulk export or a backlog of background work cannot take the threads
+ * and connections that requests are waiting for.
+ *
+ * The current workload is a property of the thread. Threads that do not say otherwise serve
+ * {@link #INTERACTIVE} traffic; the threads of {@link WorkloadExecutors} and of the
+ * background workers are bound to theirs for their whole life.
+ */
+public enum Workload {
+    INTERACTIVE,
+    BULK,
+    BACKGROUND;
+
+    private static final ThreadLocal<Workload> current = new ThreadLocal<>();
+
+    /**
+     * The workload of the calling thread.
+     */
+    public static Workload current() {
+        Workload workload = current.get();
+        return workload != null ? workload : INTERACTIVE;
+    }
+
+    /**
+     * Name of the workload's executor and connection pool in metrics.
+     */
+    public String poolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Runs {@code task} with this as the calling thread's workload.
+     */
+    public <T> T call(Supplier<T> task) {
+        Workload previous = current.get();
+        current.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps {@code task} so that it runs with this as its thread's workload, for the body of
+     * a thread that serves a single workload.
+     */
+    public Runnable bind(Runnable task) {
+        return () -> call(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
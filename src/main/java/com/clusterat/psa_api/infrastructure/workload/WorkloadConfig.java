@@ -0,0 +1,16 @@
+package com.clusterat.psa_api.infrastructure.workload;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WorkloadProperties.class)
+public class WorkloadConfig {
+
+    @Bean
+    public WorkloadExecutors workloadExecutors(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        return new WorkloadExecutors(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.clusterat.psa_api.infrastructure.workload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * One bounded executor per {@link Workload}, whose threads are bound to it. Work submitted
+ * through {@link #supplyAsync(Supplier)} runs on the executor of the caller's workload, so
+ * the connections it takes come from that workload's pool as well.
+ *
+ * Every executor reports {@code executor.*} metrics tagged with the workload's name, and
+ * work refused because an executor's queue was full is counted in
+ * {@code psa.workload.rejected}.
+ */
+public class WorkloadExecutors implements Closeable {
+
+    private final Map<Workload, Executor> executors = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejected = new EnumMap<>(Workload.class);
+
+    public WorkloadExecutors(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            Counter refused = counter(workload, meterRegistry);
+            WorkloadProperties.Pool pool = properties.pool(workload);
+            AtomicInteger threads = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(pool.getSize(), pool.getSize(),
+                    60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(workload.bind(runnable),
+                                "workload-" + workload.poolName() + "-" + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (task, full) -> {
+                        refused.increment();
+                        throw new RejectedExecutionException("The " + workload.poolName() + " executor is saturated ("
+                                + full.getQueue().size() + " tasks queued)");
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            new ExecutorServiceMetrics(executor, workload.poolName(), Tags.of("workload", workload.poolName()))
+                    .bindTo(meterRegistry);
+            executors.put(workload, executor);
+            rejected.put(workload, refused);
+        }
+    }
+
+    private WorkloadExecutors(Executor executor, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            executors.put(workload, executor);
+            rejected.put(workload, counter(workload, meterRegistry));
+        }
+    }
+
+    /**
+     * Executors that run every workload on the common pool, as when workloads share threads.
+     */
+    public static WorkloadExecutors commonPool() {
+        return new WorkloadExecutors(ForkJoinPool.commonPool(), new SimpleMeterRegistry());
+    }
+
+    private static Counter counter(Workload workload, MeterRegistry meterRegistry) {
+        return Counter.builder("psa.workload.rejected")
+                .description("Tasks refused because the workload's executor queue was full")
+                .tag("workload", workload.poolName())
+                .register(meterRegistry);
+    }
+
+    public Executor executor(Workload workload) {
+        return executors.get(workload);
+    }
+
+    /**
+     * Runs {@code task} on the executor of the calling thread's workload.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return supplyAsync(Workload.current(), task);
+    }
+
+    /**
+     * Runs {@code task} on the executor of {@code workload}. When that executor's queue is
+     * full, the returned future fails with a {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Workload workload, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor(workload));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executors.values().forEach(executor -> {
+            if (executor instanceof ExecutorService service && !(executor instanceof ForkJoinPool)) {
+                service.shutdown();
+            }
+        });
+    }
+}
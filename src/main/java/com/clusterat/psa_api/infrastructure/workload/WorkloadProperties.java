@@ -0,0 +1,37 @@
+package com.clusterat.psa_api.infrastructure.workload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits of each {@link Workload} under {@code psa.workloads}. A workload gets {@code size}
+ * threads and as many connections to the primary, so its threads never wait for each other's
+ * connections. Work beyond that waits in a queue of {@code queue-capacity} tasks, and work
+ * arriving while the queue is full is refused.
+ */
+@Data
+@ConfigurationProperties(prefix = "psa.workloads")
+public class WorkloadProperties {
+
+    private Pool interactive = new Pool(10, 10_000);
+    private Pool bulk = new Pool(4, 100);
+    private Pool background = new Pool(2, 1_000);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int size;
+        private int queueCapacity;
+    }
+
+    public Pool pool(Workload workload) {
+        return switch (workload) {
+            case INTERACTIVE -> interactive;
+            case BULK -> bulk;
+            case BACKGROUND -> background;
+        };
+    }
+}
@@ -5,6 +5,8 @@ import com.clusterat.psa_api.application.dto.AddressApplicationDTO;
 import com.clusterat.psa_api.application.handlers.CreateAddressCommandHandler;
 import com.clusterat.psa_api.application.interfaces.IAddressRepository;
 import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.AddressPresentationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,11 +36,13 @@ public class AddressEndpoints {
 
     private final IAddressRepository addressRepository;
     private final CreateAddressCommandHandler createAddressCommandHandler;
+    private final ResourceExpander resourceExpander;
     private static final Logger log = LoggerFactory.getLogger(AddressEndpoints.class);
 
-    public AddressEndpoints(IAddressRepository addressRepository, CreateAddressCommandHandler createAddressCommandHandler) {
+    public AddressEndpoints(IAddressRepository addressRepository, CreateAddressCommandHandler createAddressCommandHandler, ResourceExpander resourceExpander) {
         this.addressRepository = addressRepository;
         this.createAddressCommandHandler = createAddressCommandHandler;
+        this.resourceExpander = resourceExpander;
     }
 
     @Operation(summary = "Get all addresses", description = "Retrieve a list of all addresses in the system")
@@ -58,13 +62,7 @@ public class AddressEndpoints {
                     List<AddressApplicationDTO.Response> response = addresses.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(address -> new AddressApplicationDTO.Response(
-                                    address.getId(),
-                                    address.getStreet(),
-                                    address.getNumber(),
-                                    address.getComplement(),
-                                    address.getNeighborhood(),
-                                    address.getCity().getId()))
+                            .map(AddressApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} addresses", response.size());
@@ -100,13 +98,7 @@ public class AddressEndpoints {
                     try {
                         if (addressOpt.isPresent()) {
                             AddressEntity address = addressOpt.get();
-                            AddressApplicationDTO.Response response = new AddressApplicationDTO.Response(
-                                    address.getId(),
-                                    address.getStreet(),
-                                    address.getNumber(),
-                                    address.getComplement(),
-                                    address.getNeighborhood(),
-                                    address.getCity().getId());
+                            AddressApplicationDTO.Response response = AddressApplicationDTO.Response.from(address);
                             
                             log.info("Successfully retrieved address: {}", address.getId());
                             MDC.clear();
@@ -133,6 +125,210 @@ public class AddressEndpoints {
         return future;
     }
 
+    @Operation(summary = "Get all addresses with related resources", description = "Retrieve all addresses with the requested relations embedded. Each relation level is loaded with one query for the whole list")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved addresses"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"expand", "!ids"})
+    public CompletableFuture<ResponseEntity<List<ExpansionPresentationDTO.ExpandedAddress>>> getAddressesExpanded(
+            @Parameter(
+                description = "Comma-separated relations to embed: city, city.state, city.state.country",
+                required = true,
+                example = "city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getAddressesExpanded");
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.ADDRESS);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected address expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve all addresses expanded with: {}", expansion);
+
+        return addressRepository.GetAllAsync()
+                .thenCompose(addresses -> resourceExpander.expandAddresses(
+                        addresses.stream().flatMap(Optional::stream).toList(), expansion))
+                .thenApply(response -> {
+                    log.info("Successfully retrieved {} expanded addresses", response.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded addresses", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get address by ID with related resources", description = "Retrieve a specific address with the requested relations embedded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved address"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "404", description = "Address not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{id}", params = "expand")
+    public CompletableFuture<ResponseEntity<ExpansionPresentationDTO.ExpandedAddress>> getAddressByIdExpanded(
+            @Parameter(
+                description = "Unique identifier of the address",
+                required = true,
+                example = "1",
+                schema = @Schema(type = "integer", minimum = "1")
+            ) @PathVariable("id") int id,
+            @Parameter(
+                description = "Comma-separated relations to embed: city, city.state, city.state.country",
+                required = true,
+                example = "city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getAddressByIdExpanded");
+        MDC.put("addressId", String.valueOf(id));
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.ADDRESS);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected address expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve address by id: {} expanded with: {}", id, expansion);
+
+        return addressRepository.GetByIdAsync(id)
+                .<ResponseEntity<ExpansionPresentationDTO.ExpandedAddress>>thenCompose(found -> {
+                    if (found.isEmpty()) {
+                        log.warn("Address not found with id: {}", id);
+                        MDC.clear();
+                        return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+                    }
+                    return resourceExpander.expandAddresses(List.of(found.get()), expansion)
+                            .thenApply(expanded -> {
+                                log.info("Successfully retrieved expanded address: {}", id);
+                                MDC.clear();
+                                return ResponseEntity.ok(expanded.get(0));
+                            });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded address by id: {}", id, throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get addresses by IDs", description = "Retrieve several addresses in one request. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "!expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<AddressApplicationDTO.Response>>> getAddressesByIds(
+            @Parameter(
+                description = "Comma-separated address IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids) {
+        MDC.put("operation", "getAddressesByIds");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected address multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupAddresses(ids);
+    }
+
+    @Operation(summary = "Get addresses by IDs with related resources", description = "Retrieve several addresses in one request with the requested relations embedded. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs, or unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedAddress>>> getAddressesByIdsExpanded(
+            @Parameter(
+                description = "Comma-separated address IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids,
+            @Parameter(
+                description = "Comma-separated relations to embed: city, city.state, city.state.country",
+                required = true,
+                example = "city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getAddressesByIdsExpanded");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected address multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.ADDRESS);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected address expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to look up {} addresses by id expanded with: {}", ids.size(), expansion);
+
+        return addressRepository.GetByIdsAsync(ids)
+                .thenCompose(found -> resourceExpander.expandAddresses(
+                                found.stream().flatMap(Optional::stream).toList(), expansion)
+                        .thenApply(expanded -> MultiGet.toResponse(ids, found, expanded)))
+                .thenApply(response -> {
+                    log.info("Found {} of {} requested addresses", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up expanded addresses by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Look up addresses by IDs", description = "Same as the ids query parameter, for ID sets too large for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<AddressApplicationDTO.Response>>> lookupAddressesByIds(
+            @Valid @org.springframework.web.bind.annotation.RequestBody LookupPresentationDTO.LookupRequest request) {
+        MDC.put("operation", "lookupAddressesByIds");
+        String error = MultiGet.validate(request.ids(), LookupPresentationDTO.MAX_LOOKUP_IDS);
+        if (error != null) {
+            log.warn("Rejected address lookup: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupAddresses(request.ids());
+    }
+
+    private CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<AddressApplicationDTO.Response>>> lookupAddresses(List<Integer> ids) {
+        log.info("Starting to look up {} addresses by id", ids.size());
+
+        return addressRepository.GetByIdsAsync(ids)
+                .thenApply(found -> {
+                    LookupPresentationDTO.Response<AddressApplicationDTO.Response> response =
+                            MultiGet.toResponse(ids, found, AddressApplicationDTO.Response::from);
+
+                    log.info("Found {} of {} requested addresses", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up addresses by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
     @Operation(summary = "Create new address", description = "Create a new address in the system")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Successfully created address",
@@ -173,13 +369,7 @@ public class AddressEndpoints {
         
         return createAddressCommandHandler.handle(command)
                 .thenApply(address -> {
-                    AddressApplicationDTO.Response response = new AddressApplicationDTO.Response(
-                            address.getId(),
-                            address.getStreet(),
-                            address.getNumber(),
-                            address.getComplement(),
-                            address.getNeighborhood(),
-                            address.getCity().getId());
+                    AddressApplicationDTO.Response response = AddressApplicationDTO.Response.from(address);
                     
                     log.info("Successfully created address with id: {}", address.getId());
                     MDC.clear();
@@ -246,13 +436,7 @@ public class AddressEndpoints {
                             return addressRepository.UpdateAsync(existingAddress)
                                     .thenApply(updatedAddress -> {
                                         try {
-                                            AddressApplicationDTO.Response response = new AddressApplicationDTO.Response(
-                                                    updatedAddress.getId(),
-                                                    updatedAddress.getStreet(),
-                                                    updatedAddress.getNumber(),
-                                                    updatedAddress.getComplement(),
-                                                    updatedAddress.getNeighborhood(),
-                                                    updatedAddress.getCity().getId());
+                                            AddressApplicationDTO.Response response = AddressApplicationDTO.Response.from(updatedAddress);
                                             
                                             log.info("Successfully updated address: {}", id);
                                             MDC.clear();
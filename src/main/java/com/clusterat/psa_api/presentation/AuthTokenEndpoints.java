@@ -0,0 +1,111 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.infrastructure.config.DevTokenConfig;
+import com.clusterat.psa_api.infrastructure.config.SecurityConfig;
+import com.clusterat.psa_api.presentation.dto.AuthPresentationDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@Profile("dev")
+@RequestMapping("/api/v1/auth/token")
+@Tag(name = "Authentication", description = "Development token issuing")
+public class AuthTokenEndpoints {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final ReactiveUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtEncoder jwtEncoder;
+    private final Duration tokenTtl;
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenEndpoints.class);
+
+    public AuthTokenEndpoints(ReactiveUserDetailsService userDetailsService,
+                              PasswordEncoder passwordEncoder,
+                              JwtEncoder jwtEncoder,
+                              @Value("${psa.security.jwt.dev-token-ttl:PT1H}") Duration tokenTtl) {
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtEncoder = jwtEncoder;
+        this.tokenTtl = tokenTtl;
+    }
+
+    @Operation(summary = "Issue access token",
+            description = "Exchange development credentials for a signed bearer token. Only available with the dev profile")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token issued"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+    })
+    @PostMapping
+    public Mono<ResponseEntity<AuthPresentationDTO.TokenResponse>> issueToken(
+            @Valid @RequestBody AuthPresentationDTO.TokenRequest request) {
+        MDC.put("operation", "issueToken");
+        log.info("Issuing token for user: {}", request.username());
+
+        return userDetailsService.findByUsername(request.username())
+                // BCrypt is deliberately slow, keep it off the event loop
+                .publishOn(Schedulers.boundedElastic())
+                .filter(user -> user.isEnabled() && passwordEncoder.matches(request.password(), user.getPassword()))
+                .map(user -> {
+                    AuthPresentationDTO.TokenResponse response = encode(user);
+                    log.info("Successfully issued token for user: {}", user.getUsername());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("Rejected token request for user: {}", request.username());
+                    MDC.clear();
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                }));
+    }
+
+    private AuthPresentationDTO.TokenResponse encode(UserDetails user) {
+        Instant now = Instant.now();
+        List<String> groups = user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority)
+                .toList();
+
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(DevTokenConfig.ISSUER)
+                .subject(user.getUsername())
+                .issuedAt(now)
+                .expiresAt(now.plus(tokenTtl))
+                .claim(SecurityConfig.GROUPS_CLAIM, groups)
+                .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new AuthPresentationDTO.TokenResponse(token, "Bearer", tokenTtl.toSeconds());
+    }
+}
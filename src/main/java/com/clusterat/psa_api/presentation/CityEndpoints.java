@@ -5,6 +5,7 @@ import com.clusterat.psa_api.application.dto.CityApplicationDTO;
 import com.clusterat.psa_api.application.handlers.CreateCityCommandHandler;
 import com.clusterat.psa_api.application.interfaces.ICityRepository;
 import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.CityPresentationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,11 +35,13 @@ public class CityEndpoints {
 
     private final ICityRepository cityRepository;
     private final CreateCityCommandHandler createCityCommandHandler;
+    private final ResourceExpander resourceExpander;
     private static final Logger log = LoggerFactory.getLogger(CityEndpoints.class);
 
-    public CityEndpoints(ICityRepository cityRepository, CreateCityCommandHandler createCityCommandHandler) {
+    public CityEndpoints(ICityRepository cityRepository, CreateCityCommandHandler createCityCommandHandler, ResourceExpander resourceExpander) {
         this.cityRepository = cityRepository;
         this.createCityCommandHandler = createCityCommandHandler;
+        this.resourceExpander = resourceExpander;
     }
 
     @Operation(summary = "Get all cities", description = "Retrieve a list of all cities in the system")
@@ -58,12 +61,7 @@ public class CityEndpoints {
                     List<CityApplicationDTO.Response> response = cities.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(city -> new CityApplicationDTO.Response(
-                                    city.getId(),
-                                    city.getName(),
-                                    city.getShortName(),
-                                    city.getIbgeCode(),
-                                    city.getState().getId()))
+                            .map(CityApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} cities", response.size());
@@ -104,12 +102,7 @@ public class CityEndpoints {
                     try {
                         if (cityOpt.isPresent()) {
                             CityEntity city = cityOpt.get();
-                            CityApplicationDTO.Response response = new CityApplicationDTO.Response(
-                                    city.getId(),
-                                    city.getName(),
-                                    city.getShortName(),
-                                    city.getIbgeCode(),
-                                    city.getState().getId());
+                            CityApplicationDTO.Response response = CityApplicationDTO.Response.from(city);
                             
                             log.info("Successfully retrieved city: {}", city.getId());
                             MDC.clear();
@@ -136,6 +129,98 @@ public class CityEndpoints {
         return future;
     }
 
+    @Operation(summary = "Get all cities with related resources", description = "Retrieve all cities with the requested relations embedded. Each relation level is loaded with one query for the whole list")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved cities"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = "expand")
+    public CompletableFuture<ResponseEntity<List<ExpansionPresentationDTO.ExpandedCity>>> getCitiesExpanded(
+            @Parameter(
+                description = "Comma-separated relations to embed: state, state.country",
+                required = true,
+                example = "state.country"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getCitiesExpanded");
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.CITY);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected city expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve all cities expanded with: {}", expansion);
+
+        return cityRepository.GetAllAsync()
+                .thenCompose(cities -> resourceExpander.expandCities(
+                        cities.stream().flatMap(Optional::stream).toList(), expansion))
+                .thenApply(response -> {
+                    log.info("Successfully retrieved {} expanded cities", response.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded cities", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get city by ID with related resources", description = "Retrieve a specific city with the requested relations embedded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved city"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "404", description = "City not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{id}", params = "expand")
+    public CompletableFuture<ResponseEntity<ExpansionPresentationDTO.ExpandedCity>> getCityByIdExpanded(
+            @Parameter(
+                description = "Unique identifier of the city",
+                required = true,
+                example = "1",
+                schema = @Schema(type = "integer", minimum = "1")
+            ) @PathVariable("id") int id,
+            @Parameter(
+                description = "Comma-separated relations to embed: state, state.country",
+                required = true,
+                example = "state.country"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getCityByIdExpanded");
+        MDC.put("cityId", String.valueOf(id));
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.CITY);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected city expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve city by id: {} expanded with: {}", id, expansion);
+
+        return cityRepository.GetByIdAsync(id)
+                .<ResponseEntity<ExpansionPresentationDTO.ExpandedCity>>thenCompose(found -> {
+                    if (found.isEmpty()) {
+                        log.warn("City not found with id: {}", id);
+                        MDC.clear();
+                        return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+                    }
+                    return resourceExpander.expandCities(List.of(found.get()), expansion)
+                            .thenApply(expanded -> {
+                                log.info("Successfully retrieved expanded city: {}", id);
+                                MDC.clear();
+                                return ResponseEntity.ok(expanded.get(0));
+                            });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded city by id: {}", id, throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
     @Operation(summary = "Get city by IBGE code", description = "Retrieve a city by its Brazilian Institute of Geography and Statistics (IBGE) code")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved city",
@@ -163,12 +248,7 @@ public class CityEndpoints {
                     try {
                         if (cityOpt.isPresent()) {
                             CityEntity city = cityOpt.get();
-                            CityApplicationDTO.Response response = new CityApplicationDTO.Response(
-                                    city.getId(),
-                                    city.getName(),
-                                    city.getShortName(),
-                                    city.getIbgeCode(),
-                                    city.getState().getId());
+                            CityApplicationDTO.Response response = CityApplicationDTO.Response.from(city);
                             
                             log.info("Successfully retrieved city by IBGE code: {}", ibgeCode);
                             MDC.clear();
@@ -235,12 +315,7 @@ public class CityEndpoints {
         
         return createCityCommandHandler.handle(command)
                 .thenApply(city -> {
-                    CityApplicationDTO.Response response = new CityApplicationDTO.Response(
-                            city.getId(),
-                            city.getName(),
-                            city.getShortName(),
-                            city.getIbgeCode(),
-                            city.getState().getId());
+                    CityApplicationDTO.Response response = CityApplicationDTO.Response.from(city);
                     
                     log.info("Successfully created city with id: {}", city.getId());
                     MDC.clear();
@@ -306,12 +381,7 @@ public class CityEndpoints {
                             return cityRepository.UpdateAsync(existingCity)
                                     .thenApply(updatedCity -> {
                                         try {
-                                            CityApplicationDTO.Response response = new CityApplicationDTO.Response(
-                                                    updatedCity.getId(),
-                                                    updatedCity.getName(),
-                                                    updatedCity.getShortName(),
-                                                    updatedCity.getIbgeCode(),
-                                                    updatedCity.getState().getId());
+                                            CityApplicationDTO.Response response = CityApplicationDTO.Response.from(updatedCity);
                                             
                                             log.info("Successfully updated city: {}", id);
                                             MDC.clear();
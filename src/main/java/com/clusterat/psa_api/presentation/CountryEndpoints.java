@@ -58,11 +58,7 @@ public class CountryEndpoints {
                     List<CountryApplicationDTO.Response> response = countries.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(country -> new CountryApplicationDTO.Response(
-                                    country.getId(),
-                                    country.getName(),
-                                    country.getShortName(),
-                                    country.getIsoCode()))
+                            .map(CountryApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} countries", response.size());
@@ -98,11 +94,7 @@ public class CountryEndpoints {
                     try {
                         if (countryOpt.isPresent()) {
                             CountryEntity country = countryOpt.get();
-                            CountryApplicationDTO.Response response = new CountryApplicationDTO.Response(
-                                    country.getId(),
-                                    country.getName(),
-                                    country.getShortName(),
-                                    country.getIsoCode());
+                            CountryApplicationDTO.Response response = CountryApplicationDTO.Response.from(country);
                             
                             log.info("Successfully retrieved country: {}", country.getId());
                             MDC.clear();
@@ -151,11 +143,7 @@ public class CountryEndpoints {
                     try {
                         if (countryOpt.isPresent()) {
                             CountryEntity country = countryOpt.get();
-                            CountryApplicationDTO.Response response = new CountryApplicationDTO.Response(
-                                    country.getId(),
-                                    country.getName(),
-                                    country.getShortName(),
-                                    country.getIsoCode());
+                            CountryApplicationDTO.Response response = CountryApplicationDTO.Response.from(country);
                             
                             log.info("Successfully retrieved country by ISO code: {}", isoCode);
                             MDC.clear();
@@ -220,11 +208,7 @@ public class CountryEndpoints {
         
         return createCountryCommandHandler.handle(command)
                 .thenApply(country -> {
-                    CountryApplicationDTO.Response response = new CountryApplicationDTO.Response(
-                            country.getId(),
-                            country.getName(),
-                            country.getShortName(),
-                            country.getIsoCode());
+                    CountryApplicationDTO.Response response = CountryApplicationDTO.Response.from(country);
                     
                     log.info("Successfully created country with id: {}", country.getId());
                     MDC.clear();
@@ -289,11 +273,7 @@ public class CountryEndpoints {
                             return countryRepository.UpdateAsync(existingCountry)
                                     .thenApply(updatedCountry -> {
                                         try {
-                                            CountryApplicationDTO.Response response = new CountryApplicationDTO.Response(
-                                                    updatedCountry.getId(),
-                                                    updatedCountry.getName(),
-                                                    updatedCountry.getShortName(),
-                                                    updatedCountry.getIsoCode());
+                                            CountryApplicationDTO.Response response = CountryApplicationDTO.Response.from(updatedCountry);
                                             
                                             log.info("Successfully updated country: {}", id);
                                             MDC.clear();
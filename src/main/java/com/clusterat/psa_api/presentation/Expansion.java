@@ -0,0 +1,74 @@
+package com.clusterat.psa_api.presentation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parsed {@code expand} parameter: a tree of relation names, where {@code address.city.state}
+ * expands the address, its city and the city's state. Each resource declares the tree it
+ * supports and anything outside it is rejected.
+ */
+public final class Expansion {
+
+    public static final Expansion NONE = new Expansion(Map.of());
+    public static final Expansion STATE = new Expansion(Map.of("country", NONE));
+    public static final Expansion CITY = new Expansion(Map.of("state", STATE));
+    public static final Expansion ADDRESS = new Expansion(Map.of("city", CITY));
+    public static final Expansion OCCURRENCE = new Expansion(Map.of("address", ADDRESS, "user", NONE));
+    public static final Expansion POLICE_DEPARTMENT = new Expansion(Map.of("address", ADDRESS));
+
+    private final Map<String, Expansion> children;
+
+    private Expansion(Map<String, Expansion> children) {
+        this.children = children;
+    }
+
+    /**
+     * @throws IllegalArgumentException when a path names a relation that {@code supported} does not have
+     */
+    public static Expansion parse(String expand, Expansion supported) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        for (String path : expand.split(",")) {
+            String trimmed = path.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> node = tree;
+            Expansion allowed = supported;
+            for (String segment : trimmed.split("\\.")) {
+                allowed = allowed.children.get(segment);
+                if (allowed == null) {
+                    throw new IllegalArgumentException("Cannot expand '" + trimmed + "'");
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> child = (Map<String, Object>) node.computeIfAbsent(segment, k -> new LinkedHashMap<String, Object>());
+                node = child;
+            }
+        }
+        return freeze(tree);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expansion freeze(Map<String, Object> tree) {
+        if (tree.isEmpty()) {
+            return NONE;
+        }
+        Map<String, Expansion> children = new LinkedHashMap<>();
+        tree.forEach((name, child) -> children.put(name, freeze((Map<String, Object>) child)));
+        return new Expansion(Collections.unmodifiableMap(children));
+    }
+
+    public boolean has(String relation) {
+        return children.containsKey(relation);
+    }
+
+    public Expansion child(String relation) {
+        return children.getOrDefault(relation, NONE);
+    }
+
+    @Override
+    public String toString() {
+        return children.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Shared handling for the {@code ?ids=} and {@code POST /lookup} endpoints.
+ */
+final class MultiGet {
+
+    private MultiGet() {
+    }
+
+    /**
+     * Returns a message describing why {@code ids} cannot be looked up, or {@code null} when valid.
+     */
+    static String validate(List<Integer> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            return "IDs cannot be empty";
+        }
+        if (ids.size() > maxIds) {
+            return "At most " + maxIds + " IDs can be requested at once";
+        }
+        if (ids.stream().anyMatch(id -> id == null || id < 1)) {
+            return "IDs must be positive integers";
+        }
+        return null;
+    }
+
+    static <E, R> LookupPresentationDTO.Response<R> toResponse(List<Integer> ids, List<Optional<E>> found,
+                                                               Function<E, R> mapper) {
+        List<LookupPresentationDTO.Entry<R>> results = new ArrayList<>(ids.size());
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            int id = ids.get(i);
+            Optional<E> entity = found.get(i);
+            if (entity.isPresent()) {
+                results.add(new LookupPresentationDTO.Entry<>(id, true, mapper.apply(entity.get())));
+            } else {
+                results.add(new LookupPresentationDTO.Entry<>(id, false, null));
+                missing.add(id);
+            }
+        }
+        return new LookupPresentationDTO.Response<>(results, missing);
+    }
+
+    /**
+     * Same as {@link #toResponse(List, List, Function)} for entities mapped as one batch, such as
+     * expansions: {@code mapped} holds one result per present entry of {@code found}, in order.
+     */
+    static <E, R> LookupPresentationDTO.Response<R> toResponse(List<Integer> ids, List<Optional<E>> found,
+                                                               List<R> mapped) {
+        Iterator<R> next = mapped.iterator();
+        return toResponse(ids, found, entity -> next.next());
+    }
+}
@@ -5,6 +5,8 @@ import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
 import com.clusterat.psa_api.application.handlers.CreateOccurrenceCommandHandler;
 import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
 import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.OccurrencePresentationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,13 +21,18 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/occurrences")
@@ -34,11 +41,13 @@ public class OccurrenceEndpoints {
 
     private final IOccurrenceRepository occurrenceRepository;
     private final CreateOccurrenceCommandHandler createOccurrenceCommandHandler;
+    private final ResourceExpander resourceExpander;
     private static final Logger log = LoggerFactory.getLogger(OccurrenceEndpoints.class);
 
-    public OccurrenceEndpoints(IOccurrenceRepository occurrenceRepository, CreateOccurrenceCommandHandler createOccurrenceCommandHandler) {
+    public OccurrenceEndpoints(IOccurrenceRepository occurrenceRepository, CreateOccurrenceCommandHandler createOccurrenceCommandHandler, ResourceExpander resourceExpander) {
         this.occurrenceRepository = occurrenceRepository;
         this.createOccurrenceCommandHandler = createOccurrenceCommandHandler;
+        this.resourceExpander = resourceExpander;
     }
 
     @Operation(summary = "Get all occurrences", description = "Retrieve a list of all occurrences in the system")
@@ -58,17 +67,7 @@ public class OccurrenceEndpoints {
                     List<OccurrenceApplicationDTO.Response> response = occurrences.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(occurrence -> new OccurrenceApplicationDTO.Response(
-                                    occurrence.getId(),
-                                    occurrence.getName(),
-                                    occurrence.getDescription(),
-                                    occurrence.getDateStart(),
-                                    occurrence.getDateEnd(),
-                                    occurrence.getDateUpdate(),
-                                    occurrence.isActive(),
-                                    occurrence.getIntensity(),
-                                    occurrence.getAddress().getId(),
-                                    occurrence.getUser().getId()))
+                            .map(OccurrenceApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} occurrences", response.size());
@@ -109,17 +108,7 @@ public class OccurrenceEndpoints {
                     try {
                         if (occurrenceOpt.isPresent()) {
                             OccurrenceEntity occurrence = occurrenceOpt.get();
-                            OccurrenceApplicationDTO.Response response = new OccurrenceApplicationDTO.Response(
-                                    occurrence.getId(),
-                                    occurrence.getName(),
-                                    occurrence.getDescription(),
-                                    occurrence.getDateStart(),
-                                    occurrence.getDateEnd(),
-                                    occurrence.getDateUpdate(),
-                                    occurrence.isActive(),
-                                    occurrence.getIntensity(),
-                                    occurrence.getAddress().getId(),
-                                    occurrence.getUser().getId());
+                            OccurrenceApplicationDTO.Response response = OccurrenceApplicationDTO.Response.from(occurrence);
                             
                             log.info("Successfully retrieved occurrence: {}", occurrence.getId());
                             MDC.clear();
@@ -146,6 +135,210 @@ public class OccurrenceEndpoints {
         return future;
     }
 
+    @Operation(summary = "Get all occurrences with related resources", description = "Retrieve all occurrences with the requested relations embedded. Each relation level is loaded with one query for the whole list")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved occurrences"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"expand", "!ids"})
+    public CompletableFuture<ResponseEntity<List<ExpansionPresentationDTO.ExpandedOccurrence>>> getOccurrencesExpanded(
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country, user",
+                required = true,
+                example = "address.city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getOccurrencesExpanded");
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.OCCURRENCE);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected occurrence expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve all occurrences expanded with: {}", expansion);
+
+        return occurrenceRepository.GetAllAsync()
+                .thenCompose(occurrences -> resourceExpander.expandOccurrences(
+                        occurrences.stream().flatMap(Optional::stream).toList(), expansion))
+                .thenApply(response -> {
+                    log.info("Successfully retrieved {} expanded occurrences", response.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded occurrences", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get occurrence by ID with related resources", description = "Retrieve a specific occurrence with the requested relations embedded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved occurrence"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "404", description = "Occurrence not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{id}", params = "expand")
+    public CompletableFuture<ResponseEntity<ExpansionPresentationDTO.ExpandedOccurrence>> getOccurrenceByIdExpanded(
+            @Parameter(
+                description = "Unique identifier of the occurrence",
+                required = true,
+                example = "1",
+                schema = @Schema(type = "integer", minimum = "1")
+            ) @PathVariable("id") int id,
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country, user",
+                required = true,
+                example = "address.city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getOccurrenceByIdExpanded");
+        MDC.put("occurrenceId", String.valueOf(id));
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.OCCURRENCE);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected occurrence expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve occurrence by id: {} expanded with: {}", id, expansion);
+
+        return occurrenceRepository.GetByIdAsync(id)
+                .<ResponseEntity<ExpansionPresentationDTO.ExpandedOccurrence>>thenCompose(found -> {
+                    if (found.isEmpty()) {
+                        log.warn("Occurrence not found with id: {}", id);
+                        MDC.clear();
+                        return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+                    }
+                    return resourceExpander.expandOccurrences(List.of(found.get()), expansion)
+                            .thenApply(expanded -> {
+                                log.info("Successfully retrieved expanded occurrence: {}", id);
+                                MDC.clear();
+                                return ResponseEntity.ok(expanded.get(0));
+                            });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded occurrence by id: {}", id, throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get occurrences by IDs", description = "Retrieve several occurrences in one request. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "!expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> getOccurrencesByIds(
+            @Parameter(
+                description = "Comma-separated occurrence IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids) {
+        MDC.put("operation", "getOccurrencesByIds");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected occurrence multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupOccurrences(ids);
+    }
+
+    @Operation(summary = "Get occurrences by IDs with related resources", description = "Retrieve several occurrences in one request with the requested relations embedded. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs, or unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedOccurrence>>> getOccurrencesByIdsExpanded(
+            @Parameter(
+                description = "Comma-separated occurrence IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids,
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country, user",
+                required = true,
+                example = "address.city.state"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getOccurrencesByIdsExpanded");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected occurrence multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.OCCURRENCE);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected occurrence expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to look up {} occurrences by id expanded with: {}", ids.size(), expansion);
+
+        return occurrenceRepository.GetByIdsAsync(ids)
+                .thenCompose(found -> resourceExpander.expandOccurrences(
+                                found.stream().flatMap(Optional::stream).toList(), expansion)
+                        .thenApply(expanded -> MultiGet.toResponse(ids, found, expanded)))
+                .thenApply(response -> {
+                    log.info("Found {} of {} requested occurrences", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up expanded occurrences by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Look up occurrences by IDs", description = "Same as the ids query parameter, for ID sets too large for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> lookupOccurrencesByIds(
+            @Valid @org.springframework.web.bind.annotation.RequestBody LookupPresentationDTO.LookupRequest request) {
+        MDC.put("operation", "lookupOccurrencesByIds");
+        String error = MultiGet.validate(request.ids(), LookupPresentationDTO.MAX_LOOKUP_IDS);
+        if (error != null) {
+            log.warn("Rejected occurrence lookup: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupOccurrences(request.ids());
+    }
+
+    private CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> lookupOccurrences(List<Integer> ids) {
+        log.info("Starting to look up {} occurrences by id", ids.size());
+
+        return occurrenceRepository.GetByIdsAsync(ids)
+                .thenApply(found -> {
+                    LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response> response =
+                            MultiGet.toResponse(ids, found, OccurrenceApplicationDTO.Response::from);
+
+                    log.info("Found {} of {} requested occurrences", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up occurrences by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
     @Operation(summary = "Get active occurrences", description = "Retrieve all currently active occurrences")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved active occurrences",
@@ -163,17 +356,7 @@ public class OccurrenceEndpoints {
                     List<OccurrenceApplicationDTO.Response> response = occurrences.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(occurrence -> new OccurrenceApplicationDTO.Response(
-                                    occurrence.getId(),
-                                    occurrence.getName(),
-                                    occurrence.getDescription(),
-                                    occurrence.getDateStart(),
-                                    occurrence.getDateEnd(),
-                                    occurrence.getDateUpdate(),
-                                    occurrence.isActive(),
-                                    occurrence.getIntensity(),
-                                    occurrence.getAddress().getId(),
-                                    occurrence.getUser().getId()))
+                            .map(OccurrenceApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} active occurrences", response.size());
@@ -204,17 +387,7 @@ public class OccurrenceEndpoints {
                     List<OccurrenceApplicationDTO.Response> response = occurrences.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(occurrence -> new OccurrenceApplicationDTO.Response(
-                                    occurrence.getId(),
-                                    occurrence.getName(),
-                                    occurrence.getDescription(),
-                                    occurrence.getDateStart(),
-                                    occurrence.getDateEnd(),
-                                    occurrence.getDateUpdate(),
-                                    occurrence.isActive(),
-                                    occurrence.getIntensity(),
-                                    occurrence.getAddress().getId(),
-                                    occurrence.getUser().getId()))
+                            .map(OccurrenceApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} inactive occurrences", response.size());
@@ -252,17 +425,7 @@ public class OccurrenceEndpoints {
                     List<OccurrenceApplicationDTO.Response> response = occurrences.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(occurrence -> new OccurrenceApplicationDTO.Response(
-                                    occurrence.getId(),
-                                    occurrence.getName(),
-                                    occurrence.getDescription(),
-                                    occurrence.getDateStart(),
-                                    occurrence.getDateEnd(),
-                                    occurrence.getDateUpdate(),
-                                    occurrence.isActive(),
-                                    occurrence.getIntensity(),
-                                    occurrence.getAddress().getId(),
-                                    occurrence.getUser().getId()))
+                            .map(OccurrenceApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} occurrences for user: {}", response.size(), userId);
@@ -276,13 +439,131 @@ public class OccurrenceEndpoints {
                 });
     }
 
+    @Operation(summary = "Get all occurrences with selected fields", description = "Retrieve all occurrences reading and returning only the listed attributes. The id is always included")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved occurrences"),
+            @ApiResponse(responseCode = "400", description = "Malformed fields list"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"fields", "!expand", "!ids"})
+    public CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> getOccurrencesSparse(
+            @Parameter(
+                description = "Comma-separated attributes to return",
+                required = true,
+                example = "name,intensity,dateStart"
+            ) @RequestParam("fields") String fields) {
+        MDC.put("operation", "getOccurrencesSparse");
+        log.info("Starting to retrieve all occurrences with fields: {}", fields);
+        return sparseOccurrences(occurrenceRepository.GetAllAsync(topLevelFields(fields)), "occurrences");
+    }
+
+    @Operation(summary = "Get active occurrences with selected fields", description = "Retrieve active occurrences reading and returning only the listed attributes. The id is always included")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved active occurrences"),
+            @ApiResponse(responseCode = "400", description = "Malformed fields list"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/active", params = "fields")
+    public CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> getActiveOccurrencesSparse(
+            @Parameter(
+                description = "Comma-separated attributes to return",
+                required = true,
+                example = "name,intensity,dateStart"
+            ) @RequestParam("fields") String fields) {
+        MDC.put("operation", "getActiveOccurrencesSparse");
+        log.info("Starting to retrieve active occurrences with fields: {}", fields);
+        return sparseOccurrences(occurrenceRepository.GetByActiveAsync(true, topLevelFields(fields)), "active occurrences");
+    }
+
+    @Operation(summary = "Get inactive occurrences with selected fields", description = "Retrieve inactive occurrences reading and returning only the listed attributes. The id is always included")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved inactive occurrences"),
+            @ApiResponse(responseCode = "400", description = "Malformed fields list"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/inactive", params = "fields")
+    public CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> getInactiveOccurrencesSparse(
+            @Parameter(
+                description = "Comma-separated attributes to return",
+                required = true,
+                example = "name,intensity,dateStart"
+            ) @RequestParam("fields") String fields) {
+        MDC.put("operation", "getInactiveOccurrencesSparse");
+        log.info("Starting to retrieve inactive occurrences with fields: {}", fields);
+        return sparseOccurrences(occurrenceRepository.GetByActiveAsync(false, topLevelFields(fields)), "inactive occurrences");
+    }
+
+    @Operation(summary = "Get occurrences by user with selected fields", description = "Retrieve a user's occurrences reading and returning only the listed attributes. The id is always included")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved user occurrences"),
+            @ApiResponse(responseCode = "400", description = "Malformed fields list"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/user/{userId}", params = "fields")
+    public CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> getOccurrencesByUserIdSparse(
+            @Parameter(
+                description = "Unique identifier of the user who created the occurrences",
+                required = true,
+                example = "123",
+                schema = @Schema(type = "integer", minimum = "1")
+            ) @PathVariable("userId") int userId,
+            @Parameter(
+                description = "Comma-separated attributes to return",
+                required = true,
+                example = "name,intensity,dateStart"
+            ) @RequestParam("fields") String fields) {
+        MDC.put("operation", "getOccurrencesByUserIdSparse");
+        MDC.put("userId", String.valueOf(userId));
+        log.info("Starting to retrieve occurrences for user: {} with fields: {}", userId, fields);
+        return sparseOccurrences(occurrenceRepository.GetByUserIdAsync(userId, topLevelFields(fields)), "occurrences for user " + userId);
+    }
+
+    // Attributes left out of the projection are null here; SparseFieldsetFilter drops them from the JSON
+    private CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> sparseOccurrences(
+            CompletableFuture<List<Optional<OccurrenceEntity>>> load, String description) {
+        return load
+                .thenApply(occurrences -> {
+                    List<OccurrenceApplicationDTO.Response> response = occurrences.stream()
+                            .flatMap(Optional::stream)
+                            .map(OccurrenceApplicationDTO.Response::from)
+                            .toList();
+
+                    log.info("Successfully retrieved {} {} with selected fields", response.size(), description);
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving {} with selected fields", description, throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    // Group commit refuses creates once its queue is full; that is overload, not a bad request
+    private static boolean isRejected(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> topLevelFields(String fields) {
+        return Arrays.stream(fields.split(","))
+                .map(field -> field.trim().split("\\.")[0])
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
     @Operation(summary = "Create new occurrence", description = "Create a new public safety occurrence or alert")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Successfully created occurrence",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = OccurrenceApplicationDTO.Response.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Too many creates pending, retry shortly")
     })
     @PostMapping
     public CompletableFuture<ResponseEntity<OccurrenceApplicationDTO.Response>> createOccurrence(
@@ -322,23 +603,20 @@ public class OccurrenceEndpoints {
         
         return createOccurrenceCommandHandler.handle(command)
                 .thenApply(occurrence -> {
-                    OccurrenceApplicationDTO.Response response = new OccurrenceApplicationDTO.Response(
-                            occurrence.getId(),
-                            occurrence.getName(),
-                            occurrence.getDescription(),
-                            occurrence.getDateStart(),
-                            occurrence.getDateEnd(),
-                            occurrence.getDateUpdate(),
-                            occurrence.isActive(),
-                            occurrence.getIntensity(),
-                            occurrence.getAddress().getId(),
-                            occurrence.getUser().getId());
+                    OccurrenceApplicationDTO.Response response = OccurrenceApplicationDTO.Response.from(occurrence);
                     
                     log.info("Successfully created occurrence with id: {}", occurrence.getId());
                     MDC.clear();
                     return ResponseEntity.status(HttpStatus.CREATED).body(response);
                 })
                 .exceptionally(throwable -> {
+                    if (isRejected(throwable)) {
+                        log.warn("Create queue full, refusing occurrence for address: {} by user: {}", request.addressId(), request.userId());
+                        MDC.clear();
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .<OccurrenceApplicationDTO.Response>build();
+                    }
                     log.error("Error creating occurrence for address: {} by user: {}", request.addressId(), request.userId(), throwable);
                     MDC.clear();
                     return ResponseEntity.badRequest().build();
@@ -403,17 +681,7 @@ public class OccurrenceEndpoints {
                             return occurrenceRepository.UpdateAsync(existingOccurrence)
                                     .thenApply(updatedOccurrence -> {
                                         try {
-                                            OccurrenceApplicationDTO.Response response = new OccurrenceApplicationDTO.Response(
-                                                    updatedOccurrence.getId(),
-                                                    updatedOccurrence.getName(),
-                                                    updatedOccurrence.getDescription(),
-                                                    updatedOccurrence.getDateStart(),
-                                                    updatedOccurrence.getDateEnd(),
-                                                    updatedOccurrence.getDateUpdate(),
-                                                    updatedOccurrence.isActive(),
-                                                    updatedOccurrence.getIntensity(),
-                                                    updatedOccurrence.getAddress().getId(),
-                                                    updatedOccurrence.getUser().getId());
+                                            OccurrenceApplicationDTO.Response response = OccurrenceApplicationDTO.Response.from(updatedOccurrence);
                                             
                                             log.info("Successfully updated occurrence: {}", id);
                                             MDC.clear();
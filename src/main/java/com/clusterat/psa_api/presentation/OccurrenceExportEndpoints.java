@@ -0,0 +1,83 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.infrastructure.export.OccurrenceExportFormat;
+import com.clusterat.psa_api.infrastructure.export.OccurrenceExportPartitioning;
+import com.clusterat.psa_api.infrastructure.export.OccurrenceExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/occurrences/export")
+@Tag(name = "Occurrence Management", description = "API endpoints for managing public safety occurrences and alerts")
+public class OccurrenceExportEndpoints {
+
+    private final OccurrenceExporter occurrenceExporter;
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceExportEndpoints.class);
+
+    public OccurrenceExportEndpoints(OccurrenceExporter occurrenceExporter) {
+        this.occurrenceExporter = occurrenceExporter;
+    }
+
+    @Operation(summary = "Export all occurrences",
+            description = "Stream a full extract of occurrences joined with address, city and state as gzip-compressed CSV or as a columnar binary file")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "400", description = "Invalid export parameters"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping
+    public Mono<Void> exportOccurrences(
+            @Parameter(description = "Output format: csv (gzip-compressed) or columnar", example = "csv")
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @Parameter(description = "Column used to split the export into parallel readers: id or dateStart", example = "id")
+            @RequestParam(value = "partitionBy", defaultValue = "id") String partitionBy,
+            @Parameter(description = "Number of parallel range readers (1-16)", example = "4")
+            @RequestParam(value = "partitions", defaultValue = "4") int partitions,
+            ServerHttpResponse response) {
+        MDC.put("operation", "exportOccurrences");
+        log.info("Starting occurrence export with format: {}, partitionBy: {}, partitions: {}", format, partitionBy, partitions);
+
+        OccurrenceExportFormat exportFormat;
+        OccurrenceExportPartitioning partitioning;
+        try {
+            exportFormat = OccurrenceExportFormat.fromParameter(format);
+            partitioning = OccurrenceExportPartitioning.fromParameter(partitionBy);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected occurrence export request: {}", e.getMessage());
+            MDC.clear();
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return response.setComplete();
+        }
+
+        String filename = "occurrences-" + LocalDate.now() + "." + exportFormat.fileExtension();
+        response.getHeaders().setContentType(MediaType.parseMediaType(exportFormat.contentType()));
+        response.getHeaders().setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+        MDC.clear();
+
+        // Netty sends the stitched file straight from the page cache; other servers get buffers
+        Mono<Void> export = response instanceof ZeroCopyHttpOutputMessage zeroCopy
+                ? occurrenceExporter.exportToResponse(exportFormat, partitioning, partitions, zeroCopy)
+                : response.writeWith(occurrenceExporter.exportAsStream(exportFormat, partitioning, partitions, response.bufferFactory()));
+        return export
+                .doOnSuccess(ignored -> log.info("Completed occurrence export with format: {}", exportFormat))
+                .doOnError(throwable -> log.error("Error exporting occurrences", throwable));
+    }
+}
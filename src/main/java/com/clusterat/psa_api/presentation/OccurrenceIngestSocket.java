@@ -0,0 +1,197 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.application.commands.CreateOccurrenceCommand;
+import com.clusterat.psa_api.application.commands.UpdateOccurrenceCommand;
+import com.clusterat.psa_api.application.handlers.CreateOccurrenceCommandHandler;
+import com.clusterat.psa_api.application.handlers.UpdateOccurrenceCommandHandler;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.presentation.dto.OccurrenceIngestPresentationDTO.Ack;
+import com.clusterat.psa_api.presentation.dto.OccurrenceIngestPresentationDTO.Message;
+import com.clusterat.psa_api.presentation.dto.OccurrencePresentationDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * WebSocket channel through which field units stream occurrence creates and updates over one
+ * long-lived connection instead of one HTTPS request each.
+ *
+ * Every text frame is one JSON {@link Message}. Messages are gathered into batches of up to
+ * {@code psa.ingest.max-batch}, or whatever arrived within {@code psa.ingest.max-delay}, and
+ * each batch is committed in one transaction per kind of command. Every message then gets an
+ * {@link Ack} carrying its id, in the order the messages were sent.
+ *
+ * Only one batch per connection is committed at a time and the next one is gathered
+ * meanwhile. Nothing more is read from the socket until that is done, so a slow database
+ * pushes back on the client through TCP instead of piling messages up in memory.
+ */
+@Component
+public class OccurrenceIngestSocket implements WebSocketHandler {
+    public static final String PATH = "/api/v1/occurrences/ingest";
+
+    private final CreateOccurrenceCommandHandler createOccurrenceCommandHandler;
+    private final UpdateOccurrenceCommandHandler updateOccurrenceCommandHandler;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxBatch;
+    private final Duration maxDelay;
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceIngestSocket.class);
+
+    public OccurrenceIngestSocket(CreateOccurrenceCommandHandler createOccurrenceCommandHandler,
+                                  UpdateOccurrenceCommandHandler updateOccurrenceCommandHandler,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  @Value("${psa.ingest.max-batch:100}") int maxBatch,
+                                  @Value("${psa.ingest.max-delay:PT0.02S}") Duration maxDelay) {
+        this.createOccurrenceCommandHandler = createOccurrenceCommandHandler;
+        this.updateOccurrenceCommandHandler = updateOccurrenceCommandHandler;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxBatch = maxBatch;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        log.info("Occurrence ingest session {} opened", session.getId());
+
+        Flux<WebSocketMessage> acks = session.receive()
+                .map(WebSocketMessage::getPayloadAsText)
+                .bufferTimeout(maxBatch, maxDelay, true)
+                .concatMap(batch -> Mono.fromFuture(() -> commit(batch)), 1)
+                .flatMapIterable(Function.identity())
+                .map(ack -> session.textMessage(write(ack)));
+
+        return session.send(acks)
+                .doFinally(signal -> log.info("Occurrence ingest session {} closed: {}", session.getId(), signal));
+    }
+
+    CompletableFuture<List<Ack>> commit(List<String> payloads) {
+        List<CompletableFuture<Ack>> acks = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        List<Integer> createAt = new ArrayList<>();
+        List<CreateOccurrenceCommand> creates = new ArrayList<>();
+        List<Integer> updateAt = new ArrayList<>();
+        List<UpdateOccurrenceCommand> updates = new ArrayList<>();
+
+        for (String payload : payloads) {
+            Message message;
+            try {
+                message = objectMapper.readValue(payload, Message.class);
+            } catch (JsonProcessingException e) {
+                ids.add(null);
+                acks.add(CompletableFuture.completedFuture(Ack.rejected(null, "Malformed message")));
+                continue;
+            }
+            ids.add(message.id());
+            String error = validate(message);
+            if (error != null) {
+                acks.add(CompletableFuture.completedFuture(Ack.rejected(message.id(), error)));
+            } else if (message.create() != null) {
+                createAt.add(acks.size());
+                creates.add(toCommand(message.create()));
+                acks.add(null);
+            } else {
+                updateAt.add(acks.size());
+                updates.add(toCommand(message.occurrenceId(), message.update()));
+                acks.add(null);
+            }
+        }
+
+        log.debug("Committing ingest batch of {} messages: {} creates, {} updates", payloads.size(), creates.size(), updates.size());
+        List<CompletableFuture<OccurrenceEntity>> created = creates.isEmpty() ? List.of() : createOccurrenceCommandHandler.handleAll(creates);
+        List<CompletableFuture<OccurrenceEntity>> updated = updates.isEmpty() ? List.of() : updateOccurrenceCommandHandler.handleAll(updates);
+        for (int i = 0; i < created.size(); i++) {
+            acks.set(createAt.get(i), acknowledge(ids.get(createAt.get(i)), created.get(i)));
+        }
+        for (int i = 0; i < updated.size(); i++) {
+            acks.set(updateAt.get(i), acknowledge(ids.get(updateAt.get(i)), updated.get(i)));
+        }
+
+        return CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> acks.stream().map(CompletableFuture::join).toList());
+    }
+
+    private String validate(Message message) {
+        Set<ConstraintViolation<Message>> violations = validator.validate(message);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if ((message.create() == null) == (message.update() == null)) {
+            return "Exactly one of create and update must be set";
+        }
+        if (message.update() != null && message.occurrenceId() == null) {
+            return "Occurrence ID is required with update";
+        }
+        return null;
+    }
+
+    private CompletableFuture<Ack> acknowledge(String id, CompletableFuture<OccurrenceEntity> outcome) {
+        return outcome.handle((occurrence, throwable) -> {
+            if (throwable == null) {
+                return Ack.accepted(id, occurrence.getId());
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof IllegalArgumentException) {
+                return Ack.rejected(id, cause.getMessage());
+            }
+            log.error("Failed to commit ingested occurrence command {}", id, cause);
+            return Ack.rejected(id, "Could not be saved, retry later");
+        });
+    }
+
+    private String write(Ack ack) {
+        try {
+            return objectMapper.writeValueAsString(ack);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CreateOccurrenceCommand toCommand(OccurrencePresentationDTO.CreateRequest request) {
+        return new CreateOccurrenceCommand(
+                request.name(),
+                request.description(),
+                request.dateStart(),
+                request.dateEnd(),
+                request.dateUpdate(),
+                request.active(),
+                request.intensity(),
+                request.addressId(),
+                request.userId());
+    }
+
+    private static UpdateOccurrenceCommand toCommand(int occurrenceId, OccurrencePresentationDTO.UpdateRequest request) {
+        return new UpdateOccurrenceCommand(
+                occurrenceId,
+                request.name(),
+                request.description(),
+                request.dateStart(),
+                request.dateEnd(),
+                request.dateUpdate(),
+                request.active(),
+                request.intensity());
+    }
+}
@@ -0,0 +1,81 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import com.clusterat.psa_api.infrastructure.events.OccurrenceEventHub;
+import com.clusterat.psa_api.infrastructure.events.OccurrenceSubscription;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/occurrences/stream")
+@Tag(name = "Occurrence Management", description = "API endpoints for managing public safety occurrences and alerts")
+public class OccurrenceStreamEndpoints {
+
+    private final OccurrenceEventHub occurrenceEventHub;
+    private final Duration heartbeat;
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceStreamEndpoints.class);
+
+    public OccurrenceStreamEndpoints(OccurrenceEventHub occurrenceEventHub,
+                                     @Value("${psa.events.heartbeat:PT15S}") Duration heartbeat) {
+        this.occurrenceEventHub = occurrenceEventHub;
+        this.heartbeat = heartbeat;
+    }
+
+    @Operation(summary = "Stream occurrence changes",
+            description = "Server-Sent Events feed of occurrence creations, updates, deactivations and deletions. "
+                    + "Reconnect with Last-Event-ID to receive the changes missed meanwhile; a 'resync' event means "
+                    + "they are no longer retained and the client should reload. The optional filters narrow the feed "
+                    + "to one city, state or region and to a minimum intensity; given together, all must match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<OccurrenceEvent>> streamOccurrences(
+            @Parameter(description = "Id of the last event received before reconnecting", example = "mvee82eg-42")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Only occurrences in this city", example = "1")
+            @RequestParam(required = false) Integer cityId,
+            @Parameter(description = "Only occurrences in this state", example = "1")
+            @RequestParam(required = false) Integer stateId,
+            @Parameter(description = "Only occurrences in this region", example = "SUDESTE")
+            @RequestParam(required = false) Region region,
+            @Parameter(description = "Only occurrences of at least this intensity", example = "HIGH")
+            @RequestParam(required = false) Intensity minIntensity) {
+        OccurrenceSubscription subscription = new OccurrenceSubscription(cityId, stateId, region, minIntensity);
+        log.info("Occurrence stream subscriber connected, resuming after: {}, filter: {}", lastEventId, subscription);
+
+        Flux<ServerSentEvent<OccurrenceEvent>> events = occurrenceEventHub.subscribe(lastEventId, subscription)
+                .map(entry -> entry.resync()
+                        ? ServerSentEvent.<OccurrenceEvent>builder().id(entry.id()).event("resync").build()
+                        : ServerSentEvent.<OccurrenceEvent>builder()
+                                .id(entry.id())
+                                .event(entry.event().type().name().toLowerCase(Locale.ROOT))
+                                .data(entry.event())
+                                .build());
+        // Comments keep idle connections open through proxies and let the server notice gone clients
+        Flux<ServerSentEvent<OccurrenceEvent>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<OccurrenceEvent>builder().comment("keepalive").build());
+
+        return Flux.merge(events, heartbeats)
+                .doOnCancel(() -> log.info("Occurrence stream subscriber disconnected"));
+    }
+}
@@ -5,6 +5,8 @@ import com.clusterat.psa_api.application.dto.PoliceDepartmentApplicationDTO;
 import com.clusterat.psa_api.application.handlers.CreatePoliceDepartmentCommandHandler;
 import com.clusterat.psa_api.application.interfaces.IPoliceDepartmentRepository;
 import com.clusterat.psa_api.domain.entities.PoliceDepartmentEntity;
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.PoliceDepartmentPresentationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,11 +36,13 @@ public class PoliceDepartmentEndpoints {
 
     private final IPoliceDepartmentRepository policeDepartmentRepository;
     private final CreatePoliceDepartmentCommandHandler createPoliceDepartmentCommandHandler;
+    private final ResourceExpander resourceExpander;
     private static final Logger log = LoggerFactory.getLogger(PoliceDepartmentEndpoints.class);
 
-    public PoliceDepartmentEndpoints(IPoliceDepartmentRepository policeDepartmentRepository, CreatePoliceDepartmentCommandHandler createPoliceDepartmentCommandHandler) {
+    public PoliceDepartmentEndpoints(IPoliceDepartmentRepository policeDepartmentRepository, CreatePoliceDepartmentCommandHandler createPoliceDepartmentCommandHandler, ResourceExpander resourceExpander) {
         this.policeDepartmentRepository = policeDepartmentRepository;
         this.createPoliceDepartmentCommandHandler = createPoliceDepartmentCommandHandler;
+        this.resourceExpander = resourceExpander;
     }
 
     @Operation(summary = "Get all police departments", description = "Retrieve a list of all police departments in the system")
@@ -58,18 +62,7 @@ public class PoliceDepartmentEndpoints {
                     List<PoliceDepartmentApplicationDTO.Response> response = policeDepartments.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(policeDepartment -> new PoliceDepartmentApplicationDTO.Response(
-                                    policeDepartment.getId(),
-                                    policeDepartment.getOverpassId(),
-                                    policeDepartment.getName(),
-                                    policeDepartment.getShortName(),
-                                    policeDepartment.getOperator(),
-                                    policeDepartment.getOwnership(),
-                                    policeDepartment.getPhone(),
-                                    policeDepartment.getEmail(),
-                                    policeDepartment.getLatitude(),
-                                    policeDepartment.getLongitude(),
-                                    policeDepartment.getAddress().getId()))
+                            .map(PoliceDepartmentApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} police departments", response.size());
@@ -105,18 +98,7 @@ public class PoliceDepartmentEndpoints {
                     try {
                         if (policeDepartmentOpt.isPresent()) {
                             PoliceDepartmentEntity policeDepartment = policeDepartmentOpt.get();
-                            PoliceDepartmentApplicationDTO.Response response = new PoliceDepartmentApplicationDTO.Response(
-                                    policeDepartment.getId(),
-                                    policeDepartment.getOverpassId(),
-                                    policeDepartment.getName(),
-                                    policeDepartment.getShortName(),
-                                    policeDepartment.getOperator(),
-                                    policeDepartment.getOwnership(),
-                                    policeDepartment.getPhone(),
-                                    policeDepartment.getEmail(),
-                                    policeDepartment.getLatitude(),
-                                    policeDepartment.getLongitude(),
-                                    policeDepartment.getAddress().getId());
+                            PoliceDepartmentApplicationDTO.Response response = PoliceDepartmentApplicationDTO.Response.from(policeDepartment);
                             
                             log.info("Successfully retrieved police department: {}", policeDepartment.getId());
                             MDC.clear();
@@ -143,6 +125,210 @@ public class PoliceDepartmentEndpoints {
         return future;
     }
 
+    @Operation(summary = "Get all police departments with related resources", description = "Retrieve all police departments with the requested relations embedded. Each relation level is loaded with one query for the whole list")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved police departments"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"expand", "!ids"})
+    public CompletableFuture<ResponseEntity<List<ExpansionPresentationDTO.ExpandedPoliceDepartment>>> getPoliceDepartmentsExpanded(
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country",
+                required = true,
+                example = "address.city"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getPoliceDepartmentsExpanded");
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.POLICE_DEPARTMENT);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected police department expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve all police departments expanded with: {}", expansion);
+
+        return policeDepartmentRepository.GetAllAsync()
+                .thenCompose(policeDepartments -> resourceExpander.expandPoliceDepartments(
+                        policeDepartments.stream().flatMap(Optional::stream).toList(), expansion))
+                .thenApply(response -> {
+                    log.info("Successfully retrieved {} expanded police departments", response.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded police departments", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get police department by ID with related resources", description = "Retrieve a specific police department with the requested relations embedded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved police department"),
+            @ApiResponse(responseCode = "400", description = "Unknown relation in expand"),
+            @ApiResponse(responseCode = "404", description = "Police department not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{id}", params = "expand")
+    public CompletableFuture<ResponseEntity<ExpansionPresentationDTO.ExpandedPoliceDepartment>> getPoliceDepartmentByIdExpanded(
+            @Parameter(
+                description = "Unique identifier of the police department",
+                required = true,
+                example = "1",
+                schema = @Schema(type = "integer", minimum = "1")
+            ) @PathVariable("id") int id,
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country",
+                required = true,
+                example = "address.city"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getPoliceDepartmentByIdExpanded");
+        MDC.put("policeDepartmentId", String.valueOf(id));
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.POLICE_DEPARTMENT);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected police department expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to retrieve police department by id: {} expanded with: {}", id, expansion);
+
+        return policeDepartmentRepository.GetByIdAsync(id)
+                .<ResponseEntity<ExpansionPresentationDTO.ExpandedPoliceDepartment>>thenCompose(found -> {
+                    if (found.isEmpty()) {
+                        log.warn("Police department not found with id: {}", id);
+                        MDC.clear();
+                        return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+                    }
+                    return resourceExpander.expandPoliceDepartments(List.of(found.get()), expansion)
+                            .thenApply(expanded -> {
+                                log.info("Successfully retrieved expanded police department: {}", id);
+                                MDC.clear();
+                                return ResponseEntity.ok(expanded.get(0));
+                            });
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error retrieving expanded police department by id: {}", id, throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Get police departments by IDs", description = "Retrieve several police departments in one request. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "!expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<PoliceDepartmentApplicationDTO.Response>>> getPoliceDepartmentsByIds(
+            @Parameter(
+                description = "Comma-separated police department IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids) {
+        MDC.put("operation", "getPoliceDepartmentsByIds");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected police department multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupPoliceDepartments(ids);
+    }
+
+    @Operation(summary = "Get police departments by IDs with related resources", description = "Retrieve several police departments in one request with the requested relations embedded. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs, or unknown relation in expand"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"ids", "expand"})
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedPoliceDepartment>>> getPoliceDepartmentsByIdsExpanded(
+            @Parameter(
+                description = "Comma-separated police department IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids,
+            @Parameter(
+                description = "Comma-separated relations to embed: address, address.city, address.city.state, address.city.state.country",
+                required = true,
+                example = "address.city"
+            ) @RequestParam("expand") String expand) {
+        MDC.put("operation", "getPoliceDepartmentsByIdsExpanded");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected police department multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        Expansion expansion;
+        try {
+            expansion = Expansion.parse(expand, Expansion.POLICE_DEPARTMENT);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected police department expansion: {}", e.getMessage());
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        log.info("Starting to look up {} police departments by id expanded with: {}", ids.size(), expansion);
+
+        return policeDepartmentRepository.GetByIdsAsync(ids)
+                .thenCompose(found -> resourceExpander.expandPoliceDepartments(
+                                found.stream().flatMap(Optional::stream).toList(), expansion)
+                        .thenApply(expanded -> MultiGet.toResponse(ids, found, expanded)))
+                .thenApply(response -> {
+                    log.info("Found {} of {} requested police departments", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up expanded police departments by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
+    @Operation(summary = "Look up police departments by IDs", description = "Same as the ids query parameter, for ID sets too large for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<PoliceDepartmentApplicationDTO.Response>>> lookupPoliceDepartmentsByIds(
+            @Valid @org.springframework.web.bind.annotation.RequestBody LookupPresentationDTO.LookupRequest request) {
+        MDC.put("operation", "lookupPoliceDepartmentsByIds");
+        String error = MultiGet.validate(request.ids(), LookupPresentationDTO.MAX_LOOKUP_IDS);
+        if (error != null) {
+            log.warn("Rejected police department lookup: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupPoliceDepartments(request.ids());
+    }
+
+    private CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<PoliceDepartmentApplicationDTO.Response>>> lookupPoliceDepartments(List<Integer> ids) {
+        log.info("Starting to look up {} police departments by id", ids.size());
+
+        return policeDepartmentRepository.GetByIdsAsync(ids)
+                .thenApply(found -> {
+                    LookupPresentationDTO.Response<PoliceDepartmentApplicationDTO.Response> response =
+                            MultiGet.toResponse(ids, found, PoliceDepartmentApplicationDTO.Response::from);
+
+                    log.info("Found {} of {} requested police departments", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up police departments by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
     @Operation(summary = "Get police department by Overpass ID", description = "Retrieve a police department by its OpenStreetMap Overpass API identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved police department",
@@ -165,18 +351,7 @@ public class PoliceDepartmentEndpoints {
                     try {
                         if (policeDepartmentOpt.isPresent()) {
                             PoliceDepartmentEntity policeDepartment = policeDepartmentOpt.get();
-                            PoliceDepartmentApplicationDTO.Response response = new PoliceDepartmentApplicationDTO.Response(
-                                    policeDepartment.getId(),
-                                    policeDepartment.getOverpassId(),
-                                    policeDepartment.getName(),
-                                    policeDepartment.getShortName(),
-                                    policeDepartment.getOperator(),
-                                    policeDepartment.getOwnership(),
-                                    policeDepartment.getPhone(),
-                                    policeDepartment.getEmail(),
-                                    policeDepartment.getLatitude(),
-                                    policeDepartment.getLongitude(),
-                                    policeDepartment.getAddress().getId());
+                            PoliceDepartmentApplicationDTO.Response response = PoliceDepartmentApplicationDTO.Response.from(policeDepartment);
                             
                             log.info("Successfully retrieved police department by overpass id: {}", overpassId);
                             MDC.clear();
@@ -249,18 +424,7 @@ public class PoliceDepartmentEndpoints {
         
         return createPoliceDepartmentCommandHandler.handle(command)
                 .thenApply(policeDepartment -> {
-                    PoliceDepartmentApplicationDTO.Response response = new PoliceDepartmentApplicationDTO.Response(
-                            policeDepartment.getId(),
-                            policeDepartment.getOverpassId(),
-                            policeDepartment.getName(),
-                            policeDepartment.getShortName(),
-                            policeDepartment.getOperator(),
-                            policeDepartment.getOwnership(),
-                            policeDepartment.getPhone(),
-                            policeDepartment.getEmail(),
-                            policeDepartment.getLatitude(),
-                            policeDepartment.getLongitude(),
-                            policeDepartment.getAddress().getId());
+                    PoliceDepartmentApplicationDTO.Response response = PoliceDepartmentApplicationDTO.Response.from(policeDepartment);
                     
                     log.info("Successfully created police department with id: {}", policeDepartment.getId());
                     MDC.clear();
@@ -332,18 +496,7 @@ public class PoliceDepartmentEndpoints {
                             return policeDepartmentRepository.UpdateAsync(existingPoliceDepartment)
                                     .thenApply(updatedPoliceDepartment -> {
                                         try {
-                                            PoliceDepartmentApplicationDTO.Response response = new PoliceDepartmentApplicationDTO.Response(
-                                                    updatedPoliceDepartment.getId(),
-                                                    updatedPoliceDepartment.getOverpassId(),
-                                                    updatedPoliceDepartment.getName(),
-                                                    updatedPoliceDepartment.getShortName(),
-                                                    updatedPoliceDepartment.getOperator(),
-                                                    updatedPoliceDepartment.getOwnership(),
-                                                    updatedPoliceDepartment.getPhone(),
-                                                    updatedPoliceDepartment.getEmail(),
-                                                    updatedPoliceDepartment.getLatitude(),
-                                                    updatedPoliceDepartment.getLongitude(),
-                                                    updatedPoliceDepartment.getAddress().getId());
+                                            PoliceDepartmentApplicationDTO.Response response = PoliceDepartmentApplicationDTO.Response.from(updatedPoliceDepartment);
                                             
                                             log.info("Successfully updated police department: {}", id);
                                             MDC.clear();
@@ -0,0 +1,178 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.application.dto.AddressApplicationDTO;
+import com.clusterat.psa_api.application.dto.CityApplicationDTO;
+import com.clusterat.psa_api.application.dto.CountryApplicationDTO;
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.dto.PoliceDepartmentApplicationDTO;
+import com.clusterat.psa_api.application.dto.StateApplicationDTO;
+import com.clusterat.psa_api.application.dto.UserApplicationDTO;
+import com.clusterat.psa_api.application.interfaces.IAddressRepository;
+import com.clusterat.psa_api.application.interfaces.ICityRepository;
+import com.clusterat.psa_api.application.interfaces.ICountryRepository;
+import com.clusterat.psa_api.application.interfaces.IStateRepository;
+import com.clusterat.psa_api.application.interfaces.IUserRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.PoliceDepartmentEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Embeds related resources for {@code ?expand=} reads. Each level is loaded with one
+ * {@code GetByIdsAsync} call for the distinct ids of the whole result, never per row, so
+ * fully expanding a list of occurrences costs one query per level regardless of its size.
+ * Only foreign key ids are read from the lazy associations, which does not touch the database.
+ */
+@Component
+public class ResourceExpander {
+
+    private final IAddressRepository addressRepository;
+    private final ICityRepository cityRepository;
+    private final IStateRepository stateRepository;
+    private final ICountryRepository countryRepository;
+    private final IUserRepository userRepository;
+
+    public ResourceExpander(IAddressRepository addressRepository,
+                            ICityRepository cityRepository,
+                            IStateRepository stateRepository,
+                            ICountryRepository countryRepository,
+                            IUserRepository userRepository) {
+        this.addressRepository = addressRepository;
+        this.cityRepository = cityRepository;
+        this.stateRepository = stateRepository;
+        this.countryRepository = countryRepository;
+        this.userRepository = userRepository;
+    }
+
+    public CompletableFuture<List<ExpansionPresentationDTO.ExpandedOccurrence>> expandOccurrences(
+            List<OccurrenceEntity> occurrences, Expansion expansion) {
+        CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedAddress>> addresses = expansion.has("address")
+                ? addresses(distinctIds(occurrences, occurrence -> occurrence.getAddress().getId()), expansion.child("address"))
+                : CompletableFuture.completedFuture(Map.of());
+        CompletableFuture<Map<Integer, UserApplicationDTO.Response>> users = expansion.has("user")
+                ? fetch(userRepository::GetByIdsAsync, distinctIds(occurrences, occurrence -> occurrence.getUser().getId()), UserEntity::getId)
+                        .thenApply(found -> mapValues(found, UserApplicationDTO.Response::from))
+                : CompletableFuture.completedFuture(Map.of());
+
+        return addresses.thenCombine(users, (addressById, userById) -> occurrences.stream()
+                .map(occurrence -> new ExpansionPresentationDTO.ExpandedOccurrence(
+                        OccurrenceApplicationDTO.Response.from(occurrence),
+                        addressById.get(occurrence.getAddress().getId()),
+                        userById.get(occurrence.getUser().getId())))
+                .toList());
+    }
+
+    public CompletableFuture<List<ExpansionPresentationDTO.ExpandedPoliceDepartment>> expandPoliceDepartments(
+            List<PoliceDepartmentEntity> policeDepartments, Expansion expansion) {
+        CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedAddress>> addresses = expansion.has("address")
+                ? addresses(distinctIds(policeDepartments, policeDepartment -> policeDepartment.getAddress().getId()), expansion.child("address"))
+                : CompletableFuture.completedFuture(Map.of());
+
+        return addresses.thenApply(addressById -> policeDepartments.stream()
+                .map(policeDepartment -> new ExpansionPresentationDTO.ExpandedPoliceDepartment(
+                        PoliceDepartmentApplicationDTO.Response.from(policeDepartment),
+                        addressById.get(policeDepartment.getAddress().getId())))
+                .toList());
+    }
+
+    public CompletableFuture<List<ExpansionPresentationDTO.ExpandedAddress>> expandAddresses(
+            List<AddressEntity> addresses, Expansion expansion) {
+        return expandAddressEntities(addresses, expansion)
+                .thenApply(expanded -> addresses.stream().map(address -> expanded.get(address.getId())).toList());
+    }
+
+    public CompletableFuture<List<ExpansionPresentationDTO.ExpandedCity>> expandCities(
+            List<CityEntity> cities, Expansion expansion) {
+        return expandCityEntities(cities, expansion)
+                .thenApply(expanded -> cities.stream().map(city -> expanded.get(city.getId())).toList());
+    }
+
+    private CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedAddress>> addresses(List<Integer> ids, Expansion expansion) {
+        return fetch(addressRepository::GetByIdsAsync, ids, AddressEntity::getId)
+                .thenCompose(found -> expandAddressEntities(found.values(), expansion));
+    }
+
+    private CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedAddress>> expandAddressEntities(
+            Collection<AddressEntity> addresses, Expansion expansion) {
+        CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedCity>> cities = expansion.has("city")
+                ? fetch(cityRepository::GetByIdsAsync, distinctIds(addresses, address -> address.getCity().getId()), CityEntity::getId)
+                        .thenCompose(found -> expandCityEntities(found.values(), expansion.child("city")))
+                : CompletableFuture.completedFuture(Map.of());
+
+        return cities.thenApply(cityById -> byId(addresses, AddressEntity::getId, address ->
+                new ExpansionPresentationDTO.ExpandedAddress(
+                        AddressApplicationDTO.Response.from(address),
+                        cityById.get(address.getCity().getId()))));
+    }
+
+    private CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedCity>> expandCityEntities(
+            Collection<CityEntity> cities, Expansion expansion) {
+        CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedState>> states = expansion.has("state")
+                ? fetch(stateRepository::GetByIdsAsync, distinctIds(cities, city -> city.getState().getId()), StateEntity::getId)
+                        .thenCompose(found -> expandStateEntities(found.values(), expansion.child("state")))
+                : CompletableFuture.completedFuture(Map.of());
+
+        return states.thenApply(stateById -> byId(cities, CityEntity::getId, city ->
+                new ExpansionPresentationDTO.ExpandedCity(
+                        CityApplicationDTO.Response.from(city),
+                        stateById.get(city.getState().getId()))));
+    }
+
+    private CompletableFuture<Map<Integer, ExpansionPresentationDTO.ExpandedState>> expandStateEntities(
+            Collection<StateEntity> states, Expansion expansion) {
+        CompletableFuture<Map<Integer, CountryApplicationDTO.Response>> countries = expansion.has("country")
+                ? fetch(countryRepository::GetByIdsAsync, distinctIds(states, state -> state.getCountry().getId()), CountryEntity::getId)
+                        .thenApply(found -> mapValues(found, CountryApplicationDTO.Response::from))
+                : CompletableFuture.completedFuture(Map.of());
+
+        return countries.thenApply(countryById -> byId(states, StateEntity::getId, state ->
+                new ExpansionPresentationDTO.ExpandedState(
+                        StateApplicationDTO.Response.from(state),
+                        countryById.get(state.getCountry().getId()))));
+    }
+
+    private static <E> CompletableFuture<Map<Integer, E>> fetch(
+            Function<List<Integer>, CompletableFuture<List<Optional<E>>>> getByIds,
+            List<Integer> ids,
+            Function<E, Integer> idOf) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return getByIds.apply(ids).thenApply(found -> byId(
+                found.stream().flatMap(Optional::stream).toList(), idOf, Function.identity()));
+    }
+
+    private static <E> List<Integer> distinctIds(Collection<E> entities, Function<E, Integer> idOf) {
+        return entities.stream()
+                .map(idOf)
+                .distinct()
+                .toList();
+    }
+
+    private static <E, R> Map<Integer, R> byId(Collection<E> entities, Function<E, Integer> idOf, Function<E, R> mapper) {
+        Map<Integer, R> result = new HashMap<>();
+        for (E entity : entities) {
+            result.put(idOf.apply(entity), mapper.apply(entity));
+        }
+        return result;
+    }
+
+    private static <E, R> Map<Integer, R> mapValues(Map<Integer, E> entities, Function<E, R> mapper) {
+        Map<Integer, R> result = new HashMap<>();
+        entities.forEach((id, entity) -> result.put(id, mapper.apply(entity)));
+        return result;
+    }
+}
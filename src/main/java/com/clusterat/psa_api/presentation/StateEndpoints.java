@@ -58,13 +58,7 @@ public class StateEndpoints {
                     List<StateApplicationDTO.Response> response = states.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(state -> new StateApplicationDTO.Response(
-                                    state.getId(),
-                                    state.getName(),
-                                    state.getShortName(),
-                                    state.getRegion(),
-                                    state.getIbgeCode(),
-                                    state.getCountry().getId()))
+                            .map(StateApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} states", response.size());
@@ -105,13 +99,7 @@ public class StateEndpoints {
                     try {
                         if (stateOpt.isPresent()) {
                             StateEntity state = stateOpt.get();
-                            StateApplicationDTO.Response response = new StateApplicationDTO.Response(
-                                    state.getId(),
-                                    state.getName(),
-                                    state.getShortName(),
-                                    state.getRegion(),
-                                    state.getIbgeCode(),
-                                    state.getCountry().getId());
+                            StateApplicationDTO.Response response = StateApplicationDTO.Response.from(state);
                             
                             log.info("Successfully retrieved state: {}", state.getId());
                             MDC.clear();
@@ -165,13 +153,7 @@ public class StateEndpoints {
                     try {
                         if (stateOpt.isPresent()) {
                             StateEntity state = stateOpt.get();
-                            StateApplicationDTO.Response response = new StateApplicationDTO.Response(
-                                    state.getId(),
-                                    state.getName(),
-                                    state.getShortName(),
-                                    state.getRegion(),
-                                    state.getIbgeCode(),
-                                    state.getCountry().getId());
+                            StateApplicationDTO.Response response = StateApplicationDTO.Response.from(state);
                             
                             log.info("Successfully retrieved state by IBGE code: {}", ibgeCode);
                             MDC.clear();
@@ -239,13 +221,7 @@ public class StateEndpoints {
         
         return createStateCommandHandler.handle(command)
                 .thenApply(state -> {
-                    StateApplicationDTO.Response response = new StateApplicationDTO.Response(
-                            state.getId(),
-                            state.getName(),
-                            state.getShortName(),
-                            state.getRegion(),
-                            state.getIbgeCode(),
-                            state.getCountry().getId());
+                    StateApplicationDTO.Response response = StateApplicationDTO.Response.from(state);
                     
                     log.info("Successfully created state with id: {}", state.getId());
                     MDC.clear();
@@ -5,6 +5,7 @@ import com.clusterat.psa_api.application.dto.UserApplicationDTO;
 import com.clusterat.psa_api.application.handlers.CreateUserCommandHandler;
 import com.clusterat.psa_api.application.interfaces.IUserRepository;
 import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.UserPresentationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -58,7 +59,7 @@ public class UserEndpoints {
                     List<UserApplicationDTO.Response> response = users.stream()
                             .filter(Optional::isPresent)
                             .map(Optional::get)
-                            .map(user -> new UserApplicationDTO.Response(user.getId(), user.getCognitoId()))
+                            .map(UserApplicationDTO.Response::from)
                             .toList();
                     
                     log.info("Successfully retrieved {} users", response.size());
@@ -99,7 +100,7 @@ public class UserEndpoints {
                     try {
                         if (userOpt.isPresent()) {
                             UserEntity user = userOpt.get();
-                            UserApplicationDTO.Response response = new UserApplicationDTO.Response(user.getId(), user.getCognitoId());
+                            UserApplicationDTO.Response response = UserApplicationDTO.Response.from(user);
                             
                             log.info("Successfully retrieved user: {}", user.getId());
                             MDC.clear();
@@ -126,6 +127,67 @@ public class UserEndpoints {
         return future;
     }
 
+    @Operation(summary = "Get users by IDs", description = "Retrieve several users in one request. Results follow the order of the requested IDs and missing IDs are reported explicitly")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<UserApplicationDTO.Response>>> getUsersByIds(
+            @Parameter(
+                description = "Comma-separated user IDs (at most " + LookupPresentationDTO.MAX_QUERY_IDS + ")",
+                required = true,
+                example = "1,2,3"
+            ) @RequestParam("ids") List<Integer> ids) {
+        MDC.put("operation", "getUsersByIds");
+        String error = MultiGet.validate(ids, LookupPresentationDTO.MAX_QUERY_IDS);
+        if (error != null) {
+            log.warn("Rejected user multi-get: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupUsers(ids);
+    }
+
+    @Operation(summary = "Look up users by IDs", description = "Same as the ids query parameter, for ID sets too large for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed, check each entry for found"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<UserApplicationDTO.Response>>> lookupUsersByIds(
+            @Valid @org.springframework.web.bind.annotation.RequestBody LookupPresentationDTO.LookupRequest request) {
+        MDC.put("operation", "lookupUsersByIds");
+        String error = MultiGet.validate(request.ids(), LookupPresentationDTO.MAX_LOOKUP_IDS);
+        if (error != null) {
+            log.warn("Rejected user lookup: {}", error);
+            MDC.clear();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return lookupUsers(request.ids());
+    }
+
+    private CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<UserApplicationDTO.Response>>> lookupUsers(List<Integer> ids) {
+        log.info("Starting to look up {} users by id", ids.size());
+
+        return userRepository.GetByIdsAsync(ids)
+                .thenApply(found -> {
+                    LookupPresentationDTO.Response<UserApplicationDTO.Response> response =
+                            MultiGet.toResponse(ids, found, UserApplicationDTO.Response::from);
+
+                    log.info("Found {} of {} requested users", ids.size() - response.missing().size(), ids.size());
+                    MDC.clear();
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("Error looking up users by id", throwable);
+                    MDC.clear();
+                    return ResponseEntity.internalServerError().build();
+                });
+    }
+
     @Operation(summary = "Get user by Cognito ID", description = "Retrieve a user by their AWS Cognito identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved user",
@@ -153,7 +215,7 @@ public class UserEndpoints {
                     try {
                         if (userOpt.isPresent()) {
                             UserEntity user = userOpt.get();
-                            UserApplicationDTO.Response response = new UserApplicationDTO.Response(user.getId(), user.getCognitoId());
+                            UserApplicationDTO.Response response = UserApplicationDTO.Response.from(user);
                             
                             log.info("Successfully retrieved user by cognito id: {}", cognitoId);
                             MDC.clear();
@@ -214,7 +276,7 @@ public class UserEndpoints {
         CreteUserCommand command = new CreteUserCommand(request.cognitoId());
         return createUserCommandHandler.handle(command)
                 .thenApply(user -> {
-                    UserApplicationDTO.Response response = new UserApplicationDTO.Response(user.getId(), user.getCognitoId());
+                    UserApplicationDTO.Response response = UserApplicationDTO.Response.from(user);
                     
                     log.info("Successfully created user with id: {}", user.getId());
                     MDC.clear();
@@ -277,7 +339,7 @@ public class UserEndpoints {
                             return userRepository.UpdateAsync(existingUser)
                                     .thenApply(updatedUser -> {
                                         try {
-                                            UserApplicationDTO.Response response = new UserApplicationDTO.Response(updatedUser.getId(), updatedUser.getCognitoId());
+                                            UserApplicationDTO.Response response = UserApplicationDTO.Response.from(updatedUser);
                                             
                                             log.info("Successfully updated user: {}", id);
                                             MDC.clear();
@@ -0,0 +1,25 @@
+package com.clusterat.psa_api.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public final class AuthPresentationDTO {
+    private AuthPresentationDTO() {
+    }
+
+    public static record TokenRequest(
+            @NotNull(message = "Username is required")
+            @NotBlank(message = "Username cannot be blank")
+            String username,
+
+            @NotNull(message = "Password is required")
+            @NotBlank(message = "Password cannot be blank")
+            String password
+    ) {}
+
+    public static record TokenResponse(
+            String accessToken,
+            String tokenType,
+            long expiresIn
+    ) {}
+}
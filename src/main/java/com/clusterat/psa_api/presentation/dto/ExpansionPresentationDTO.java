@@ -0,0 +1,74 @@
+package com.clusterat.psa_api.presentation.dto;
+
+import com.clusterat.psa_api.application.dto.AddressApplicationDTO;
+import com.clusterat.psa_api.application.dto.CityApplicationDTO;
+import com.clusterat.psa_api.application.dto.CountryApplicationDTO;
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.dto.PoliceDepartmentApplicationDTO;
+import com.clusterat.psa_api.application.dto.StateApplicationDTO;
+import com.clusterat.psa_api.application.dto.UserApplicationDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Responses for reads with {@code ?expand=}. Each record carries the plain response fields
+ * and, next to the foreign key, the related resource when it was requested.
+ */
+public final class ExpansionPresentationDTO {
+    private ExpansionPresentationDTO() {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "State with optionally embedded country")
+    public static record ExpandedState(
+            @JsonUnwrapped
+            StateApplicationDTO.Response state,
+
+            @Schema(description = "Country of the state, present when expanded", nullable = true)
+            CountryApplicationDTO.Response country
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "City with optionally embedded state")
+    public static record ExpandedCity(
+            @JsonUnwrapped
+            CityApplicationDTO.Response city,
+
+            @Schema(description = "State of the city, present when expanded", nullable = true)
+            ExpandedState state
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Address with optionally embedded city")
+    public static record ExpandedAddress(
+            @JsonUnwrapped
+            AddressApplicationDTO.Response address,
+
+            @Schema(description = "City of the address, present when expanded", nullable = true)
+            ExpandedCity city
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Occurrence with optionally embedded address and user")
+    public static record ExpandedOccurrence(
+            @JsonUnwrapped
+            OccurrenceApplicationDTO.Response occurrence,
+
+            @Schema(description = "Address of the occurrence, present when expanded", nullable = true)
+            ExpandedAddress address,
+
+            @Schema(description = "Reporting user, present when expanded", nullable = true)
+            UserApplicationDTO.Response user
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Police department with optionally embedded address")
+    public static record ExpandedPoliceDepartment(
+            @JsonUnwrapped
+            PoliceDepartmentApplicationDTO.Response policeDepartment,
+
+            @Schema(description = "Address of the police department, present when expanded", nullable = true)
+            ExpandedAddress address
+    ) {}
+}
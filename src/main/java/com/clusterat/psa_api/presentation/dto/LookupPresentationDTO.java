@@ -0,0 +1,44 @@
+package com.clusterat.psa_api.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public final class LookupPresentationDTO {
+    public static final int MAX_QUERY_IDS = 100;
+    public static final int MAX_LOOKUP_IDS = 1000;
+
+    private LookupPresentationDTO() {
+    }
+
+    public static record LookupRequest(
+            @NotNull(message = "IDs are required")
+            @NotEmpty(message = "IDs cannot be empty")
+            @Size(max = MAX_LOOKUP_IDS, message = "At most " + MAX_LOOKUP_IDS + " IDs can be looked up at once")
+            List<@NotNull(message = "IDs cannot contain null") Integer> ids
+    ) {}
+
+    @Schema(description = "Multi-get result, one entry per requested ID in request order")
+    public static record Response<T>(
+            @Schema(description = "Entries in the same order as the requested IDs")
+            List<Entry<T>> results,
+
+            @Schema(description = "Requested IDs that were not found", example = "[7]")
+            List<Integer> missing
+    ) {}
+
+    @Schema(description = "Lookup entry for one requested ID")
+    public static record Entry<T>(
+            @Schema(description = "Requested ID", example = "1")
+            int id,
+
+            @Schema(description = "Whether an entity exists with this ID", example = "true")
+            boolean found,
+
+            @Schema(description = "The entity, or null when not found", nullable = true)
+            T item
+    ) {}
+}
@@ -0,0 +1,58 @@
+package com.clusterat.psa_api.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public final class OccurrenceIngestPresentationDTO {
+    private OccurrenceIngestPresentationDTO() {
+    }
+
+    @Schema(description = "One command sent over the ingest socket; exactly one of create and update is set")
+    public static record Message(
+            @Schema(description = "Client chosen id echoed in the acknowledgement", example = "tablet-7-000123")
+            @NotBlank(message = "Message ID is required")
+            String id,
+
+            @Schema(description = "Occurrence to update, required with update", example = "1")
+            @Min(value = 1, message = "Occurrence ID must be positive")
+            Integer occurrenceId,
+
+            @Schema(description = "Occurrence to create")
+            @Valid
+            OccurrencePresentationDTO.CreateRequest create,
+
+            @Schema(description = "New state of the occurrence to update")
+            @Valid
+            OccurrencePresentationDTO.UpdateRequest update
+    ) {}
+
+    @Schema(description = "Outcome of one ingest message, sent once its batch has been committed or rejected")
+    public static record Ack(
+            @Schema(description = "Id of the acknowledged message, null when it could not be read", example = "tablet-7-000123")
+            String id,
+
+            @Schema(description = "Whether the command was committed", example = "ACCEPTED")
+            Status status,
+
+            @Schema(description = "ID of the created or updated occurrence", example = "1")
+            Integer occurrenceId,
+
+            @Schema(description = "Why the command was rejected", example = "Address with ID 9 not found")
+            String error
+    ) {
+        public static Ack accepted(String id, int occurrenceId) {
+            return new Ack(id, Status.ACCEPTED, occurrenceId, null);
+        }
+
+        public static Ack rejected(String id, String error) {
+            return new Ack(id, Status.REJECTED, null, error);
+        }
+    }
+
+    public enum Status {
+        ACCEPTED,
+        REJECTED
+    }
+}
@@ -0,0 +1,156 @@
+package com.clusterat.psa_api.application.handlers;
+
+import com.clusterat.psa_api.application.commands.CreateOccurrenceCommand;
+import com.clusterat.psa_api.application.interfaces.IAddressRepository;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceDuplicateDetector;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.application.interfaces.IUserRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CreateOccurrenceCommandHandlerTest {
+
+    @Mock
+    private IOccurrenceRepository occurrenceRepository;
+
+    @Mock
+    private IAddressRepository addressRepository;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @Mock
+    private IOccurrenceDuplicateDetector duplicateDetector;
+
+    @Captor
+    private ArgumentCaptor<List<OccurrenceEntity>> batchCaptor;
+
+    @InjectMocks
+    private CreateOccurrenceCommandHandler commandHandler;
+
+    @BeforeEach
+    void setUp() {
+        StateEntity state = StateEntity.create("São Paulo", "SP", Region.SUDESTE, "35", CountryEntity.create("Brazil", "BR", "BRA"));
+        AddressEntity address = AddressEntity.create("Rua A", "1", "Apto 1", "Centro", CityEntity.create("Campinas", "CPS", "3509502", state));
+        address.setId(4);
+        UserEntity user = UserEntity.create(12345);
+        user.setId(6);
+        given(addressRepository.GetByIdAsync(4)).willReturn(CompletableFuture.completedFuture(Optional.of(address)));
+        given(userRepository.GetByIdAsync(6)).willReturn(CompletableFuture.completedFuture(Optional.of(user)));
+    }
+
+    private static CreateOccurrenceCommand command(String name, int addressId) {
+        return new CreateOccurrenceCommand(name, "Description", new Date(), null, null, true, Intensity.HIGH, addressId, 6);
+    }
+
+    @Test
+    void handleAll_ShouldCommitValidCommandsTogether_AndFailOnlyInvalidOnes() {
+        // Given
+        given(addressRepository.GetByIdAsync(9)).willReturn(CompletableFuture.completedFuture(Optional.empty()));
+        given(occurrenceRepository.AddAllAsync(anyList())).willAnswer(invocation -> {
+            List<OccurrenceEntity> batch = invocation.getArgument(0);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setId(100 + i);
+            }
+            return CompletableFuture.completedFuture(batch);
+        });
+
+        // When
+        List<CompletableFuture<OccurrenceEntity>> results = commandHandler.handleAll(
+                List.of(command("First", 4), command("Unknown address", 9), command("Third", 4)));
+
+        // Then
+        assertThat(results.get(0).join().getName()).isEqualTo("First");
+        assertThat(results.get(0).join().getId()).isEqualTo(100);
+        assertThatThrownBy(results.get(1)::join)
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("Address with ID 9 not found");
+        assertThat(results.get(2).join().getId()).isEqualTo(101);
+        then(occurrenceRepository).should().AddAllAsync(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).extracting(OccurrenceEntity::getName).containsExactly("First", "Third");
+        then(occurrenceRepository).should(never()).AddAsync(any());
+    }
+
+    @Test
+    void handleAll_ShouldFailEveryCommand_WhenCommitFails() {
+        // Given
+        given(occurrenceRepository.AddAllAsync(anyList()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("Database unavailable")));
+
+        // When
+        List<CompletableFuture<OccurrenceEntity>> results = commandHandler.handleAll(
+                List.of(command("First", 4), command("Second", 4)));
+
+        // Then
+        assertThat(results).allSatisfy(result -> assertThat(result).isCompletedExceptionally());
+    }
+
+    @Test
+    void handleAll_ShouldFlagRepeatOfEarlierCommand_InSameBatch() {
+        // Given
+        given(duplicateDetector.FindDuplicateAmong(any(), anyList())).willAnswer(invocation -> {
+            OccurrenceEntity occurrence = invocation.getArgument(0);
+            List<OccurrenceEntity> earlier = invocation.getArgument(1);
+            return earlier.stream().filter(candidate -> candidate.getName().equals(occurrence.getName())).findFirst();
+        });
+        given(occurrenceRepository.AddAllAsync(anyList()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        // When
+        commandHandler.handleAll(List.of(command("Repeated report", 4), command("Other report", 4), command("Repeated report", 4)));
+
+        // Then
+        then(occurrenceRepository).should().AddAllAsync(batchCaptor.capture());
+        List<OccurrenceEntity> batch = batchCaptor.getValue();
+        assertThat(batch.get(0).getDuplicateOf()).isNull();
+        assertThat(batch.get(1).getDuplicateOf()).isNull();
+        assertThat(batch.get(2).getDuplicateOf()).isSameAs(batch.get(0));
+    }
+
+    @Test
+    void handle_ShouldFlagLikelyDuplicate_AndRememberCreatedOccurrence() {
+        // Given
+        given(duplicateDetector.FindDuplicate(any())).willReturn(Optional.of(42));
+        given(occurrenceRepository.AddAsync(any())).willAnswer(invocation -> {
+            OccurrenceEntity occurrence = invocation.getArgument(0);
+            occurrence.setId(100);
+            return CompletableFuture.completedFuture(occurrence);
+        });
+
+        // When
+        OccurrenceEntity created = commandHandler.handle(command("Repeated report", 4)).join();
+
+        // Then
+        assertThat(created.getDuplicateOfId()).isEqualTo(42);
+        then(duplicateDetector).should().Remember(created);
+    }
+}
@@ -1,54 +1,66 @@
 package com.clusterat.psa_api.config;
 
+import com.clusterat.psa_api.infrastructure.config.SecurityConfig;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
-import org.springframework.security.config.web.server.ServerHttpSecurity;
-import org.springframework.security.core.userdetails.MapReactiveUserDetailsService;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Verifies bearer tokens against a key generated once per test run, so requests go through
+ * the production {@link SecurityConfig} chain. Tests sign their own tokens with {@link #bearerToken}.
+ */
 @TestConfiguration
-@EnableWebFluxSecurity
 public class TestSecurityConfig {
 
+    private static final RSAKey SIGNING_KEY = generateKey();
+
     @Bean
-    public SecurityWebFilterChain testSecurityWebFilterChain(ServerHttpSecurity http) {
-        return http
-                .authorizeExchange(exchanges -> exchanges
-                        .pathMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
-                        .pathMatchers("/actuator/**").permitAll()
-                        .pathMatchers("/api/v1/**").authenticated()
-                        .anyExchange().authenticated()
-                )
-                .httpBasic(Customizer.withDefaults())
-                .csrf(ServerHttpSecurity.CsrfSpec::disable)
-                .build();
+    public ReactiveJwtDecoder testJwtDecoder() throws JOSEException {
+        return NimbusReactiveJwtDecoder.withPublicKey(SIGNING_KEY.toRSAPublicKey()).build();
     }
 
-    @Bean
-    public MapReactiveUserDetailsService testUserDetailsService() {
-        UserDetails testAdmin = User.builder()
-                .username("testadmin")
-                .password(testPasswordEncoder().encode("testpassword"))
-                .roles("ADMIN")
-                .build();
+    public static String bearerToken(String subject, String... groups) {
+        return sign(SIGNING_KEY, subject, Instant.now().plus(Duration.ofHours(1)), groups);
+    }
 
-        UserDetails testUser = User.builder()
-                .username("testuser")
-                .password(testPasswordEncoder().encode("testpassword"))
-                .roles("USER")
-                .build();
+    public static String expiredBearerToken(String subject) {
+        return sign(SIGNING_KEY, subject, Instant.now().minus(Duration.ofHours(1)));
+    }
 
-        return new MapReactiveUserDetailsService(testAdmin, testUser);
+    public static String foreignBearerToken(String subject) {
+        return sign(generateKey(), subject, Instant.now().plus(Duration.ofHours(1)));
     }
 
-    @Bean
-    public PasswordEncoder testPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    private static String sign(RSAKey key, String subject, Instant expiresAt, String... groups) {
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(subject)
+                .issuedAt(expiresAt.minus(Duration.ofHours(2)))
+                .expiresAt(expiresAt)
+                .claim(SecurityConfig.GROUPS_CLAIM, List.of(groups))
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    private static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate a test signing key", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Integer, List<String>> singleFlight;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", ArrayList::new, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private CompletableFuture<List<String>> load(CompletableFuture<List<String>> result) {
+        loads.incrementAndGet();
+        return result;
+    }
+
+    @Test
+    void execute_ShouldShareOneLoad_WhenCallsOverlap() {
+        // Given
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+        CompletableFuture<List<String>> first = singleFlight.execute(1, () -> load(pending));
+        CompletableFuture<List<String>> second = singleFlight.execute(1, () -> load(pending));
+        CompletableFuture<List<String>> third = singleFlight.execute(1, () -> load(pending));
+
+        // When
+        pending.complete(List.of("a"));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(first.join()).containsExactly("a");
+        assertThat(second.join()).containsExactly("a").isNotSameAs(first.join());
+        assertThat(third.join()).containsExactly("a").isNotSameAs(second.join());
+        assertThat(meterRegistry.get("psa.single_flight.shared").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("psa.single_flight.collapse_ratio").gauge().value()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void execute_ShouldLoadSeparately_WhenKeysDiffer() {
+        // When
+        singleFlight.execute(1, () -> load(new CompletableFuture<>()));
+        singleFlight.execute(2, () -> load(new CompletableFuture<>()));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(singleFlight.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_ShouldStartNewLoad_WhenPreviousLoadCompleted() {
+        // Given
+        singleFlight.execute(1, () -> load(CompletableFuture.completedFuture(List.of("old")))).join();
+
+        // When
+        List<String> result = singleFlight.execute(1, () -> load(CompletableFuture.completedFuture(List.of("new")))).join();
+
+        // Then
+        assertThat(result).containsExactly("new");
+        assertThat(loads).hasValue(2);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_ShouldFailAllCallersAndReleaseKey_WhenLoadFails() {
+        // Given
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+        CompletableFuture<List<String>> first = singleFlight.execute(1, () -> load(pending));
+        CompletableFuture<List<String>> second = singleFlight.execute(1, () -> load(pending));
+
+        // When
+        pending.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("boom");
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("boom");
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void forget_ShouldMakeLaterCallersStartNewLoad_WhenLoadIsStillInFlight() {
+        // Given
+        CompletableFuture<List<String>> beforeWrite = new CompletableFuture<>();
+        CompletableFuture<List<String>> first = singleFlight.execute(1, () -> load(beforeWrite));
+
+        // When
+        singleFlight.forget(1);
+        CompletableFuture<List<String>> second = singleFlight.execute(1, () -> load(CompletableFuture.completedFuture(List.of("new"))));
+        beforeWrite.complete(List.of("old"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(first.join()).containsExactly("old");
+        assertThat(second.join()).containsExactly("new");
+    }
+}
@@ -0,0 +1,89 @@
+package com.clusterat.psa_api.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableVersionsTest {
+
+    @Test
+    void refresh_ShouldPickUpBumpsMadeByAnotherReplica() {
+        // Given
+        TableVersionStore shared = new LocalTableVersionStore();
+        TableVersions replicaA = new TableVersions(shared, null);
+        TableVersions replicaB = new TableVersions(shared, null);
+
+        // When
+        replicaA.bump(TableVersions.CITIES);
+        long beforeRefresh = replicaB.current(TableVersions.CITIES);
+        replicaB.refresh();
+
+        // Then
+        assertThat(replicaB.epoch()).isEqualTo(replicaA.epoch());
+        assertThat(beforeRefresh).isZero();
+        assertThat(replicaB.current(TableVersions.CITIES)).isEqualTo(1L);
+        assertThat(replicaA.current(TableVersions.CITIES)).isEqualTo(1L);
+    }
+
+    @Test
+    void bump_ShouldNeverMoveAVersionBack_WhenAnOlderStateArrivesLater() {
+        // Given
+        ScriptedStore store = new ScriptedStore(new TableVersionStore.State("e1", Map.of(TableVersions.STATES, 5L)));
+        TableVersions tableVersions = new TableVersions(store, null);
+
+        // When
+        store.next = new TableVersionStore.State("e1", Map.of(TableVersions.STATES, 4L));
+        tableVersions.bump(TableVersions.STATES);
+
+        // Then
+        assertThat(tableVersions.current(TableVersions.STATES)).isEqualTo(5L);
+    }
+
+    @Test
+    void bump_ShouldSwitchToAnEpochOfItsOwn_WhenTheStoreCannotBeReached() {
+        // Given
+        ScriptedStore store = new ScriptedStore(new TableVersionStore.State("e1", Map.of(TableVersions.STATES, 5L)));
+        TableVersions tableVersions = new TableVersions(store, null);
+
+        // When
+        store.failing = true;
+        tableVersions.bump(TableVersions.STATES);
+        String isolatedEpoch = tableVersions.epoch();
+        store.failing = false;
+        tableVersions.refresh();
+
+        // Then
+        assertThat(isolatedEpoch).isNotEqualTo("e1");
+        assertThat(tableVersions.epoch()).isEqualTo("e1");
+        assertThat(tableVersions.current(TableVersions.STATES)).isEqualTo(5L);
+    }
+
+    private static final class ScriptedStore implements TableVersionStore {
+        private State next;
+        private boolean failing;
+
+        private ScriptedStore(State initial) {
+            this.next = initial;
+        }
+
+        @Override
+        public State read() {
+            return answer();
+        }
+
+        @Override
+        public State bump(Collection<String> tables) {
+            return answer();
+        }
+
+        private State answer() {
+            if (failing) {
+                throw new IllegalStateException("store unreachable");
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.clusterat.psa_api.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private final SecurityConfig securityConfig = new SecurityConfig();
+
+    @Test
+    void jwtAuthenticationConverter_ShouldMapCognitoGroupsToRoles_WhenTokenHasGroups() {
+        // Given
+        Jwt jwt = jwt(List.of("ADMIN", "USER"));
+
+        // When
+        AbstractAuthenticationToken authentication = securityConfig.jwtAuthenticationConverter().convert(jwt).block();
+
+        // Then
+        assertThat(authentication.getName()).isEqualTo("testuser");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void jwtAuthenticationConverter_ShouldGrantNoRoles_WhenTokenHasNoGroups() {
+        // Given
+        Jwt jwt = jwt(List.of());
+
+        // When
+        AbstractAuthenticationToken authentication = securityConfig.jwtAuthenticationConverter().convert(jwt).block();
+
+        // Then
+        assertThat(authentication.getAuthorities()).isEmpty();
+    }
+
+    private static Jwt jwt(List<String> groups) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("testuser")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(60))
+                .claim(SecurityConfig.GROUPS_CLAIM, groups)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.clusterat.psa_api.infrastructure.coordination;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class JobCoordinatorTest {
+
+    private AtomicLong clock;
+    private LocalLeaseStore store;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_700_000_000_000L);
+        store = new LocalLeaseStore(clock::get);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private JobCoordinator coordinator(String nodeId, LeaseStore leaseStore) {
+        CoordinationProperties properties = new CoordinationProperties();
+        properties.setNodeId(nodeId);
+        properties.setTtl(Duration.ofSeconds(15));
+        return new JobCoordinator(leaseStore, properties, () -> clock.get() * 1_000_000, meterRegistry);
+    }
+
+    @Test
+    void leaderOnly_ShouldGrantOneNode_AndHandOverWithLargerToken_WhenLeaderStopsRenewing() {
+        // Given
+        JobCoordinator first = coordinator("node-a", store);
+        JobCoordinator second = coordinator("node-b", store);
+        LeaderLease firstLease = first.leaderOnly("rollup");
+        LeaderLease secondLease = second.leaderOnly("rollup");
+        first.renew();
+        second.renew();
+        boolean secondHeldWhileFirstRenewed = secondLease.isHeld();
+        long firstToken = firstLease.token();
+
+        // When
+        clock.addAndGet(16_000);
+        second.renew();
+
+        // Then
+        assertThat(secondHeldWhileFirstRenewed).isFalse();
+        assertThat(firstToken).isEqualTo(1);
+        assertThat(firstLease.isHeld()).isFalse();
+        assertThat(secondLease.isHeld()).isTrue();
+        assertThat(secondLease.token()).isEqualTo(2);
+    }
+
+    @Test
+    void partitioned_ShouldSplitKeysAcrossLiveMembers_AndReassignThem_WhenMemberLeaves() {
+        // Given
+        JobCoordinator first = coordinator("node-a", store);
+        JobCoordinator second = coordinator("node-b", store);
+        WorkPartition firstShare = first.partitioned("imports");
+        WorkPartition secondShare = second.partitioned("imports");
+        first.renew();
+        second.renew();
+        first.renew();
+
+        // When
+        long ownedByFirst = LongStream.range(0, 100).filter(firstShare::owns).count();
+        long ownedByBoth = LongStream.range(0, 100).filter(key -> firstShare.owns(key) && secondShare.owns(key)).count();
+        long ownedByEither = LongStream.range(0, 100).filter(key -> firstShare.owns(key) || secondShare.owns(key)).count();
+        clock.addAndGet(16_000);
+        first.renew();
+
+        // Then
+        assertThat(ownedByFirst).isEqualTo(50);
+        assertThat(ownedByBoth).isZero();
+        assertThat(ownedByEither).isEqualTo(100);
+        assertThat(firstShare.count()).isEqualTo(1);
+        assertThat(LongStream.range(0, 100).allMatch(firstShare::owns)).isTrue();
+        assertThat(secondShare.owns(1)).isFalse();
+    }
+
+    @Test
+    void renew_ShouldStepDown_WhenStoreFails() {
+        // Given
+        LeaseStore failing = mock(LeaseStore.class);
+        given(failing.acquire(anyString(), anyString(), any())).willReturn(1L)
+                .willThrow(new IllegalStateException("connection refused"));
+        JobCoordinator coordinator = coordinator("node-a", failing);
+        LeaderLease lease = coordinator.leaderOnly("rollup");
+        coordinator.renew();
+        boolean heldBefore = lease.isHeld();
+
+        // When
+        coordinator.renew();
+
+        // Then
+        assertThat(heldBefore).isTrue();
+        assertThat(lease.isHeld()).isFalse();
+        assertThat(lease.token()).isZero();
+        assertThat(meterRegistry.get("psa.coordination.failures").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,166 @@
+package com.clusterat.psa_api.infrastructure.datasource;
+
+import com.clusterat.psa_api.infrastructure.workload.Workload;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadRoutingTest {
+
+    private static final String WHERE_AM_I = "SELECT name FROM node";
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private HikariDataSource replica;
+    private JdbcTemplate replicaAdmin;
+    private RoutingDataSource dataSource;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadRouting readRouting;
+    private JdbcTemplate jdbcTemplate;
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        pool.setPoolName(name);
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return pool;
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_700_000_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        HikariDataSource primary = database("primary");
+        replica = database("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        replicaAdmin.execute("CREATE TABLE replication (lag_millis BIGINT)");
+        replicaAdmin.update("INSERT INTO replication VALUES (0)");
+
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setMaxLag(Duration.ofSeconds(2));
+        properties.setLagCheckInterval(Duration.ofSeconds(1));
+        List<ReplicaPool> replicas = List.of(new ReplicaPool("replica", replica));
+        dataSource = new RoutingDataSource(Map.of(Workload.INTERACTIVE, primary), replicas, properties.getMaxLag().toMillis(), meterRegistry);
+        lagMonitor = new ReplicaLagMonitor(replicas, "SELECT lag_millis FROM replication", properties.getLagCheckInterval(), meterRegistry);
+        readRouting = new ReadRouting(dataSource, properties, clock::get);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject(WHERE_AM_I, String.class);
+    }
+
+    @Test
+    void onReplica_ShouldReadFromReplica_OnlyAfterItsLagWasChecked() {
+        // Given
+        String beforeCheck = readRouting.onReplica("occurrences", this::whereAmI);
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertThat(beforeCheck).isEqualTo("primary");
+        assertThat(readRouting.onReplica("occurrences", this::whereAmI)).isEqualTo("replica");
+        assertThat(whereAmI()).isEqualTo("primary");
+        assertThat(meterRegistry.get("psa.datasource.replica_reads").tag("pool", "replica").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void onReplica_ShouldStayOnPrimary_ForRowsAndTablesWrittenWithinWindow() {
+        // Given
+        lagMonitor.check();
+        readRouting.written("occurrences", 7);
+
+        // When
+        String writtenRow = readRouting.onReplica("occurrences", List.of(6, 7), this::whereAmI);
+        String otherRow = readRouting.onReplica("occurrences", List.of(8), this::whereAmI);
+        String writtenTable = readRouting.onReplica("occurrences", this::whereAmI);
+        String otherTable = readRouting.onReplica("cities", this::whereAmI);
+        clock.addAndGet(3_000);
+
+        // Then
+        assertThat(writtenRow).isEqualTo("primary");
+        assertThat(otherRow).isEqualTo("replica");
+        assertThat(writtenTable).isEqualTo("primary");
+        assertThat(otherTable).isEqualTo("replica");
+        assertThat(readRouting.onReplica("occurrences", List.of(7), this::whereAmI)).isEqualTo("replica");
+    }
+
+    @Test
+    void onReplica_ShouldFallBackToPrimary_WhenReplicaLagsOrIsUnreachable() {
+        // Given
+        replicaAdmin.update("UPDATE replication SET lag_millis = 10000");
+        lagMonitor.check();
+        String whileLagging = readRouting.onReplica("occurrences", this::whereAmI);
+        replicaAdmin.update("UPDATE replication SET lag_millis = 50");
+        lagMonitor.check();
+        replica.close();
+
+        // When
+        String afterReplicaError = readRouting.onReplica("occurrences", this::whereAmI);
+
+        // Then
+        assertThat(whileLagging).isEqualTo("primary");
+        assertThat(afterReplicaError).isEqualTo("primary");
+        assertThat(dataSource.replicas().get(0).lagMillis()).isEqualTo(Long.MAX_VALUE);
+        assertThat(meterRegistry.get("psa.datasource.primary_fallbacks").tag("reason", "replica-lag").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("psa.datasource.primary_fallbacks").tag("reason", "replica-error").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void onReplica_ShouldNotRetryOnPrimary_WhenReadItselfFails() {
+        // Given
+        lagMonitor.check();
+        replicaAdmin.execute("DROP TABLE node");
+
+        // When / Then
+        assertThatThrownBy(() -> readRouting.onReplica("occurrences", this::whereAmI))
+                .isInstanceOf(BadSqlGrammarException.class);
+        assertThat(dataSource.replicas().get(0).lagMillis()).isEqualTo(0L);
+        assertThat(meterRegistry.get("psa.datasource.primary_fallbacks").tag("reason", "replica-error").counter().count()).isZero();
+    }
+
+    @Test
+    void getConnection_ShouldUseThePoolOfTheCallersWorkload_AndInteractiveForTheRest() {
+        // Given
+        HikariDataSource interactive = database("interactive");
+        HikariDataSource bulk = database("bulk");
+        RoutingDataSource workloads = new RoutingDataSource(
+                Map.of(Workload.INTERACTIVE, interactive, Workload.BULK, bulk), List.of(), 2_000, meterRegistry);
+        JdbcTemplate jdbc = new JdbcTemplate(workloads);
+
+        // When
+        String onBulk = Workload.BULK.call(() -> jdbc.queryForObject(WHERE_AM_I, String.class));
+        String onBackground = Workload.BACKGROUND.call(() -> jdbc.queryForObject(WHERE_AM_I, String.class));
+        String onInteractive = jdbc.queryForObject(WHERE_AM_I, String.class);
+        workloads.close();
+
+        // Then
+        assertThat(onBulk).isEqualTo("bulk");
+        assertThat(onBackground).isEqualTo("interactive");
+        assertThat(onInteractive).isEqualTo("interactive");
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+}
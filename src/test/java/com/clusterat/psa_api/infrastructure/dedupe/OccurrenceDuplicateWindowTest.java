@@ -0,0 +1,115 @@
+package com.clusterat.psa_api.infrastructure.dedupe;
+
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccurrenceDuplicateWindowTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OccurrenceDuplicateWindow window;
+    private AddressEntity address;
+    private AddressEntity neighbourAddress;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_700_000_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        window = new OccurrenceDuplicateWindow(true, Duration.ofMinutes(30), 16, 15, 32, clock::get, meterRegistry);
+        StateEntity state = StateEntity.create("São Paulo", "SP", Region.SUDESTE, "35", CountryEntity.create("Brazil", "BR", "BRA"));
+        CityEntity city = CityEntity.create("Campinas", "CPS", "3509502", state);
+        city.setId(3);
+        address = AddressEntity.create("Rua A", "1", "Apto 1", "Centro", city);
+        address.setId(4);
+        neighbourAddress = AddressEntity.create("Rua B", "2", "Casa", "Centro", city);
+        neighbourAddress.setId(5);
+        user = UserEntity.create(12345);
+        user.setId(6);
+    }
+
+    private OccurrenceEntity occurrence(int id, String name, String description, AddressEntity at) {
+        OccurrenceEntity occurrence = OccurrenceEntity.create(name, description, new Date(), null, null, true, Intensity.HIGH, at, user);
+        occurrence.setId(id);
+        return occurrence;
+    }
+
+    @Test
+    void findDuplicate_ShouldMatchRewordedReport_AtSameAddress() {
+        // Given
+        window.Remember(occurrence(1, "Incêndio em prédio residencial",
+                "Fumaça saindo do terceiro andar, moradores na rua", address));
+        window.Remember(occurrence(2, "Assalto a mão armada",
+                "Dois suspeitos fugiram de moto", address));
+
+        // When / Then
+        assertThat(window.FindDuplicate(occurrence(0, "Incendio em predio residencial",
+                "muita fumaça no terceiro andar e moradores na rua", address))).contains(1);
+        assertThat(window.FindDuplicate(occurrence(0, "Alagamento",
+                "Rua completamente alagada após chuva forte", address))).isEmpty();
+        assertThat(meterRegistry.get("psa.dedupe.matches").tag("scope", "address").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findDuplicate_ShouldApplyStricterDistance_ElsewhereInCity() {
+        // Given
+        window.Remember(occurrence(1, "Alagamento", "Rua completamente alagada após chuva forte", address));
+        OccurrenceEntity reworded = occurrence(0, "Alagamento", "rua alagada depois da chuva forte, carros ilhados na esquina", address);
+        OccurrenceEntity rewordedNextDoor = occurrence(0, "Alagamento", "rua alagada depois da chuva forte, carros ilhados na esquina", neighbourAddress);
+        OccurrenceEntity lightlyRewordedNextDoor = occurrence(0, "Alagamento", "rua alagada depois da chuva forte, carros ilhados", neighbourAddress);
+
+        // When / Then
+        assertThat(window.FindDuplicate(reworded)).contains(1);
+        assertThat(window.FindDuplicate(rewordedNextDoor)).isEmpty();
+        assertThat(window.FindDuplicate(lightlyRewordedNextDoor)).contains(1);
+    }
+
+    @Test
+    void findDuplicateAmong_ShouldMatchEarlierReportOfBatch_BeforeItIsRemembered() {
+        // Given
+        OccurrenceEntity first = occurrence(0, "Incêndio em prédio residencial",
+                "Fumaça saindo do terceiro andar, moradores na rua", address);
+        OccurrenceEntity unrelated = occurrence(0, "Assalto a mão armada", "Dois suspeitos fugiram de moto", address);
+        OccurrenceEntity reworded = occurrence(0, "Incendio em predio residencial",
+                "muita fumaça no terceiro andar e moradores na rua", neighbourAddress);
+
+        // When / Then
+        assertThat(window.FindDuplicateAmong(reworded, List.of(first, unrelated))).containsSame(first);
+        assertThat(window.FindDuplicateAmong(reworded, List.of(unrelated))).isEmpty();
+        assertThat(window.FindDuplicate(reworded)).isEmpty();
+        assertThat(meterRegistry.get("psa.dedupe.matches").tag("scope", "city").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findDuplicate_ShouldIgnoreOccurrences_OlderThanWindow() {
+        // Given
+        OccurrenceEntity first = occurrence(1, "Queda de árvore", "Árvore bloqueando a via", address);
+        window.Remember(first);
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(20).toMillis());
+        boolean matchedWithinWindow = window.FindDuplicate(occurrence(0, "Queda de árvore", "Árvore bloqueando a via", address)).isPresent();
+        clock.addAndGet(Duration.ofMinutes(15).toMillis());
+        boolean matchedAfterWindow = window.FindDuplicate(occurrence(0, "Queda de árvore", "Árvore bloqueando a via", address)).isPresent();
+
+        // Then
+        assertThat(matchedWithinWindow).isTrue();
+        assertThat(matchedAfterWindow).isFalse();
+    }
+}
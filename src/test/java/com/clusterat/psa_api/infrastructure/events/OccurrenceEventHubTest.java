@@ -0,0 +1,173 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class OccurrenceEventHubTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OccurrenceEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Address n lies in city n of state 1, in the south east
+        OccurrenceLocationResolver locationResolver = mock(OccurrenceLocationResolver.class);
+        given(locationResolver.locate(anyInt())).willAnswer(invocation -> CompletableFuture.completedFuture(
+                new OccurrenceLocation(invocation.getArgument(0), 1, Region.SUDESTE)));
+        hub = new OccurrenceEventHub(locationResolver, 4, 2, meterRegistry);
+    }
+
+    private static OccurrenceEvent event(int id) {
+        return event(id, 1, Intensity.HIGH);
+    }
+
+    private static OccurrenceEvent event(int id, int addressId, Intensity intensity) {
+        return new OccurrenceEvent(OccurrenceEvent.Type.CREATED, id, new OccurrenceApplicationDTO.Response(
+                id, "Occurrence " + id, "Description", new Date(), null, null, true, intensity, addressId, 1));
+    }
+
+    private List<OccurrenceEventHub.Entry> publishAndCollect(int count) {
+        List<OccurrenceEventHub.Entry> received = new ArrayList<>();
+        var subscription = hub.subscribe(null).subscribe(received::add);
+        for (int i = 1; i <= count; i++) {
+            hub.Publish(event(i));
+        }
+        subscription.dispose();
+        return received;
+    }
+
+    @Test
+    void subscribe_ShouldDeliverLiveEventsToEverySubscriber() {
+        // Given
+        List<OccurrenceEventHub.Entry> first = new ArrayList<>();
+        List<OccurrenceEventHub.Entry> second = new ArrayList<>();
+        hub.subscribe(null).subscribe(first::add);
+        hub.subscribe(null).subscribe(second::add);
+
+        // When
+        hub.Publish(event(1));
+        hub.Publish(event(2));
+
+        // Then
+        assertThat(first).extracting(entry -> entry.event().occurrenceId()).containsExactly(1, 2);
+        assertThat(second).extracting(OccurrenceEventHub.Entry::id).isEqualTo(first.stream().map(OccurrenceEventHub.Entry::id).toList());
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("psa.occurrence_events.published").tag("type", "created").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void subscribe_ShouldReplayEventsAfterLastEventId_ThenContinueLive() {
+        // Given
+        List<OccurrenceEventHub.Entry> earlier = publishAndCollect(3);
+
+        // When / Then
+        StepVerifier.create(hub.subscribe(earlier.get(0).id()))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(2))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(3))
+                .then(() -> hub.Publish(event(4)))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(4))
+                .thenCancel()
+                .verify();
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_ShouldAskForResync_WhenLastEventIdIsNoLongerRetained() {
+        // Given
+        List<OccurrenceEventHub.Entry> earlier = publishAndCollect(6);
+
+        // When / Then
+        StepVerifier.create(hub.subscribe(earlier.get(0).id()))
+                .assertNext(entry -> {
+                    assertThat(entry.resync()).isTrue();
+                    assertThat(entry.id()).isEqualTo(earlier.get(5).id());
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_ShouldAskForResync_WhenLastEventIdComesFromAnotherProcess() {
+        StepVerifier.create(hub.subscribe("previous-epoch-12"))
+                .assertNext(entry -> assertThat(entry.resync()).isTrue())
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_ShouldDropOldestPendingEvents_WhenSubscriberFallsBehind() {
+        // When / Then
+        StepVerifier.create(hub.subscribe(null), 0)
+                .then(() -> {
+                    for (int i = 1; i <= 5; i++) {
+                        hub.Publish(event(i));
+                    }
+                })
+                .thenRequest(2)
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(4))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(5))
+                .thenCancel()
+                .verify();
+        assertThat(meterRegistry.get("psa.occurrence_events.dropped").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void subscribe_ShouldOnlyDeliverMatchingEvents_WhenFiltered() {
+        // Given
+        List<OccurrenceEventHub.Entry> cityTwo = new ArrayList<>();
+        List<OccurrenceEventHub.Entry> severe = new ArrayList<>();
+        List<OccurrenceEventHub.Entry> everything = new ArrayList<>();
+        hub.subscribe(null, new OccurrenceSubscription(2, null, null, null)).subscribe(cityTwo::add);
+        hub.subscribe(null, new OccurrenceSubscription(null, null, Region.SUDESTE, Intensity.SEVERE)).subscribe(severe::add);
+        hub.subscribe(null).subscribe(everything::add);
+
+        // When
+        hub.Publish(event(1, 1, Intensity.CRITICAL));
+        hub.Publish(event(2, 2, Intensity.LOW));
+        hub.Publish(event(3, 2, Intensity.SEVERE));
+
+        // Then
+        assertThat(cityTwo).extracting(entry -> entry.event().occurrenceId()).containsExactly(2, 3);
+        assertThat(severe).extracting(entry -> entry.event().occurrenceId()).containsExactly(1, 3);
+        assertThat(everything).extracting(entry -> entry.event().occurrenceId()).containsExactly(1, 2, 3);
+        assertThat(cityTwo.get(0).location()).isEqualTo(new OccurrenceLocation(2, 1, Region.SUDESTE));
+    }
+
+    @Test
+    void subscribe_ShouldReplayOnlyMatchingEvents_WhenFiltered() {
+        // Given
+        List<OccurrenceEventHub.Entry> earlier = new ArrayList<>();
+        var subscription = hub.subscribe(null).subscribe(earlier::add);
+        hub.Publish(event(1, 1, Intensity.HIGH));
+        hub.Publish(event(2, 2, Intensity.HIGH));
+        hub.Publish(event(3, 1, Intensity.HIGH));
+        subscription.dispose();
+
+        // When / Then
+        StepVerifier.create(hub.subscribe(earlier.get(0).id(), new OccurrenceSubscription(1, null, null, null)))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(3))
+                .then(() -> hub.Publish(event(4, 2, Intensity.HIGH)))
+                .then(() -> hub.Publish(event(5, 1, Intensity.HIGH)))
+                .assertNext(entry -> assertThat(entry.event().occurrenceId()).isEqualTo(5))
+                .thenCancel()
+                .verify();
+        assertThat(hub.subscriberCount()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-event matching cost of {@link SubscriptionIndex} against a linear scan over every
+ * subscription. Skipped in normal builds; run it on its own with
+ * {@code mvn test -Dtest=SubscriptionIndexBenchmarkTest -Dpsa.benchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "psa.benchmarks", matches = "true")
+class SubscriptionIndexBenchmarkTest {
+
+    private static final OccurrenceLocation CAMPINAS = new OccurrenceLocation(3, 2, Region.SUDESTE);
+    private static final int MATCHING = 50;
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final int MEASURED_EVENTS = 2_000;
+
+    @Test
+    void match_ShouldReportCostPerEvent_AgainstLinearScan() {
+        OccurrenceEvent event = new OccurrenceEvent(OccurrenceEvent.Type.CREATED, 1, new OccurrenceApplicationDTO.Response(
+                1, "Occurrence", "Description", new Date(), null, null, true, Intensity.HIGH, 4, 5));
+        System.out.printf("%d matching subscribers, mean of %d events after %d s of warm-up%n",
+                MATCHING, MEASURED_EVENTS, WARMUP_NANOS / 1_000_000_000L);
+
+        for (int others : new int[]{1_000, 10_000, 100_000}) {
+            // Given
+            List<OccurrenceSubscription> subscriptions = subscriptions(others, new Random(42));
+            SubscriptionIndex<Integer> index = new SubscriptionIndex<>();
+            for (int i = 0; i < subscriptions.size(); i++) {
+                index.add(subscriptions.get(i), i);
+            }
+            AtomicInteger indexMatches = new AtomicInteger();
+            AtomicInteger scanMatches = new AtomicInteger();
+            Runnable indexed = () -> index.match(CAMPINAS, event, subscriber -> indexMatches.incrementAndGet());
+            Runnable scan = () -> {
+                for (OccurrenceSubscription subscription : subscriptions) {
+                    if (subscription.matches(CAMPINAS, event)) {
+                        scanMatches.incrementAndGet();
+                    }
+                }
+            };
+            indexed.run();
+            scan.run();
+            assertThat(indexMatches).hasValue(MATCHING);
+            assertThat(scanMatches).hasValue(MATCHING);
+
+            // When
+            double indexNanos = perEvent(indexed);
+            double scanNanos = perEvent(scan);
+
+            // Then
+            System.out.printf("N=%,7d  index %8.2f us  linear scan %8.2f us%n", others, indexNanos / 1e3, scanNanos / 1e3);
+        }
+    }
+
+    /**
+     * {@link #MATCHING} subscriptions that accept a HIGH event in Campinas, spread over every
+     * criterion, plus {@code others} that watch other cities, states or regions.
+     */
+    private static List<OccurrenceSubscription> subscriptions(int others, Random random) {
+        List<OccurrenceSubscription> subscriptions = new ArrayList<>(MATCHING + others);
+        for (int i = 0; i < MATCHING; i++) {
+            subscriptions.add(switch (i % 4) {
+                case 0 -> new OccurrenceSubscription(CAMPINAS.cityId(), null, null, null);
+                case 1 -> new OccurrenceSubscription(null, CAMPINAS.stateId(), null, Intensity.MODERATE);
+                case 2 -> new OccurrenceSubscription(null, null, CAMPINAS.region(), null);
+                default -> new OccurrenceSubscription(null, null, null, Intensity.HIGH);
+            });
+        }
+        for (int i = 0; i < others; i++) {
+            subscriptions.add(switch (random.nextInt(3)) {
+                case 0 -> new OccurrenceSubscription(4 + random.nextInt(5_566), null, null, null);
+                case 1 -> new OccurrenceSubscription(null, 3 + random.nextInt(25), null, null);
+                default -> new OccurrenceSubscription(null, null, Region.SUL, null);
+            });
+        }
+        return subscriptions;
+    }
+
+    private static double perEvent(Runnable match) {
+        long warmUntil = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmUntil) {
+            match.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            match.run();
+        }
+        return (System.nanoTime() - start) / (double) MEASURED_EVENTS;
+    }
+}
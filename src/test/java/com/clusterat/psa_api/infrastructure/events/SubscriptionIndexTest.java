@@ -0,0 +1,86 @@
+package com.clusterat.psa_api.infrastructure.events;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionIndexTest {
+
+    private static final OccurrenceLocation CAMPINAS = new OccurrenceLocation(3, 2, Region.SUDESTE);
+
+    private static OccurrenceEvent event(Intensity intensity) {
+        return new OccurrenceEvent(OccurrenceEvent.Type.CREATED, 1, new OccurrenceApplicationDTO.Response(
+                1, "Occurrence", "Description", new Date(), null, null, true, intensity, 4, 5));
+    }
+
+    private static List<String> match(SubscriptionIndex<String> index, OccurrenceLocation location, Intensity intensity) {
+        List<String> matched = new ArrayList<>();
+        index.match(location, event(intensity), matched::add);
+        return matched;
+    }
+
+    @Test
+    void match_ShouldHonourEveryGivenCriterion() {
+        // Given
+        SubscriptionIndex<String> index = new SubscriptionIndex<>();
+        index.add(new OccurrenceSubscription(3, null, null, null), "city");
+        index.add(new OccurrenceSubscription(4, null, null, null), "other city");
+        index.add(new OccurrenceSubscription(null, 2, null, Intensity.SEVERE), "severe in state");
+        index.add(new OccurrenceSubscription(null, null, Region.SUDESTE, null), "region");
+        index.add(new OccurrenceSubscription(null, null, Region.SUL, null), "other region");
+        index.add(new OccurrenceSubscription(null, null, null, Intensity.HIGH), "high anywhere");
+        index.add(new OccurrenceSubscription(3, null, Region.SUL, null), "contradictory");
+
+        // When / Then
+        assertThat(match(index, CAMPINAS, Intensity.MODERATE)).containsExactlyInAnyOrder("city", "region");
+        assertThat(match(index, CAMPINAS, Intensity.CRITICAL))
+                .containsExactlyInAnyOrder("city", "severe in state", "region", "high anywhere");
+        assertThat(match(index, null, Intensity.CRITICAL)).containsExactly("high anywhere");
+    }
+
+    @Test
+    void add_ShouldReturnActionThatRemovesTheSubscriber() {
+        // Given
+        SubscriptionIndex<String> index = new SubscriptionIndex<>();
+        Runnable first = index.add(new OccurrenceSubscription(3, null, null, null), "same");
+        index.add(new OccurrenceSubscription(3, null, null, null), "same");
+
+        // When
+        first.run();
+
+        // Then
+        assertThat(match(index, CAMPINAS, Intensity.LOW)).containsExactly("same");
+    }
+
+    @Test
+    void match_ShouldOnlyVisitCandidates_HoweverManySubscribersWatchElsewhere() {
+        // Given
+        SubscriptionIndex<String> index = new SubscriptionIndex<>();
+        index.add(new OccurrenceSubscription(3, null, null, null), "watching Campinas");
+        index.add(new OccurrenceSubscription(null, null, null, Intensity.CRITICAL), "critical anywhere");
+        int visitedBefore = index.match(CAMPINAS, event(Intensity.HIGH), subscriber -> { });
+
+        // When
+        for (int city = 100; city < 10_100; city++) {
+            index.add(new OccurrenceSubscription(city, null, null, null), "city " + city);
+            index.add(new OccurrenceSubscription(null, city, null, null), "state " + city);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            index.add(new OccurrenceSubscription(null, null, Region.NORTE, null), "north " + i);
+            index.add(new OccurrenceSubscription(3, null, null, Intensity.CRITICAL), "critical in Campinas " + i);
+        }
+        int visitedAfter = index.match(CAMPINAS, event(Intensity.HIGH), subscriber -> { });
+
+        // Then
+        assertThat(visitedBefore).isEqualTo(1);
+        assertThat(visitedAfter).isEqualTo(visitedBefore);
+    }
+}
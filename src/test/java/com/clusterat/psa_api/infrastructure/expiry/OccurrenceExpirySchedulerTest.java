@@ -0,0 +1,156 @@
+package com.clusterat.psa_api.infrastructure.expiry;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.infrastructure.coordination.LeaderLease;
+import com.clusterat.psa_api.infrastructure.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OccurrenceExpirySchedulerTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Mock
+    private IOccurrenceRepository occurrenceRepository;
+
+    @Mock
+    private LeaderLease refillLease;
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OccurrenceExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(START);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OccurrenceExpiryScheduler(occurrenceRepository, Duration.ofSeconds(1), Duration.ofMinutes(10),
+                Duration.ofSeconds(30), 500, 10_000, clock::get, refillLease, meterRegistry);
+    }
+
+    private void expireReturnsEveryId() {
+        given(occurrenceRepository.ExpireAsync(anyList(), any())).willAnswer(invocation -> {
+            List<Integer> ids = invocation.getArgument(0);
+            Date now = invocation.getArgument(1);
+            return CompletableFuture.completedFuture(ids.stream().map(id -> occurrence(id, now.getTime() - 500)).toList());
+        });
+    }
+
+    private static OccurrenceEntity occurrence(int id, long dateEnd) {
+        AddressEntity address = new AddressEntity();
+        address.setId(4);
+        UserEntity user = new UserEntity();
+        user.setId(6);
+        OccurrenceEntity occurrence = OccurrenceEntity.create("Occurrence " + id, "Description", new Date(START - 60_000),
+                new Date(dateEnd), null, true, Intensity.HIGH, address, user);
+        occurrence.setId(id);
+        return occurrence;
+    }
+
+    private static OutboxEvent event(OccurrenceEvent event) {
+        return new OutboxEvent(1, event, "{}");
+    }
+
+    @Test
+    void tick_ShouldDeactivateScannedOccurrences_OnceTheirEndHasPassed() {
+        // Given
+        given(refillLease.isHeld()).willReturn(true);
+        given(occurrenceRepository.GetActiveEndingByAsync(any(), anyInt())).willReturn(CompletableFuture.completedFuture(
+                List.of(occurrence(1, START - 5_000), occurrence(2, START + 3_000))));
+        expireReturnsEveryId();
+
+        // When
+        int overdue = scheduler.tick();
+        clock.addAndGet(2_000);
+        int beforeEnd = scheduler.tick();
+        clock.addAndGet(2_000);
+        int afterEnd = scheduler.tick();
+
+        // Then
+        assertThat(overdue).isZero();
+        assertThat(beforeEnd).isEqualTo(1);
+        assertThat(afterEnd).isEqualTo(1);
+        then(occurrenceRepository).should().ExpireAsync(List.of(1), new Date(START + 2_000));
+        then(occurrenceRepository).should().ExpireAsync(List.of(2), new Date(START + 4_000));
+        then(occurrenceRepository).should().GetActiveEndingByAsync(new Date(START + 600_000), 10_000);
+        assertThat(meterRegistry.get("psa.expiry.deactivated").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void tick_ShouldOnlyExpireDeliveredOccurrences_WhenAnotherNodeHoldsTheRefillLease() {
+        // Given
+        given(refillLease.isHeld()).willReturn(false);
+        expireReturnsEveryId();
+        scheduler.deliver(List.of(event(OccurrenceEvent.created(occurrence(1, START + 1_500)))));
+
+        // When
+        clock.addAndGet(2_000);
+        int expired = scheduler.tick();
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        then(occurrenceRepository).should(never()).GetActiveEndingByAsync(any(), anyInt());
+    }
+
+    @Test
+    void deliver_ShouldScheduleCreatedOccurrences_AndCancelDeactivatedOnes() {
+        // Given
+        given(refillLease.isHeld()).willReturn(true);
+        given(occurrenceRepository.GetActiveEndingByAsync(any(), anyInt())).willReturn(CompletableFuture.completedFuture(List.of()));
+        expireReturnsEveryId();
+        scheduler.tick();
+        OccurrenceEntity ending = occurrence(1, START + 1_500);
+        OccurrenceEntity closedByHand = occurrence(2, START + 1_500);
+        scheduler.deliver(List.of(event(OccurrenceEvent.created(ending)), event(OccurrenceEvent.created(closedByHand))));
+        closedByHand.setActive(false);
+
+        // When
+        scheduler.deliver(List.of(event(OccurrenceEvent.updated(closedByHand, true))));
+        clock.addAndGet(3_000);
+        int expired = scheduler.tick();
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        then(occurrenceRepository).should().ExpireAsync(List.of(1), new Date(START + 3_000));
+    }
+
+    @Test
+    void deliver_ShouldLeaveOccurrencesBeyondHorizon_ToLaterScans() {
+        // Given
+        given(refillLease.isHeld()).willReturn(true);
+        given(occurrenceRepository.GetActiveEndingByAsync(any(), anyInt())).willReturn(CompletableFuture.completedFuture(List.of()));
+
+        // When
+        scheduler.deliver(List.of(event(OccurrenceEvent.created(occurrence(1, START + Duration.ofHours(2).toMillis())))));
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        scheduler.tick();
+
+        // Then
+        then(occurrenceRepository).should(never()).ExpireAsync(anyList(), any());
+        assertThat(meterRegistry.get("psa.expiry.scheduled").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package com.clusterat.psa_api.infrastructure.export;
+
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OccurrenceExportEncodersTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(resultSet.getInt(OccurrenceExportColumn.ID.jdbcIndex())).willReturn(7);
+        given(resultSet.getString(OccurrenceExportColumn.NAME.jdbcIndex())).willReturn("Fire, \"Downtown\"");
+        given(resultSet.getString(OccurrenceExportColumn.DESCRIPTION.jdbcIndex())).willReturn("Smoke reported");
+        given(resultSet.getTimestamp(OccurrenceExportColumn.DATE_START.jdbcIndex())).willReturn(new Timestamp(0L));
+        given(resultSet.getTimestamp(OccurrenceExportColumn.DATE_END.jdbcIndex())).willReturn(null);
+        given(resultSet.getBoolean(OccurrenceExportColumn.ACTIVE.jdbcIndex())).willReturn(true);
+        given(resultSet.getInt(OccurrenceExportColumn.INTENSITY.jdbcIndex())).willReturn(Intensity.HIGH.ordinal());
+        given(resultSet.getInt(OccurrenceExportColumn.REGION.jdbcIndex())).willReturn(Region.SUDESTE.ordinal());
+        given(resultSet.getString(OccurrenceExportColumn.STATE_SHORT_NAME.jdbcIndex())).willReturn("SP");
+    }
+
+    @Test
+    void csvSegments_ShouldConcatenateIntoSingleGzipFile_WhenHeaderAndRowsAreSeparateMembers() throws Exception {
+        // Given
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        CsvGzipRowEncoder.writeHeader(file);
+
+        // When
+        try (CsvGzipRowEncoder encoder = new CsvGzipRowEncoder(file)) {
+            encoder.writeRow(resultSet);
+        }
+
+        // Then
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(file.toByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,name,description,date_start,date_end");
+        assertThat(lines[1]).startsWith("7,\"Fire, \"\"Downtown\"\"\",Smoke reported,1970-01-01T00:00:00Z,,");
+        assertThat(lines[1]).contains(",true,HIGH,").endsWith(",SP,SUDESTE");
+    }
+
+    @Test
+    void columnarEncoder_ShouldWriteHeaderAndRowGroup_WhenRowsAreFlushedOnClose() throws Exception {
+        // Given
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        ColumnarRowEncoder.writeFileHeader(Channels.newChannel(file));
+
+        // When
+        try (ColumnarRowEncoder encoder = new ColumnarRowEncoder(Channels.newChannel(file))) {
+            encoder.writeRow(resultSet);
+            encoder.writeRow(resultSet);
+        }
+
+        // Then
+        ByteBuffer buffer = ByteBuffer.wrap(file.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magic = new byte[4];
+        buffer.get(magic);
+        assertThat(new String(magic, StandardCharsets.US_ASCII)).isEqualTo("PSAC");
+        assertThat(buffer.get()).isEqualTo(ColumnarRowEncoder.FORMAT_VERSION);
+        int columnCount = buffer.get();
+        assertThat(columnCount).isEqualTo(OccurrenceExportColumn.all().length);
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();
+            int nameLength = buffer.get();
+            buffer.position(buffer.position() + nameLength);
+        }
+
+        assertThat(buffer.getInt()).isEqualTo(2);
+        int idBytes = buffer.getInt();
+        assertThat(idBytes).isEqualTo(2 * Integer.BYTES);
+        assertThat(buffer.getInt()).isEqualTo(7);
+        assertThat(buffer.getInt()).isEqualTo(7);
+        int nameBytes = buffer.getInt();
+        int nameLength = buffer.getInt();
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        assertThat(new String(name, StandardCharsets.UTF_8)).isEqualTo("Fire, \"Downtown\"");
+        assertThat(nameBytes).isEqualTo(2 * (Integer.BYTES + nameLength));
+    }
+}
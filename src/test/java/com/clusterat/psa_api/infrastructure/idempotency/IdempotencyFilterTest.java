@@ -0,0 +1,150 @@
+package com.clusterat.psa_api.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Fire Emergency\",\"intensity\":\"HIGH\"}";
+
+    private IdempotencyProperties properties;
+    private IdempotencyFilter filter;
+    private AtomicInteger chainInvocations;
+    private HttpStatus chainStatus;
+    private Mono<Void> chainDelay;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(
+                new LocalIdempotencyStore(properties.getLease(), properties.getTtl(), properties.getWait()),
+                properties, new SimpleMeterRegistry());
+        chainInvocations = new AtomicInteger();
+        chainStatus = HttpStatus.CREATED;
+        chainDelay = Mono.empty();
+        chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .flatMap(request -> chainDelay.then(Mono.defer(() -> {
+                    int invocation = chainInvocations.incrementAndGet();
+                    exchange.getResponse().setStatusCode(chainStatus);
+                    exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    String response = "{\"id\":" + invocation + ",\"request\":" + request + "}";
+                    return exchange.getResponse().writeWith(Mono.just(
+                            exchange.getResponse().bufferFactory().wrap(response.getBytes(StandardCharsets.UTF_8))));
+                })));
+    }
+
+    private static MockServerWebExchange post(String user, String key, String body) {
+        return MockServerWebExchange.builder(MockServerHttpRequest.post("/api/v1/occurrences")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body))
+                .principal(new TestingAuthenticationToken(user, null))
+                .build();
+    }
+
+    @Test
+    void filter_ShouldReplayFirstResponseWithoutCallingEndpoint_WhenKeyIsRepeated() {
+        // Given
+        MockServerWebExchange first = post("alice", "key-1", BODY);
+        filter.filter(first, chain).block();
+        MockServerWebExchange retry = post("alice", "key-1", BODY);
+
+        // When
+        filter.filter(retry, chain).block();
+
+        // Then
+        String firstBody = first.getResponse().getBodyAsString().block();
+        assertThat(firstBody).isEqualTo("{\"id\":1,\"request\":" + BODY + "}");
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo(firstBody);
+        assertThat(retry.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldWaitForInFlightRequest_WhenDuplicateArrivesConcurrently() {
+        // Given
+        Sinks.Empty<Void> release = Sinks.empty();
+        chainDelay = release.asMono();
+        MockServerWebExchange first = post("alice", "key-1", BODY);
+        MockServerWebExchange duplicate = post("alice", "key-1", BODY);
+        Mono<Void> firstRun = filter.filter(first, chain).cache();
+        firstRun.subscribe();
+
+        // When
+        Mono<Void> duplicateRun = filter.filter(duplicate, chain).cache();
+        duplicateRun.subscribe();
+        release.tryEmitEmpty();
+        firstRun.block(Duration.ofSeconds(5));
+        duplicateRun.block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(chainInvocations).hasValue(1);
+        assertThat(duplicate.getResponse().getBodyAsString().block())
+                .isEqualTo(first.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_ShouldRejectWithUnprocessableEntity_WhenKeyIsReusedWithDifferentBody() {
+        // Given
+        filter.filter(post("alice", "key-1", BODY), chain).block();
+        MockServerWebExchange reused = post("alice", "key-1", "{\"name\":\"Flood\"}");
+
+        // When
+        filter.filter(reused, chain).block();
+
+        // Then
+        assertThat(reused.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldRunRetryAgain_WhenFirstResponseWasNotSuccessful() {
+        // Given
+        chainStatus = HttpStatus.BAD_REQUEST;
+        filter.filter(post("alice", "key-1", BODY), chain).block();
+        chainStatus = HttpStatus.CREATED;
+        MockServerWebExchange retry = post("alice", "key-1", BODY);
+
+        // When
+        filter.filter(retry, chain).block();
+
+        // Then
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().containsKey(IdempotencyFilter.REPLAYED_HEADER)).isFalse();
+        assertThat(chainInvocations).hasValue(2);
+    }
+
+    @Test
+    void filter_ShouldKeepKeysApart_WhenDifferentCallersUseSameKey() {
+        // Given
+        filter.filter(post("alice", "key-1", BODY), chain).block();
+        MockServerWebExchange other = post("bob", "key-1", BODY);
+
+        // When
+        filter.filter(other, chain).block();
+
+        // Then
+        assertThat(other.getResponse().getBodyAsString().block()).startsWith("{\"id\":2,");
+        assertThat(chainInvocations).hasValue(2);
+    }
+}
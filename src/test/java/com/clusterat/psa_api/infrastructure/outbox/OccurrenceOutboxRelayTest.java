@@ -0,0 +1,98 @@
+package com.clusterat.psa_api.infrastructure.outbox;
+
+import com.clusterat.psa_api.application.events.OccurrenceEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OccurrenceOutboxRelayTest {
+
+    @Mock
+    private OccurrenceOutbox outbox;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OccurrenceEventSink firstSink;
+
+    @Mock
+    private OccurrenceEventSink secondSink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OccurrenceOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        relay = new OccurrenceOutboxRelay(outbox, new OccurrenceEventBus(List.of(firstSink, secondSink)),
+                transactionTemplate, properties, meterRegistry);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static OutboxEvent event(long id) {
+        return new OutboxEvent(id, new OccurrenceEvent(OccurrenceEvent.Type.CREATED, (int) id, null), "{}");
+    }
+
+    @Test
+    void relayBatch_ShouldDeliverClaimedBatchToEverySink_ThenRemoveIt() {
+        // Given
+        List<OutboxEvent> batch = List.of(event(1), event(2));
+        given(outbox.claim(2)).willReturn(batch);
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        then(firstSink).should().deliver(batch);
+        then(secondSink).should().deliver(batch);
+        then(outbox).should().remove(batch);
+        assertThat(meterRegistry.get("psa.outbox.relayed").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void relayBatch_ShouldKeepBatch_WhenASinkFails() {
+        // Given
+        List<OutboxEvent> batch = List.of(event(1));
+        given(outbox.claim(2)).willReturn(batch);
+        willThrow(new IllegalStateException("Redis unavailable")).given(secondSink).deliver(batch);
+
+        // When / Then
+        assertThatThrownBy(relay::relayBatch).hasMessage("Redis unavailable");
+        then(outbox).should(never()).remove(any());
+    }
+
+    @Test
+    void relayBatch_ShouldNotTouchSinks_WhenOutboxIsEmpty() {
+        // Given
+        given(outbox.claim(2)).willReturn(List.of());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertThat(relayed).isZero();
+        then(firstSink).should(never()).deliver(any());
+        then(outbox).should(never()).remove(any());
+    }
+}
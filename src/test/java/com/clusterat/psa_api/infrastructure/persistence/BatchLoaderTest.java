@@ -0,0 +1,141 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLoaderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<Integer>> queries;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queries = new CopyOnWriteArrayList<>();
+    }
+
+    private BatchLoader<Integer, StringBuilder> loader(Duration window, int maxBatchSize,
+                                                       Function<List<Integer>, Map<Integer, StringBuilder>> lookup) {
+        return new BatchLoader<>("test", ids -> {
+            queries.add(ids);
+            return lookup.apply(ids);
+        }, value -> new StringBuilder(value), window, maxBatchSize, ForkJoinPool.commonPool(), meterRegistry);
+    }
+
+    private static Map<Integer, StringBuilder> evenIds(List<Integer> ids) {
+        return ids.stream()
+                .filter(id -> id % 2 == 0)
+                .collect(Collectors.toMap(Function.identity(), id -> new StringBuilder("row-" + id)));
+    }
+
+    @Test
+    void load_ShouldResolveAllKeysWithOneQuery_WhenCallsArriveWithinWindow() {
+        // Given
+        BatchLoader<Integer, StringBuilder> loader = loader(Duration.ofMillis(50), 100, BatchLoaderTest::evenIds);
+
+        // When
+        List<CompletableFuture<Optional<StringBuilder>>> results = IntStream.rangeClosed(1, 6)
+                .mapToObj(loader::load)
+                .toList();
+
+        // Then
+        assertThat(results.get(1).join()).hasValueSatisfying(row -> assertThat(row.toString()).isEqualTo("row-2"));
+        assertThat(results.get(5).join()).hasValueSatisfying(row -> assertThat(row.toString()).isEqualTo("row-6"));
+        assertThat(results.get(0).join()).isEmpty();
+        assertThat(queries).containsExactly(List.of(1, 2, 3, 4, 5, 6));
+        assertThat(meterRegistry.get("psa.batch_loader.batch_size").summary().totalAmount()).isEqualTo(6.0);
+    }
+
+    @Test
+    void load_ShouldDispatchWithoutWaitingForWindow_WhenBatchIsFull() throws Exception {
+        // Given
+        BatchLoader<Integer, StringBuilder> loader = loader(Duration.ofSeconds(30), 3, BatchLoaderTest::evenIds);
+
+        // When
+        List<CompletableFuture<Optional<StringBuilder>>> results = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            results.add(loader.load(id));
+        }
+
+        // Then
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(queries).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void load_ShouldQueryKeyOnceAndHandOutCopies_WhenKeyIsRequestedTwiceInBatch() {
+        // Given
+        BatchLoader<Integer, StringBuilder> loader = loader(Duration.ofMillis(50), 100, BatchLoaderTest::evenIds);
+
+        // When
+        CompletableFuture<Optional<StringBuilder>> first = loader.load(2);
+        CompletableFuture<Optional<StringBuilder>> second = loader.load(2);
+
+        // Then
+        assertThat(first.join().orElseThrow().toString()).isEqualTo("row-2");
+        assertThat(second.join().orElseThrow().toString()).isEqualTo("row-2");
+        assertThat(second.join().orElseThrow()).isNotSameAs(first.join().orElseThrow());
+        assertThat(queries).containsExactly(List.of(2));
+    }
+
+    @Test
+    void load_ShouldFailEveryCallerInBatch_WhenQueryFails() {
+        // Given
+        BatchLoader<Integer, StringBuilder> loader = loader(Duration.ofMillis(50), 100, ids -> {
+            throw new IllegalStateException("Database connection failed");
+        });
+
+        // When
+        CompletableFuture<Optional<StringBuilder>> first = loader.load(1);
+        CompletableFuture<Optional<StringBuilder>> second = loader.load(2);
+
+        // Then
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("Database connection failed");
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasRootCauseMessage("Database connection failed");
+    }
+
+    @Test
+    void load_ShouldFailWaitingCallers_AndDispatchLaterLoads_WhenExecutorRefusesDispatch() throws Exception {
+        // Given
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        BatchLoader<Integer, StringBuilder> loader = new BatchLoader<>("test", ids -> {
+            queries.add(ids);
+            return evenIds(ids);
+        }, value -> new StringBuilder(value), Duration.ofMillis(1), 100, task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            ForkJoinPool.commonPool().execute(task);
+        }, meterRegistry);
+
+        // When
+        CompletableFuture<Optional<StringBuilder>> refused = loader.load(2);
+        assertThatThrownBy(() -> refused.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+        saturated.set(false);
+        CompletableFuture<Optional<StringBuilder>> accepted = loader.load(4);
+
+        // Then
+        assertThat(accepted.get(5, TimeUnit.SECONDS).orElseThrow()).hasToString("row-4");
+        assertThat(queries).containsExactly(List.of(4));
+    }
+}
@@ -0,0 +1,184 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<String>> commits;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commits = new CopyOnWriteArrayList<>();
+    }
+
+    private GroupCommitter<String> committer(int capacity, int maxBatchSize, Duration window,
+                                             Function<List<String>, List<String>> commit) {
+        return new GroupCommitter<>("test", items -> {
+            commits.add(items);
+            return commit.apply(items);
+        }, capacity, maxBatchSize, window, ForkJoinPool.commonPool(), meterRegistry);
+    }
+
+    // The common pool, refusing every task while saturated is set
+    private static Executor saturable(AtomicBoolean saturated) {
+        return task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            ForkJoinPool.commonPool().execute(task);
+        };
+    }
+
+    private static List<String> saved(List<String> items) {
+        return items.stream().map(item -> "saved-" + item).toList();
+    }
+
+    @Test
+    void submit_ShouldCommitWritesWithinWindowTogether_AndCompleteEachCaller() {
+        // Given
+        GroupCommitter<String> committer = committer(64, 100, Duration.ofMillis(50), GroupCommitterTest::saved);
+
+        // When
+        List<CompletableFuture<String>> results = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> committer.submit("row-" + i))
+                .toList();
+
+        // Then
+        assertThat(results.get(0).join()).isEqualTo("saved-row-1");
+        assertThat(results.get(4).join()).isEqualTo("saved-row-5");
+        assertThat(commits).containsExactly(List.of("row-1", "row-2", "row-3", "row-4", "row-5"));
+        assertThat(meterRegistry.get("psa.group_commit.batch_size").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldCommitWithoutWaitingForWindow_WhenBatchIsFull() throws Exception {
+        // Given
+        GroupCommitter<String> committer = committer(64, 3, Duration.ofSeconds(30), GroupCommitterTest::saved);
+
+        // When
+        List<CompletableFuture<String>> results = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> committer.submit("row-" + i))
+                .toList();
+
+        // Then
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("saved-row-3");
+        assertThat(commits).containsExactly(List.of("row-1", "row-2", "row-3"));
+    }
+
+    @Test
+    void submit_ShouldOnlyFailOffendingWrite_WhenBatchCommitFails() {
+        // Given
+        GroupCommitter<String> committer = committer(64, 100, Duration.ofMillis(20), items -> {
+            if (items.contains("bad")) {
+                throw new IllegalStateException("constraint violated");
+            }
+            return saved(items);
+        });
+
+        // When
+        CompletableFuture<String> first = committer.submit("good-1");
+        CompletableFuture<String> bad = committer.submit("bad");
+        CompletableFuture<String> second = committer.submit("good-2");
+
+        // Then
+        assertThat(first.join()).isEqualTo("saved-good-1");
+        assertThat(second.join()).isEqualTo("saved-good-2");
+        assertThatThrownBy(bad::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(commits.get(0)).containsExactly("good-1", "bad", "good-2");
+    }
+
+    @Test
+    void submit_ShouldRefuseWrite_WhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitter<String> committer = committer(4, 1, Duration.ofMillis(1), items -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return saved(items);
+        });
+        CompletableFuture<String> inFlight = committer.submit("row-0");
+        while (commits.isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        List<CompletableFuture<String>> queued = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> committer.submit("row-" + i))
+                .toList();
+        CompletableFuture<String> refused = committer.submit("row-5");
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(refused::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("saved-row-0");
+        assertThat(queued.get(3).get(5, TimeUnit.SECONDS)).isEqualTo("saved-row-4");
+        assertThat(meterRegistry.get("psa.group_commit.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void submit_ShouldFailWaitingWrites_WhenExecutorRefusesScheduledFlush() throws Exception {
+        // Given
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        GroupCommitter<String> committer = new GroupCommitter<>("test", items -> {
+            commits.add(items);
+            return saved(items);
+        }, 64, 100, Duration.ofMillis(1), saturable(saturated), meterRegistry);
+
+        // When
+        CompletableFuture<String> refused = committer.submit("row-1");
+        assertThatThrownBy(() -> refused.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+        saturated.set(false);
+        CompletableFuture<String> accepted = committer.submit("row-2");
+
+        // Then
+        assertThat(accepted.get(5, TimeUnit.SECONDS)).isEqualTo("saved-row-2");
+        assertThat(commits).containsExactly(List.of("row-2"));
+        assertThat(meterRegistry.get("psa.group_commit.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void submit_ShouldFailAndNeverCommitBatch_WhenExecutorRefusesFullBatch() throws Exception {
+        // Given
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        GroupCommitter<String> committer = new GroupCommitter<>("test", items -> {
+            commits.add(items);
+            return saved(items);
+        }, 64, 2, Duration.ofSeconds(30), saturable(saturated), meterRegistry);
+
+        // When
+        List<CompletableFuture<String>> refused = List.of(committer.submit("row-1"), committer.submit("row-2"));
+        saturated.set(false);
+        List<CompletableFuture<String>> accepted = List.of(committer.submit("row-3"), committer.submit("row-4"));
+
+        // Then
+        assertThat(refused).allSatisfy(result -> assertThatThrownBy(result::join).hasCauseInstanceOf(RejectedExecutionException.class));
+        assertThat(accepted.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("saved-row-4");
+        assertThat(commits).containsExactly(List.of("row-3", "row-4"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.clusterat.psa_api.infrastructure.persistence;
+
+import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
+import com.clusterat.psa_api.config.TestSecurityConfig;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:occurrence-repository")
+@Import(TestSecurityConfig.class)
+class OccurrenceRepositoryIntegrationTest {
+
+    @Autowired
+    private IOccurrenceRepository occurrenceRepository;
+
+    @Autowired
+    private SpringDataJpaOccurrenceRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AddressEntity address;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        // Hibernate maps duplicate_of_id as a plain column; add the key as changelog v1.3 declares it
+        jdbcTemplate.execute("ALTER TABLE psa.occurrences DROP CONSTRAINT IF EXISTS fk_occurrences_duplicate_of");
+        jdbcTemplate.execute("ALTER TABLE psa.occurrences ADD CONSTRAINT fk_occurrences_duplicate_of "
+                + "FOREIGN KEY (duplicate_of_id) REFERENCES psa.occurrences (id) ON DELETE SET NULL");
+        transactionTemplate.executeWithoutResult(status -> {
+            CountryEntity country = CountryEntity.create("Brazil", "BR", "BRA");
+            entityManager.persist(country);
+            StateEntity state = StateEntity.create("São Paulo", "SP", Region.SUDESTE, "35", country);
+            entityManager.persist(state);
+            CityEntity city = CityEntity.create("Campinas", "CPS", "3509502", state);
+            entityManager.persist(city);
+            address = AddressEntity.create("Rua A", "1", "Apto 1", "Centro", city);
+            entityManager.persist(address);
+            user = UserEntity.create(12345);
+            entityManager.persist(user);
+        });
+    }
+
+    private OccurrenceEntity occurrence(String name) {
+        return OccurrenceEntity.create(name, "Rua completamente alagada após chuva forte", new Date(), null, null,
+                true, Intensity.HIGH, address, user);
+    }
+
+    @Test
+    void DeleteAsync_ShouldKeepFlaggedDuplicate_AndClearItsReference_WhenOriginalIsDeleted() {
+        // Given
+        OccurrenceEntity original = occurrence("Alagamento");
+        OccurrenceEntity repeat = occurrence("Alagamento na rua");
+        repeat.setDuplicateOf(original);
+        List<OccurrenceEntity> saved = occurrenceRepository.AddAllAsync(List.of(original, repeat)).join();
+        assertThat(saved.get(1).getDuplicateOfId()).isEqualTo(saved.get(0).getId());
+
+        // When
+        OccurrenceEntity deleted = occurrenceRepository.DeleteAsync(saved.get(0).getId()).join();
+
+        // Then
+        assertThat(deleted.getId()).isEqualTo(saved.get(0).getId());
+        assertThat(jpaRepository.findById(saved.get(0).getId())).isEmpty();
+        assertThat(jpaRepository.findById(saved.get(1).getId()))
+                .hasValueSatisfying(remaining -> assertThat(remaining.getDuplicateOfId()).isNull());
+    }
+}
@@ -0,0 +1,170 @@
+package com.clusterat.psa_api.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitProperties properties;
+    private AtomicInteger chainInvocations;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RateLimitProperties();
+        properties.setPrincipal(new RateLimitProperties.Bucket(1, 2));
+        properties.setGlobal(new RateLimitProperties.Bucket(1000, 1000));
+        properties.setGroups(List.of());
+        chainInvocations = new AtomicInteger();
+        chain = exchange -> {
+            chainInvocations.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().setComplete();
+        };
+    }
+
+    private RateLimitFilter filter() {
+        return new RateLimitFilter(new LocalRateLimiter(clock::get), properties, meterRegistry);
+    }
+
+    private static ServerWebExchange asUser(String name, String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path))
+                .mutate()
+                .principal(Mono.just(new TestingAuthenticationToken(name, null)))
+                .build();
+    }
+
+    @Test
+    void filter_ShouldRejectWithRetryAfter_WhenPrincipalBucketIsEmpty() {
+        // Given
+        RateLimitFilter filter = filter();
+        filter.filter(asUser("alice", "/api/v1/occurrences"), chain).block();
+        filter.filter(asUser("alice", "/api/v1/occurrences"), chain).block();
+        ServerWebExchange third = asUser("alice", "/api/v1/occurrences");
+
+        // When
+        filter.filter(third, chain).block();
+
+        // Then
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(chainInvocations).hasValue(2);
+        assertThat(meterRegistry.get("psa.rate_limit.requests")
+                .tags("scope", "principal", "outcome", "rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void filter_ShouldKeepSeparateBuckets_WhenPrincipalsDiffer() {
+        // Given
+        RateLimitFilter filter = filter();
+        filter.filter(asUser("alice", "/api/v1/occurrences"), chain).block();
+        filter.filter(asUser("alice", "/api/v1/occurrences"), chain).block();
+        ServerWebExchange bob = asUser("bob", "/api/v1/occurrences");
+
+        // When
+        filter.filter(bob, chain).block();
+
+        // Then
+        assertThat(bob.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(chainInvocations).hasValue(3);
+    }
+
+    @Test
+    void filter_ShouldAllowAgain_WhenBucketHasRefilled() {
+        // Given
+        RateLimitFilter filter = filter();
+        filter.filter(asUser("alice", "/api/v1/users"), chain).block();
+        filter.filter(asUser("alice", "/api/v1/users"), chain).block();
+        clock.addAndGet(1_000_000_000L);
+        ServerWebExchange later = asUser("alice", "/api/v1/users");
+
+        // When
+        filter.filter(later, chain).block();
+
+        // Then
+        assertThat(later.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void filter_ShouldApplyRouteGroupLimit_WhenRequestMatchesGroup() {
+        // Given
+        properties.setPrincipal(new RateLimitProperties.Bucket(100, 100));
+        RateLimitProperties.Group exports = new RateLimitProperties.Group();
+        exports.setName("export");
+        exports.setMethods(List.of("GET"));
+        exports.setPaths(List.of("/api/v1/occurrences/export"));
+        exports.setRefillPerSecond(0.1);
+        exports.setCapacity(1);
+        properties.setGroups(List.of(exports));
+        RateLimitFilter filter = filter();
+        filter.filter(asUser("alice", "/api/v1/occurrences/export"), chain).block();
+        ServerWebExchange secondExport = asUser("alice", "/api/v1/occurrences/export");
+        ServerWebExchange otherRoute = asUser("alice", "/api/v1/occurrences");
+
+        // When
+        filter.filter(secondExport, chain).block();
+        filter.filter(otherRoute, chain).block();
+
+        // Then
+        assertThat(secondExport.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(secondExport.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(otherRoute.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void filter_ShouldKeyAnonymousCallersByRemoteAddress_WhenNoPrincipal() {
+        // Given
+        RateLimitFilter filter = filter();
+        for (int i = 0; i < 2; i++) {
+            filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/token")
+                    .remoteAddress(new InetSocketAddress("10.0.0.1", 5000 + i))), chain).block();
+        }
+        MockServerWebExchange sameHost = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/token")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 6000)));
+        MockServerWebExchange otherHost = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/token")
+                .remoteAddress(new InetSocketAddress("10.0.0.2", 6000)));
+
+        // When
+        filter.filter(sameHost, chain).block();
+        filter.filter(otherHost, chain).block();
+
+        // Then
+        assertThat(sameHost.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherHost.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void filter_ShouldPassThrough_WhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        RateLimitFilter filter = filter();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            filter.filter(asUser("alice", "/api/v1/occurrences"), chain).block();
+        }
+
+        // Then
+        assertThat(chainInvocations).hasValue(5);
+    }
+}
@@ -0,0 +1,120 @@
+package com.clusterat.psa_api.infrastructure.synthetic;
+
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDatasetTest {
+
+    private static final Instant UNTIL = Instant.parse("2025-06-30T12:00:00Z");
+    private static final int SAMPLE = 20_000;
+
+    private SyntheticDataProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SyntheticDataProperties();
+        properties.setOccurrences(SAMPLE);
+        properties.setAddresses(50_000);
+        properties.setUsers(1_000);
+    }
+
+    @Test
+    void tables_ShouldCoverEveryStateAndMunicipality() {
+        // Given
+        SyntheticDataset dataset = new SyntheticDataset(properties, UNTIL);
+
+        // When
+        List<SyntheticDataset.Table> tables = dataset.tables();
+        Set<Integer> citiesWithAddresses = new HashSet<>();
+        for (int id = 1; id <= dataset.addressCount(); id++) {
+            citiesWithAddresses.add(dataset.cityOf(id));
+        }
+
+        // Then
+        assertThat(tables).extracting(SyntheticDataset.Table::name).containsExactly(
+                "countries", "states", "cities", "addresses", "users", "police_departments", "occurrences");
+        assertThat(tables.get(1).rows()).isEqualTo(27);
+        assertThat(tables.get(2).rows()).isEqualTo(5_570);
+        assertThat(IntStream.rangeClosed(1, 5_570).mapToObj(id -> tables.get(2).row().apply(id)[3]).distinct())
+                .hasSize(5_570);
+        assertThat(dataset.addressCount()).isEqualTo(50_000);
+        assertThat(citiesWithAddresses).hasSize(5_570);
+    }
+
+    @Test
+    void occurrences_ShouldBeTheSame_WhenGeneratedAgainWithTheSameSeed() {
+        // Given
+        SyntheticDataset.Table first = occurrences(new SyntheticDataset(properties, UNTIL));
+        SyntheticDataset.Table second = occurrences(new SyntheticDataset(properties, UNTIL));
+        properties.setSeed(7L);
+        SyntheticDataset.Table reseeded = occurrences(new SyntheticDataset(properties, UNTIL));
+
+        // When & Then
+        for (int id : new int[]{1, 2, 1_000, SAMPLE}) {
+            assertThat(second.row().apply(id)).isEqualTo(first.row().apply(id));
+        }
+        assertThat(reseeded.row().apply(1)).isNotEqualTo(first.row().apply(1));
+    }
+
+    @Test
+    void occurrences_ShouldConcentrateOnTheLargestCities() {
+        // Given
+        SyntheticDataset dataset = new SyntheticDataset(properties, UNTIL);
+        SyntheticDataset.Table occurrences = occurrences(dataset);
+
+        // When
+        long inSaoPaulo = IntStream.rangeClosed(1, SAMPLE)
+                .map(id -> dataset.cityOf((Integer) occurrences.row().apply(id)[8]))
+                .filter(city -> dataset.cityName(city).equals("São Paulo"))
+                .count();
+        long inPalmas = IntStream.rangeClosed(1, SAMPLE)
+                .map(id -> dataset.cityOf((Integer) occurrences.row().apply(id)[8]))
+                .filter(city -> dataset.cityName(city).equals("Palmas"))
+                .count();
+
+        // Then
+        assertThat(inSaoPaulo).isBetween(SAMPLE / 20L, SAMPLE / 5L);
+        assertThat(inSaoPaulo).isGreaterThan(10 * inPalmas);
+    }
+
+    @Test
+    void occurrences_ShouldFollowTheIntensityMixAndTimeOfDayProfile() {
+        // Given
+        SyntheticDataset.Table occurrences = occurrences(new SyntheticDataset(properties, UNTIL));
+        int[] intensities = new int[Intensity.values().length];
+        int[] hours = new int[24];
+        int active = 0;
+
+        // When
+        for (int id = 1; id <= SAMPLE; id++) {
+            Object[] row = occurrences.row().apply(id);
+            Timestamp start = (Timestamp) row[3];
+            intensities[(Integer) row[7]]++;
+            hours[start.toInstant().atZone(SyntheticDataset.ZONE).getHour()]++;
+            active += (Boolean) row[6] ? 1 : 0;
+            assertThat(start.toInstant()).isBefore(UNTIL);
+            assertThat((Timestamp) row[4]).isAfter(start);
+        }
+
+        // Then
+        assertThat(intensities[Intensity.LOW.ordinal()]).isGreaterThan(intensities[Intensity.MODERATE.ordinal()]);
+        assertThat(intensities[Intensity.MODERATE.ordinal()]).isGreaterThan(intensities[Intensity.HIGH.ordinal()]);
+        assertThat(intensities[Intensity.CRITICAL.ordinal()]).isBetween(SAMPLE / 50, SAMPLE / 20);
+        assertThat(hours[19]).isGreaterThan(5 * hours[4]);
+        assertThat(active).isPositive().isLessThan(SAMPLE / 20);
+    }
+
+    private static SyntheticDataset.Table occurrences(SyntheticDataset dataset) {
+        return dataset.tables().get(6);
+    }
+}
@@ -0,0 +1,160 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.infrastructure.cache.LocalTableVersionStore;
+import com.clusterat.psa_api.infrastructure.cache.TableVersionStore;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceDataETagFilterTest {
+
+    private TableVersions tableVersions;
+    private ReferenceDataETagFilter filter;
+    private AtomicInteger chainInvocations;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        tableVersions = new TableVersions();
+        filter = new ReferenceDataETagFilter(tableVersions);
+        chainInvocations = new AtomicInteger();
+        chain = exchange -> {
+            chainInvocations.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().setComplete();
+        };
+    }
+
+    @Test
+    void filter_ShouldAttachStrongETag_WhenReferenceCollectionIsRequested() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        String eTag = exchange.getResponse().getHeaders().getETag();
+        assertThat(eTag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldAnswerNotModifiedWithoutCallingEndpoint_WhenIfNoneMatchIsCurrent() {
+        // Given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities/3"));
+        filter.filter(first, chain).block();
+        String eTag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities/3")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // When
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldServeFullResponse_WhenTableWasWrittenSinceETagWasIssued() {
+        // Given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states"));
+        filter.filter(first, chain).block();
+        String eTag = first.getResponse().getHeaders().getETag();
+        tableVersions.bump(TableVersions.STATES);
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // When
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(chainInvocations).hasValue(2);
+    }
+
+    @Test
+    void filter_ShouldServeFullResponse_WhenAnotherReplicaWroteTheTable() {
+        // Given
+        TableVersionStore shared = new LocalTableVersionStore();
+        TableVersions replicaA = new TableVersions(shared, null);
+        TableVersions replicaB = new TableVersions(shared, null);
+        ReferenceDataETagFilter filterOnB = new ReferenceDataETagFilter(replicaB);
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries"));
+        filterOnB.filter(first, chain).block();
+        String eTag = first.getResponse().getHeaders().getETag();
+        replicaA.bump(TableVersions.COUNTRIES);
+        replicaB.refresh();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // When
+        filterOnB.filter(second, chain).block();
+
+        // Then
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void filter_ShouldIgnoreRequest_WhenPathIsNotReferenceData() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/occurrences"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldDropETag_WhenEndpointFails() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries/99"));
+        WebFilterChain notFound = ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return ex.getResponse().setComplete();
+        };
+
+        // When
+        filter.filter(exchange, notFound).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void filter_ShouldIssueDistinctValidators_PerNegotiatedRepresentation() {
+        // Given
+        MockServerWebExchange json = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states"));
+        MockServerWebExchange cbor = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states")
+                .accept(MediaType.APPLICATION_CBOR));
+
+        // When
+        filter.filter(json, chain).block();
+        filter.filter(cbor, chain).block();
+
+        // Then
+        assertThat(cbor.getResponse().getHeaders().getETag()).isNotEqualTo(json.getResponse().getHeaders().getETag());
+        assertThat(cbor.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+}
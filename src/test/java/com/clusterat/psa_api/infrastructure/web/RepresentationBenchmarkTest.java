@@ -0,0 +1,84 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Encoded size and encode/decode time of an occurrence list in each {@link Representation}.
+ * Skipped in normal builds; run it on its own with
+ * {@code mvn test -Dtest=RepresentationBenchmarkTest -Dpsa.benchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "psa.benchmarks", matches = "true")
+class RepresentationBenchmarkTest {
+
+    private static final int OCCURRENCES = 1_000;
+    private static final int WARMUP_RUNS = 500;
+    private static final int MEASURED_RUNS = 500;
+    private static final String[] NAMES = {"Roubo", "Furto", "Acidente de Trânsito", "Incêndio", "Alagamento", "Deslizamento"};
+
+    @Test
+    void representations_ShouldReportSizeAndEncodeTime_ForOccurrenceList() throws Exception {
+        // Given
+        RepresentationMappers mappers = new RepresentationMappers(
+                Jackson2ObjectMapperBuilder.json().build(),
+                Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build(),
+                Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+        List<OccurrenceApplicationDTO.Response> occurrences = occurrences(new Random(42));
+
+        System.out.printf("%d occurrences, mean of %d runs after %d warm-up runs%n", OCCURRENCES, MEASURED_RUNS, WARMUP_RUNS);
+        for (Representation representation : Representation.values()) {
+            ObjectMapper mapper = mappers.get(representation);
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(occurrences), OccurrenceApplicationDTO.Response[].class);
+            }
+
+            // When
+            byte[] encoded = null;
+            OccurrenceApplicationDTO.Response[] decoded = null;
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long start = System.nanoTime();
+                encoded = mapper.writeValueAsBytes(occurrences);
+                long encodedAt = System.nanoTime();
+                decoded = mapper.readValue(encoded, OccurrenceApplicationDTO.Response[].class);
+                decodeNanos += System.nanoTime() - encodedAt;
+                encodeNanos += encodedAt - start;
+            }
+
+            // Then
+            assertThat(decoded).containsExactlyElementsOf(occurrences);
+            System.out.printf("%-6s %6d KB  encode %5.2f ms  decode %5.2f ms%n", representation,
+                    encoded.length / 1024, encodeNanos / 1e6 / MEASURED_RUNS, decodeNanos / 1e6 / MEASURED_RUNS);
+        }
+    }
+
+    private static List<OccurrenceApplicationDTO.Response> occurrences(Random random) {
+        long now = 1_750_000_000_000L;
+        return IntStream.rangeClosed(1, OCCURRENCES)
+                .mapToObj(id -> {
+                    String name = NAMES[random.nextInt(NAMES.length)];
+                    long start = now - random.nextInt(30 * 86_400) * 1000L;
+                    return new OccurrenceApplicationDTO.Response(id, name,
+                            name + " registrado por morador próximo ao endereço, ocorrência " + id,
+                            new Date(start), new Date(start + random.nextInt(14_400) * 1000L), new Date(start + 60_000L),
+                            random.nextBoolean(), Intensity.values()[random.nextInt(Intensity.values().length)],
+                            1 + random.nextInt(50_000), 1 + random.nextInt(1_000),
+                            random.nextInt(20) == 0 ? id - 1 : null);
+                })
+                .toList();
+    }
+}
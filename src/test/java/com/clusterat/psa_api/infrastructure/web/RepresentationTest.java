@@ -0,0 +1,55 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.application.dto.OccurrenceApplicationDTO;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepresentationTest {
+
+    @Test
+    void negotiate_ShouldDefaultToJson_WhenAcceptIsMissingOrWildcard() {
+        assertThat(Representation.negotiate(List.of())).isEqualTo(Representation.JSON);
+        assertThat(Representation.negotiate(MediaType.parseMediaTypes("*/*"))).isEqualTo(Representation.JSON);
+        assertThat(Representation.negotiate(MediaType.parseMediaTypes("application/*"))).isEqualTo(Representation.JSON);
+    }
+
+    @Test
+    void negotiate_ShouldHonourQualityValues() {
+        assertThat(Representation.negotiate(MediaType.parseMediaTypes("application/json;q=0.5, application/cbor")))
+                .isEqualTo(Representation.CBOR);
+        assertThat(Representation.negotiate(MediaType.parseMediaTypes("application/x-jackson-smile, application/json;q=0.9")))
+                .isEqualTo(Representation.SMILE);
+        assertThat(Representation.negotiate(MediaType.parseMediaTypes("text/html"))).isNull();
+    }
+
+    @Test
+    void binaryRepresentations_ShouldRoundTripOccurrencesInFewerBytesThanJson() throws Exception {
+        // Given
+        RepresentationMappers mappers = new RepresentationMappers(new ObjectMapper(), new CBORMapper(), new SmileMapper());
+        List<OccurrenceApplicationDTO.Response> occurrences = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> new OccurrenceApplicationDTO.Response(i, "Occurrence " + i, "Description " + i,
+                        new Date(1_700_000_000_000L + i), null, null, true, Intensity.HIGH, i, i % 7))
+                .toList();
+        byte[] json = mappers.get(Representation.JSON).writeValueAsBytes(occurrences);
+
+        for (Representation representation : List.of(Representation.CBOR, Representation.SMILE)) {
+            // When
+            ObjectMapper mapper = mappers.get(representation);
+            byte[] encoded = mapper.writeValueAsBytes(occurrences);
+
+            // Then
+            assertThat(encoded.length).isLessThan(json.length);
+            assertThat(mapper.readValue(encoded, OccurrenceApplicationDTO.Response[].class)).containsExactlyElementsOf(occurrences);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.clusterat.psa_api.infrastructure.cache.LocalTableVersionStore;
+import com.clusterat.psa_api.infrastructure.cache.TableVersionStore;
+import com.clusterat.psa_api.infrastructure.cache.TableVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"id\":1,\"name\":\"Brazil\",\"shortName\":\"BR\",\"isoCode\":\"BRA\"}]";
+
+    private TableVersions tableVersions;
+    private SerializedResponseCacheFilter filter;
+    private AtomicInteger chainInvocations;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        tableVersions = new TableVersions();
+        filter = new SerializedResponseCacheFilter(tableVersions, true);
+        chainInvocations = new AtomicInteger();
+        chain = exchange -> {
+            chainInvocations.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(
+                    exchange.getResponse().bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    @Test
+    void filter_ShouldReplayCachedBytesWithoutCallingEndpoint_WhenVersionIsUnchanged() {
+        // Given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries"));
+        filter.filter(first, chain).block();
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries"));
+
+        // When
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldRebuildResponse_WhenWritePathBumpedTableVersion() {
+        // Given
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/police-departments")), chain).block();
+        tableVersions.bump(TableVersions.POLICE_DEPARTMENTS);
+
+        // When
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/police-departments")), chain).block();
+
+        // Then
+        assertThat(chainInvocations).hasValue(2);
+    }
+
+    @Test
+    void filter_ShouldRebuildResponse_WhenAnotherReplicaWroteTheTable() {
+        // Given
+        TableVersionStore shared = new LocalTableVersionStore();
+        TableVersions replicaA = new TableVersions(shared, null);
+        TableVersions replicaB = new TableVersions(shared, null);
+        SerializedResponseCacheFilter filterOnB = new SerializedResponseCacheFilter(replicaB, true);
+        filterOnB.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities")), chain).block();
+        replicaA.bump(TableVersions.CITIES);
+        replicaB.refresh();
+
+        // When
+        filterOnB.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities")), chain).block();
+
+        // Then
+        assertThat(chainInvocations).hasValue(2);
+    }
+
+    @Test
+    void filter_ShouldServePrecompressedBody_WhenClientAcceptsGzip() throws Exception {
+        // Given
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states")), chain).block();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/states")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] raw = DataBufferUtils.join(exchange.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    return bytes;
+                }).block();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(raw))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+        assertThat(chainInvocations).hasValue(1);
+    }
+
+    @Test
+    void filter_ShouldBypassCache_WhenRequestHasQueryParameters() {
+        // Given
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities")), chain).block();
+
+        // When
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/cities?page=2")), chain).block();
+
+        // Then
+        assertThat(chainInvocations).hasValue(2);
+    }
+
+    @Test
+    void filter_ShouldNotCache_WhenEndpointFails() {
+        // Given
+        WebFilterChain failing = exchange -> {
+            chainInvocations.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return exchange.getResponse().setComplete();
+        };
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries")), failing).block();
+
+        // When
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/countries")), chain).block();
+
+        // Then
+        assertThat(chainInvocations).hasValue(2);
+    }
+}
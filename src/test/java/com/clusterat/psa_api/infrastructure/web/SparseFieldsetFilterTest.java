@@ -0,0 +1,129 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparseFieldsetFilterTest {
+
+    private final RepresentationMappers mappers = new RepresentationMappers(new ObjectMapper(), new CBORMapper(), new SmileMapper());
+    private final SparseFieldsetFilter filter = new SparseFieldsetFilter(mappers);
+    private final AtomicInteger chainInvocations = new AtomicInteger();
+
+    private WebFilterChain respondingWith(String body) {
+        return exchange -> {
+            chainInvocations.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(
+                    exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private MockServerWebExchange run(String uri, String body) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        filter.filter(exchange, respondingWith(body)).block();
+        return exchange;
+    }
+
+    @Test
+    void filter_ShouldKeepOnlySelectedFieldsAndId_ForEveryListElement() {
+        // When
+        MockServerWebExchange exchange = run("/api/v1/occurrences?fields=name,intensity",
+                "[{\"id\":1,\"name\":\"A\",\"description\":\"long\",\"intensity\":\"HIGH\"},"
+                        + "{\"id\":2,\"name\":\"B\",\"description\":\"longer\",\"intensity\":\"LOW\"}]");
+
+        // Then
+        String body = exchange.getResponse().getBodyAsString().block();
+        assertThat(body).isEqualTo("[{\"id\":1,\"name\":\"A\",\"intensity\":\"HIGH\"},{\"id\":2,\"name\":\"B\",\"intensity\":\"LOW\"}]");
+        assertThat(exchange.getResponse().getHeaders().getContentLength()).isEqualTo(body.length());
+    }
+
+    @Test
+    void filter_ShouldSelectInsideEmbeddedResources_WhenNameIsDotted() {
+        // When
+        MockServerWebExchange exchange = run("/api/v1/occurrences/1?expand=address.city&fields=name,address.street,address.city",
+                "{\"id\":1,\"name\":\"A\",\"description\":\"long\",\"address\":{\"id\":4,\"street\":\"Rua A\",\"number\":\"1\","
+                        + "\"city\":{\"id\":3,\"name\":\"Campinas\"}}}");
+
+        // Then
+        assertThat(exchange.getResponse().getBodyAsString().block())
+                .isEqualTo("{\"id\":1,\"name\":\"A\",\"address\":{\"id\":4,\"street\":\"Rua A\",\"city\":{\"id\":3,\"name\":\"Campinas\"}}}");
+    }
+
+    @Test
+    void filter_ShouldApplySelectionToLookupItems() {
+        // When
+        MockServerWebExchange exchange = run("/api/v1/occurrences?ids=1,9&fields=name",
+                "{\"results\":[{\"id\":1,\"found\":true,\"item\":{\"id\":1,\"name\":\"A\",\"description\":\"long\"}},"
+                        + "{\"id\":9,\"found\":false,\"item\":null}],\"missing\":[9]}");
+
+        // Then
+        assertThat(exchange.getResponse().getBodyAsString().block())
+                .isEqualTo("{\"results\":[{\"id\":1,\"found\":true,\"item\":{\"id\":1,\"name\":\"A\"}},"
+                        + "{\"id\":9,\"found\":false,\"item\":null}],\"missing\":[9]}");
+    }
+
+    @Test
+    void filter_ShouldRejectMalformedFieldsWithoutCallingEndpoint() {
+        // When
+        MockServerWebExchange exchange = run("/api/v1/cities?fields=name,,state..id", "[]");
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(chainInvocations).hasValue(0);
+    }
+
+    @Test
+    void filter_ShouldPassBodyThrough_WhenFieldsAreNotRequested() {
+        // When
+        MockServerWebExchange exchange = run("/api/v1/cities", "[{\"id\":1,\"name\":\"Campinas\"}]");
+
+        // Then
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("[{\"id\":1,\"name\":\"Campinas\"}]");
+    }
+
+    @Test
+    void filter_ShouldPruneBinaryRepresentations() throws Exception {
+        // Given
+        ObjectMapper cbor = mappers.get(Representation.CBOR);
+        byte[] encoded = cbor.writeValueAsBytes(List.of(Map.of("id", 1, "name", "A", "description", "long")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/occurrences?fields=name")
+                .accept(MediaType.APPLICATION_CBOR));
+
+        // When
+        filter.filter(exchange, current -> {
+            current.getResponse().setStatusCode(HttpStatus.OK);
+            current.getResponse().getHeaders().setContentType(MediaType.APPLICATION_CBOR);
+            return current.getResponse().writeWith(Mono.just(current.getResponse().bufferFactory().wrap(encoded)));
+        }).block();
+
+        // Then
+        byte[] body = DataBufferUtils.join(exchange.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    return bytes;
+                })
+                .block();
+        JsonNode element = cbor.readTree(body).get(0);
+        assertThat(element.has("name")).isTrue();
+        assertThat(element.has("description")).isFalse();
+    }
+}
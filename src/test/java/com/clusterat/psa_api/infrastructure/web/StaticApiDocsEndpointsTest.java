@@ -0,0 +1,75 @@
+package com.clusterat.psa_api.infrastructure.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticApiDocsEndpointsTest {
+
+    private StaticApiDocsEndpoints endpoints;
+    private byte[] json;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        endpoints = new StaticApiDocsEndpoints();
+        try (InputStream in = new ClassPathResource("openapi/public-safety-api.json").getInputStream()) {
+            json = in.readAllBytes();
+        }
+    }
+
+    @Test
+    void getDocument_ShouldServePrecompressedDocument_WhenClientAcceptsGzip() throws IOException {
+        // Given & When
+        ResponseEntity<byte[]> response = endpoints.getDocument("public-safety-api", "gzip, deflate, br");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void getDocument_ShouldServePlainDocument_WhenClientDoesNotAcceptGzip() {
+        // Given & When
+        ResponseEntity<byte[]> response = endpoints.getDocument("public-safety-api", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getBody()).isEqualTo(json);
+    }
+
+    @Test
+    void getDocument_ShouldServePlainDocument_WhenClientRefusesGzip() {
+        // Given & When
+        ResponseEntity<byte[]> response = endpoints.getDocument("public-safety-api", "br, gzip;q=0");
+
+        // Then
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getBody()).isEqualTo(json);
+    }
+
+    @Test
+    void getDocument_ShouldReturnNotFound_WhenDocumentWasNotBuilt() {
+        // Given & When
+        ResponseEntity<byte[]> response = endpoints.getDocument("swagger-config", "gzip");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
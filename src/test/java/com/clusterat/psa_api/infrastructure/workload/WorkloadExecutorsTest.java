@@ -0,0 +1,101 @@
+package com.clusterat.psa_api.infrastructure.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkloadExecutorsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadExecutors executors;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        WorkloadProperties properties = new WorkloadProperties();
+        properties.setBulk(new WorkloadProperties.Pool(1, 1));
+        executors = new WorkloadExecutors(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.close();
+    }
+
+    @Test
+    void supplyAsync_ShouldRunOnTheExecutorOfTheCallersWorkload() {
+        // Given & When
+        String interactive = executors.supplyAsync(() -> Workload.current() + "@" + Thread.currentThread().getName()).join();
+        String background = Workload.BACKGROUND.call(() -> executors.supplyAsync(
+                () -> Workload.current() + "@" + Thread.currentThread().getName())).join();
+
+        // Then
+        assertThat(interactive).startsWith("INTERACTIVE@workload-interactive-");
+        assertThat(background).startsWith("BACKGROUND@workload-background-");
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    void supplyAsync_ShouldFailTheFuture_WhenTheWorkloadIsSaturated() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executors.supplyAsync(Workload.BULK, () -> block(started, release));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = executors.supplyAsync(Workload.BULK, () -> true);
+
+        // When
+        CompletableFuture<Boolean> refused = executors.supplyAsync(Workload.BULK, () -> true);
+        boolean interactiveStillRuns = executors.supplyAsync(() -> true).join();
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(refused::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(interactiveStillRuns).isTrue();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+        assertThat(meterRegistry.get("psa.workload.rejected").tag("workload", "bulk").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("psa.workload.rejected").tag("workload", "interactive").counter().count()).isZero();
+    }
+
+    @Test
+    void executors_ShouldReportSaturationPerWorkload() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executors.supplyAsync(Workload.BULK, () -> block(started, release));
+        started.await(5, TimeUnit.SECONDS);
+        executors.supplyAsync(Workload.BULK, () -> true);
+
+        // When
+        double active = meterRegistry.get("executor.active").tag("workload", "bulk").gauge().value();
+        double queued = meterRegistry.get("executor.queued").tag("workload", "bulk").gauge().value();
+        double interactiveQueued = meterRegistry.get("executor.queued").tag("workload", "interactive").gauge().value();
+        release.countDown();
+
+        // Then
+        assertThat(active).isEqualTo(1.0);
+        assertThat(queued).isEqualTo(1.0);
+        assertThat(interactiveQueued).isZero();
+        assertThat(running.join()).isTrue();
+    }
+
+    private static boolean block(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.clusterat.psa_api.openapi;
+
+import com.clusterat.psa_api.PsaApiApplication;
+import com.clusterat.psa_api.infrastructure.web.StaticApiDocsEndpoints;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the OpenAPI documents that {@link StaticApiDocsEndpoints} serves when springdoc is off.
+ * The build runs it in {@code prepare-package} with the output directory as argument, so the
+ * documents end up in the jar.
+ *
+ * The application is started outside the dev profile, so dev-only endpoints stay out of the
+ * documents, on an in-memory database with the background workers off. Each document is
+ * fetched from springdoc and written as JSON with a gzip copy next to it.
+ */
+public final class OpenApiSpecWriter {
+
+    private OpenApiSpecWriter() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path directory = Path.of(args[0]);
+        Files.createDirectories(directory);
+        // Devtools would restart main with the application's arguments instead of ours
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PsaApiApplication.class)
+                .run("--spring.profiles.active=openapi",
+                        "--springdoc.api-docs.enabled=true",
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:openapi;INIT=CREATE SCHEMA IF NOT EXISTS psa",
+                        "--spring.datasource.username=sa",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.default_schema=psa",
+                        "--spring.liquibase.enabled=false",
+                        "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/unused",
+                        "--psa.outbox.relay-enabled=false",
+                        "--psa.expiry.enabled=false")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newHttpClient();
+            for (String document : StaticApiDocsEndpoints.DOCUMENTS) {
+                HttpResponse<byte[]> response = client.send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api-docs/" + document)).build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("GET /api-docs/" + document + " answered " + response.statusCode());
+                }
+                Files.write(directory.resolve(document + ".json"), response.body());
+                try (OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(directory.resolve(document + ".json.gz")))) {
+                    gzip.write(response.body());
+                }
+                System.out.println("Wrote " + directory.resolve(document + ".json") + " (" + response.body().length + " bytes)");
+            }
+        }
+    }
+}
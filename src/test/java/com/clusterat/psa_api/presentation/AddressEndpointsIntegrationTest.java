@@ -219,6 +219,27 @@ class AddressEndpointsIntegrationTest {
         }
     }
 
+    @Test
+    @Order(6)
+    void shouldGetAddressesByIdsInRequestOrder() {
+        // When & Then
+        if (createdAddressId != null) {
+            webTestClient
+                    .mutateWith(SecurityMockServerConfigurers.mockUser("testuser").roles("USER"))
+                    .get()
+                    .uri("/api/v1/addresses?ids={missing},{id}", 99999, createdAddressId)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.results[0].id").isEqualTo(99999)
+                    .jsonPath("$.results[0].found").isEqualTo(false)
+                    .jsonPath("$.results[1].id").isEqualTo(createdAddressId)
+                    .jsonPath("$.results[1].item.street").isEqualTo("Rua das Flores")
+                    .jsonPath("$.missing[0]").isEqualTo(99999);
+        }
+    }
+
     @Test
     @Order(7)
     void shouldUpdateAddress() throws Exception {
@@ -425,13 +446,13 @@ class AddressEndpointsIntegrationTest {
     }
 
     @Test
-    void shouldAllowBasicAuthentication() {
-        // When & Then - Basic authentication
+    void shouldAllowBearerAuthentication() {
+        // When & Then - Bearer token
         webTestClient
                 .get()
                 .uri("/api/v1/addresses")
                 .accept(MediaType.APPLICATION_JSON)
-                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.bearerToken("testuser")))
                 .exchange()
                 .expectStatus().isOk();
     }
@@ -264,13 +264,13 @@ class CountryEndpointsIntegrationTest {
     }
 
     @Test
-    void shouldAllowBasicAuthentication() {
-        // When & Then - Basic authentication
+    void shouldAllowBearerAuthentication() {
+        // When & Then - Bearer token
         webTestClient
                 .get()
                 .uri("/api/v1/countries")
                 .accept(MediaType.APPLICATION_JSON)
-                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.bearerToken("testuser")))
                 .exchange()
                 .expectStatus().isOk();
     }
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -21,6 +22,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -154,6 +157,25 @@ class OccurrenceEndpointsAdvancedMockitoTest {
         then(createOccurrenceCommandHandler).should(times(2)).handle(any(CreateOccurrenceCommand.class));
     }
 
+    @Test
+    void createOccurrence_ShouldReturnServiceUnavailable_WhenCreateQueueIsFull() {
+        // Given
+        OccurrencePresentationDTO.CreateRequest request = new OccurrencePresentationDTO.CreateRequest(
+                "Acidente de Trânsito", "Acidente envolvendo dois veículos",
+                java.util.Date.from(testDateTime.atZone(java.time.ZoneId.systemDefault()).toInstant()),
+                null, null, true, Intensity.MODERATE, 1, 1);
+        given(createOccurrenceCommandHandler.handle(any(CreateOccurrenceCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new CompletionException(
+                        new RejectedExecutionException("Group commit queue is full"))));
+
+        // When
+        ResponseEntity<OccurrenceApplicationDTO.Response> response = occurrenceEndpoints.createOccurrence(request).join();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
     @Test
     void getOccurrences_ShouldNeverCallRepository_WhenNotInvoked() {
         // When - Don't call getOccurrences()
@@ -560,13 +560,13 @@ class OccurrenceEndpointsIntegrationTest {
     }
 
     @Test
-    void shouldAllowBasicAuthentication() {
-        // When & Then - Basic authentication
+    void shouldAllowBearerAuthentication() {
+        // When & Then - Bearer token
         webTestClient
                 .get()
                 .uri("/api/v1/occurrences")
                 .accept(MediaType.APPLICATION_JSON)
-                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.bearerToken("testuser")))
                 .exchange()
                 .expectStatus().isOk();
     }
@@ -7,6 +7,8 @@ import com.clusterat.psa_api.application.interfaces.IOccurrenceRepository;
 import com.clusterat.psa_api.domain.entities.*;
 import com.clusterat.psa_api.domain.value_objects.Intensity;
 import com.clusterat.psa_api.domain.value_objects.Region;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
+import com.clusterat.psa_api.presentation.dto.LookupPresentationDTO;
 import com.clusterat.psa_api.presentation.dto.OccurrencePresentationDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +42,9 @@ class OccurrenceEndpointsUnitTest {
     @Mock
     private CreateOccurrenceCommandHandler createOccurrenceCommandHandler;
 
+    @Mock
+    private ResourceExpander resourceExpander;
+
     @InjectMocks
     private OccurrenceEndpoints occurrenceEndpoints;
 
@@ -149,6 +156,24 @@ class OccurrenceEndpointsUnitTest {
         then(occurrenceRepository).should().GetAllAsync();
     }
 
+    @Test
+    void getOccurrencesSparse_ShouldPassTopLevelFieldsToRepository() {
+        // Given
+        given(occurrenceRepository.GetAllAsync(Set.of("name", "intensity", "address")))
+                .willReturn(CompletableFuture.completedFuture(testOccurrences));
+
+        // When
+        CompletableFuture<ResponseEntity<List<OccurrenceApplicationDTO.Response>>> result =
+                occurrenceEndpoints.getOccurrencesSparse("name, intensity,address.street");
+
+        // Then
+        ResponseEntity<List<OccurrenceApplicationDTO.Response>> response = result.join();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(2);
+        then(occurrenceRepository).should().GetAllAsync(Set.of("name", "intensity", "address"));
+        then(occurrenceRepository).should(never()).GetAllAsync();
+    }
+
     @Test
     void getOccurrenceById_ShouldReturnOccurrence_WhenOccurrenceExists() {
         // Given
@@ -190,6 +215,95 @@ class OccurrenceEndpointsUnitTest {
         then(occurrenceRepository).should().GetByIdAsync(999);
     }
 
+    @Test
+    void getOccurrencesByIds_ShouldReturnEntriesInRequestOrderAndMarkMissing_WhenSomeIdsDoNotExist() {
+        // Given
+        List<Integer> ids = List.of(999, 1);
+        given(occurrenceRepository.GetByIdsAsync(ids))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.empty(), Optional.of(testOccurrence))));
+
+        // When
+        CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> result =
+                occurrenceEndpoints.getOccurrencesByIds(ids);
+
+        // Then
+        ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>> response = result.join();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().results()).extracting(LookupPresentationDTO.Entry::id).containsExactly(999, 1);
+        assertThat(response.getBody().results().get(0).found()).isFalse();
+        assertThat(response.getBody().results().get(0).item()).isNull();
+        assertThat(response.getBody().results().get(1).item().name()).isEqualTo("Acidente de Trânsito");
+        assertThat(response.getBody().missing()).containsExactly(999);
+
+        then(occurrenceRepository).should().GetByIdsAsync(ids);
+    }
+
+    @Test
+    void getOccurrencesByIds_ShouldReturnBadRequest_WhenTooManyIdsRequested() {
+        // Given
+        List<Integer> ids = IntStream.rangeClosed(1, LookupPresentationDTO.MAX_QUERY_IDS + 1).boxed().toList();
+
+        // When
+        CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> result =
+                occurrenceEndpoints.getOccurrencesByIds(ids);
+
+        // Then
+        assertThat(result.join().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(occurrenceRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getOccurrencesByIdsExpanded_ShouldEmbedRelationsInRequestOrder_WhenSomeIdsDoNotExist() {
+        // Given
+        List<Integer> ids = List.of(999, 1);
+        given(occurrenceRepository.GetByIdsAsync(ids))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.empty(), Optional.of(testOccurrence))));
+        ExpansionPresentationDTO.ExpandedOccurrence expanded = new ExpansionPresentationDTO.ExpandedOccurrence(
+                OccurrenceApplicationDTO.Response.from(testOccurrence), null, null);
+        given(resourceExpander.expandOccurrences(eq(List.of(testOccurrence)), any(Expansion.class)))
+                .willReturn(CompletableFuture.completedFuture(List.of(expanded)));
+
+        // When
+        CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedOccurrence>>> result =
+                occurrenceEndpoints.getOccurrencesByIdsExpanded(ids, "address.city");
+
+        // Then
+        ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedOccurrence>> response = result.join();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().results()).extracting(LookupPresentationDTO.Entry::id).containsExactly(999, 1);
+        assertThat(response.getBody().results().get(0).item()).isNull();
+        assertThat(response.getBody().results().get(1).item()).isSameAs(expanded);
+        assertThat(response.getBody().missing()).containsExactly(999);
+    }
+
+    @Test
+    void getOccurrencesByIdsExpanded_ShouldReturnBadRequest_WhenExpandNamesUnknownRelation() {
+        // When
+        CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<ExpansionPresentationDTO.ExpandedOccurrence>>> result =
+                occurrenceEndpoints.getOccurrencesByIdsExpanded(List.of(1, 2), "weather");
+
+        // Then
+        assertThat(result.join().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(occurrenceRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void lookupOccurrencesByIds_ShouldAcceptLargerIdSets_WhenPostedInBody() {
+        // Given
+        List<Integer> ids = IntStream.rangeClosed(1, 500).boxed().toList();
+        given(occurrenceRepository.GetByIdsAsync(ids))
+                .willReturn(CompletableFuture.completedFuture(ids.stream().map(id -> Optional.<OccurrenceEntity>empty()).toList()));
+
+        // When
+        CompletableFuture<ResponseEntity<LookupPresentationDTO.Response<OccurrenceApplicationDTO.Response>>> result =
+                occurrenceEndpoints.lookupOccurrencesByIds(new LookupPresentationDTO.LookupRequest(ids));
+
+        // Then
+        assertThat(result.join().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.join().getBody().missing()).hasSize(500);
+    }
+
     @Test
     void getActiveOccurrences_ShouldReturnActiveOccurrences_WhenActiveOccurrencesExist() {
         // Given
@@ -0,0 +1,97 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.application.commands.CreateOccurrenceCommand;
+import com.clusterat.psa_api.application.commands.UpdateOccurrenceCommand;
+import com.clusterat.psa_api.application.handlers.CreateOccurrenceCommandHandler;
+import com.clusterat.psa_api.application.handlers.UpdateOccurrenceCommandHandler;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.presentation.dto.OccurrenceIngestPresentationDTO.Ack;
+import com.clusterat.psa_api.presentation.dto.OccurrenceIngestPresentationDTO.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OccurrenceIngestSocketTest {
+
+    private static final String CREATE = "{\"id\":\"%s\",\"create\":{\"name\":\"Flood\",\"description\":\"Street flooded\","
+            + "\"dateStart\":\"2024-08-10T10:00:00.000Z\",\"active\":true,\"intensity\":\"HIGH\",\"addressId\":1,\"userId\":1}}";
+    private static final String UPDATE = "{\"id\":\"%s\",\"occurrenceId\":%d,\"update\":{\"name\":\"Flood\",\"description\":\"Water receding\","
+            + "\"dateStart\":\"2024-08-10T10:00:00.000Z\",\"active\":false,\"intensity\":\"LOW\",\"addressId\":1,\"userId\":1}}";
+
+    @Mock
+    private CreateOccurrenceCommandHandler createOccurrenceCommandHandler;
+
+    @Mock
+    private UpdateOccurrenceCommandHandler updateOccurrenceCommandHandler;
+
+    private OccurrenceIngestSocket socket;
+
+    @BeforeEach
+    void setUp() {
+        socket = new OccurrenceIngestSocket(createOccurrenceCommandHandler, updateOccurrenceCommandHandler, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 100, Duration.ofMillis(20));
+    }
+
+    private static CompletableFuture<OccurrenceEntity> saved(int id) {
+        OccurrenceEntity occurrence = new OccurrenceEntity();
+        occurrence.setId(id);
+        return CompletableFuture.completedFuture(occurrence);
+    }
+
+    @Test
+    void commit_ShouldHandOverEachKindOnce_AndAcknowledgeInMessageOrder() {
+        // Given
+        given(createOccurrenceCommandHandler.handleAll(anyList())).willAnswer(invocation -> {
+            List<CreateOccurrenceCommand> commands = invocation.getArgument(0);
+            assertThat(commands).hasSize(2);
+            return List.of(saved(10), CompletableFuture.failedFuture(new IllegalArgumentException("Address with ID 1 not found")));
+        });
+        given(updateOccurrenceCommandHandler.handleAll(anyList())).willAnswer(invocation -> {
+            List<UpdateOccurrenceCommand> commands = invocation.getArgument(0);
+            assertThat(commands).extracting(UpdateOccurrenceCommand::id).containsExactly(7);
+            return List.of(saved(7));
+        });
+
+        // When
+        List<Ack> acks = socket.commit(List.of(
+                CREATE.formatted("a"), UPDATE.formatted("b", 7), "not json", CREATE.formatted("c"))).join();
+
+        // Then
+        assertThat(acks).extracting(Ack::id).containsExactly("a", "b", null, "c");
+        assertThat(acks).extracting(Ack::status).containsExactly(Status.ACCEPTED, Status.ACCEPTED, Status.REJECTED, Status.REJECTED);
+        assertThat(acks).extracting(Ack::occurrenceId).containsExactly(10, 7, null, null);
+        assertThat(acks.get(3).error()).isEqualTo("Address with ID 1 not found");
+    }
+
+    @Test
+    void commit_ShouldRejectInvalidMessages_WithoutTouchingTheDatabase() {
+        // When
+        List<Ack> acks = socket.commit(List.of(
+                "{\"id\":\"a\"}",
+                "{\"id\":\"b\",\"update\":{\"name\":\"Flood\",\"description\":\"x\",\"dateStart\":\"2024-08-10T10:00:00.000Z\",\"intensity\":\"LOW\",\"addressId\":1,\"userId\":1}}",
+                "{\"id\":\"c\",\"create\":{\"name\":\"\",\"description\":\"x\",\"dateStart\":\"2024-08-10T10:00:00.000Z\",\"intensity\":\"LOW\",\"addressId\":1,\"userId\":1}}")).join();
+
+        // Then
+        assertThat(acks).extracting(Ack::status).containsOnly(Status.REJECTED);
+        assertThat(acks.get(0).error()).isEqualTo("Exactly one of create and update must be set");
+        assertThat(acks.get(1).error()).isEqualTo("Occurrence ID is required with update");
+        assertThat(acks.get(2).error()).contains("create.name");
+        then(createOccurrenceCommandHandler).should(never()).handleAll(anyList());
+        then(updateOccurrenceCommandHandler).should(never()).handleAll(anyList());
+    }
+}
@@ -508,13 +508,13 @@ class PoliceDepartmentEndpointsIntegrationTest {
     }
 
     @Test
-    void shouldAllowBasicAuthentication() {
-        // When & Then - Basic authentication
+    void shouldAllowBearerAuthentication() {
+        // When & Then - Bearer token
         webTestClient
                 .get()
                 .uri("/api/v1/police-departments")
                 .accept(MediaType.APPLICATION_JSON)
-                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.bearerToken("testuser")))
                 .exchange()
                 .expectStatus().isOk();
     }
@@ -0,0 +1,157 @@
+package com.clusterat.psa_api.presentation;
+
+import com.clusterat.psa_api.application.interfaces.IAddressRepository;
+import com.clusterat.psa_api.application.interfaces.ICityRepository;
+import com.clusterat.psa_api.application.interfaces.ICountryRepository;
+import com.clusterat.psa_api.application.interfaces.IStateRepository;
+import com.clusterat.psa_api.application.interfaces.IUserRepository;
+import com.clusterat.psa_api.domain.entities.AddressEntity;
+import com.clusterat.psa_api.domain.entities.CityEntity;
+import com.clusterat.psa_api.domain.entities.CountryEntity;
+import com.clusterat.psa_api.domain.entities.OccurrenceEntity;
+import com.clusterat.psa_api.domain.entities.StateEntity;
+import com.clusterat.psa_api.domain.entities.UserEntity;
+import com.clusterat.psa_api.domain.value_objects.Intensity;
+import com.clusterat.psa_api.domain.value_objects.Region;
+import com.clusterat.psa_api.presentation.dto.ExpansionPresentationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceExpanderTest {
+
+    @Mock
+    private IAddressRepository addressRepository;
+
+    @Mock
+    private ICityRepository cityRepository;
+
+    @Mock
+    private IStateRepository stateRepository;
+
+    @Mock
+    private ICountryRepository countryRepository;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @InjectMocks
+    private ResourceExpander resourceExpander;
+
+    private CountryEntity country;
+    private StateEntity state;
+    private CityEntity city;
+    private AddressEntity firstAddress;
+    private AddressEntity secondAddress;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        country = CountryEntity.create("Brazil", "BR", "BRA");
+        country.setId(1);
+        state = StateEntity.create("São Paulo", "SP", Region.SUDESTE, "35", country);
+        state.setId(2);
+        city = CityEntity.create("Campinas", "CPS", "3509502", state);
+        city.setId(3);
+        firstAddress = AddressEntity.create("Rua A", "1", "Apto 1", "Centro", city);
+        firstAddress.setId(4);
+        secondAddress = AddressEntity.create("Rua B", "2", "Apto 2", "Centro", city);
+        secondAddress.setId(5);
+        user = UserEntity.create(12345);
+        user.setId(6);
+    }
+
+    private OccurrenceEntity occurrence(int id, AddressEntity address) {
+        OccurrenceEntity occurrence = OccurrenceEntity.create("Occurrence " + id, "Description", new Date(), null, null, true, Intensity.HIGH, address, user);
+        occurrence.setId(id);
+        return occurrence;
+    }
+
+    @Test
+    void expandOccurrences_ShouldLoadEachLevelOnceWithDistinctIds() {
+        // Given
+        List<OccurrenceEntity> occurrences = List.of(
+                occurrence(10, firstAddress), occurrence(11, secondAddress), occurrence(12, firstAddress));
+        given(addressRepository.GetByIdsAsync(List.of(4, 5)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(firstAddress), Optional.of(secondAddress))));
+        given(cityRepository.GetByIdsAsync(List.of(3)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(city))));
+        given(stateRepository.GetByIdsAsync(List.of(2)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(state))));
+        given(countryRepository.GetByIdsAsync(List.of(1)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(country))));
+        given(userRepository.GetByIdsAsync(List.of(6)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(user))));
+
+        // When
+        List<ExpansionPresentationDTO.ExpandedOccurrence> result = resourceExpander.expandOccurrences(
+                occurrences, Expansion.parse("address.city.state.country,user", Expansion.OCCURRENCE)).join();
+
+        // Then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).occurrence().id()).isEqualTo(10);
+        assertThat(result.get(1).address().address().id()).isEqualTo(5);
+        assertThat(result.get(2).address().address().id()).isEqualTo(4);
+        assertThat(result.get(2).address().city().state().country().isoCode()).isEqualTo("BRA");
+        assertThat(result.get(2).user().cognitoId()).isEqualTo(12345);
+        then(addressRepository).should().GetByIdsAsync(List.of(4, 5));
+        then(cityRepository).should().GetByIdsAsync(List.of(3));
+        then(stateRepository).should().GetByIdsAsync(List.of(2));
+        then(countryRepository).should().GetByIdsAsync(List.of(1));
+        then(userRepository).should().GetByIdsAsync(List.of(6));
+    }
+
+    @Test
+    void expandOccurrences_ShouldOnlyLoadRequestedLevels() {
+        // Given
+        List<OccurrenceEntity> occurrences = List.of(occurrence(10, firstAddress));
+        given(addressRepository.GetByIdsAsync(List.of(4)))
+                .willReturn(CompletableFuture.completedFuture(List.of(Optional.of(firstAddress))));
+
+        // When
+        List<ExpansionPresentationDTO.ExpandedOccurrence> result = resourceExpander.expandOccurrences(
+                occurrences, Expansion.parse("address", Expansion.OCCURRENCE)).join();
+
+        // Then
+        assertThat(result.get(0).address().address().cityId()).isEqualTo(3);
+        assertThat(result.get(0).address().city()).isNull();
+        assertThat(result.get(0).user()).isNull();
+        then(cityRepository).should(never()).GetByIdsAsync(any());
+        then(userRepository).should(never()).GetByIdsAsync(any());
+    }
+
+    @Test
+    void expandCities_ShouldNotQuery_WhenListIsEmpty() {
+        // When
+        List<ExpansionPresentationDTO.ExpandedCity> result = resourceExpander.expandCities(
+                List.of(), Expansion.parse("state.country", Expansion.CITY)).join();
+
+        // Then
+        assertThat(result).isEmpty();
+        then(stateRepository).should(never()).GetByIdsAsync(any());
+    }
+
+    @Test
+    void parse_ShouldRejectUnsupportedPath() {
+        // When / Then
+        assertThatThrownBy(() -> Expansion.parse("address.owner", Expansion.OCCURRENCE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("address.owner");
+    }
+}
@@ -214,14 +214,50 @@ class UserEndpointsIntegrationTest {
     }
 
     @Test
-    void shouldAllowBasicAuthentication() {
-        // When & Then - Basic authentication
+    void shouldAllowBearerAuthentication() {
+        // When & Then - Bearer token
         webTestClient
                 .get()
                 .uri("/api/v1/users")
                 .accept(MediaType.APPLICATION_JSON)
-                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.bearerToken("testuser")))
                 .exchange()
                 .expectStatus().isOk();
     }
+
+    @Test
+    void shouldRejectExpiredBearerToken() {
+        // When & Then - Token past its expiry
+        webTestClient
+                .get()
+                .uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.expiredBearerToken("testuser")))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void shouldRejectBearerTokenSignedWithUnknownKey() {
+        // When & Then - Token signed by a key the decoder does not trust
+        webTestClient
+                .get()
+                .uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBearerAuth(TestSecurityConfig.foreignBearerToken("testuser")))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void shouldRejectBasicAuthentication() {
+        // When & Then - HTTP Basic is no longer accepted
+        webTestClient
+                .get()
+                .uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> headers.setBasicAuth("testuser", "testpassword"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
 }
\ No newline at end of file